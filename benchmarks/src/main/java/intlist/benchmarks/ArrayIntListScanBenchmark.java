@@ -0,0 +1,101 @@
+package intlist.benchmarks;
+
+import intlist.ArrayIntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole-list scans of ArrayIntList. By default these use the
+ * Vector API; to get the plain-loop numbers to compare against, run
+ * {@code gradle :benchmarks:jmh -PjmhArgs="ArrayIntListScanBenchmark -jvmArgsAppend -Dintlist.vector=false"}.
+ *
+ * The searches look for a value that isn't in the list, so every value is
+ * looked at.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayIntListScanBenchmark
+{
+    @Param({"1000", "4000000"})
+    public int size;
+
+    private ArrayIntList list;
+    private ArrayIntList copy;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        //random values that are never negative, so -1 is always missing
+        Random random = new Random(42);
+        int[] values = random.ints(size, 0, Integer.MAX_VALUE).toArray();
+        list = new ArrayIntList(size);
+        list.addAll(values);
+        copy = new ArrayIntList(size);
+        copy.addAll(values);
+    }
+
+    @Benchmark
+    public boolean containsMissing()
+    {
+        return list.contains(-1);
+    }
+
+    @Benchmark
+    public int indexOfMissing()
+    {
+        return list.indexOf(-1);
+    }
+
+    @Benchmark
+    public int lastIndexOfMissing()
+    {
+        return list.lastIndexOf(-1);
+    }
+
+    @Benchmark
+    public int count()
+    {
+        return list.count(-1);
+    }
+
+    @Benchmark
+    public long sum()
+    {
+        return list.sum();
+    }
+
+    @Benchmark
+    public int min()
+    {
+        return list.min();
+    }
+
+    @Benchmark
+    public int max()
+    {
+        return list.max();
+    }
+
+    @Benchmark
+    public boolean equalsCopy()
+    {
+        return list.equals(copy);
+    }
+}
@@ -0,0 +1,108 @@
+package intlist.benchmarks;
+
+import intlist.ConcurrentArrayIntList;
+import intlist.CopyOnWriteIntList;
+import intlist.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the thread-safe lists with several reader threads and one
+ * writer sharing a list. Reader throughput is reported per group, so
+ * running with more reader threads, e.g.
+ * {@code gradle :benchmarks:jmh -PjmhArgs="ConcurrentIntListBenchmark -tg 7,1"},
+ * shows how well reads scale while the writer is busy.
+ *
+ * The writer adds a value to the back and takes it off again, so the list
+ * stays the same size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ConcurrentIntListBenchmark
+{
+    @Param({"ConcurrentArrayIntList", "CopyOnWriteIntList"})
+    public String implementation;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private IntList list;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        list = newList(implementation);
+        for (int i = 0; i < size; i++)
+        {
+            list.addBack(i);
+        }
+    }
+
+    //creates an empty list of the named implementation
+    static IntList newList(String implementation)
+    {
+        switch (implementation)
+        {
+            case "ConcurrentArrayIntList":
+                return new ConcurrentArrayIntList();
+            case "CopyOnWriteIntList":
+                return new CopyOnWriteIntList();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    @Benchmark
+    @Group("getWhileWriting")
+    @GroupThreads(3)
+    public int get()
+    {
+        return list.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("getWhileWriting")
+    @GroupThreads(1)
+    public void writeForGet()
+    {
+        list.addBack(-1);
+        list.removeBack();
+    }
+
+    @Benchmark
+    @Group("containsWhileWriting")
+    @GroupThreads(3)
+    public boolean containsMissing()
+    {
+        //a value that isn't in the list, so the whole list is scanned
+        return list.contains(-2);
+    }
+
+    @Benchmark
+    @Group("containsWhileWriting")
+    @GroupThreads(1)
+    public void writeForContains()
+    {
+        list.addBack(-1);
+        list.removeBack();
+    }
+}
@@ -0,0 +1,79 @@
+package intlist.benchmarks;
+
+import intlist.ArrayIntList;
+import intlist.GapIntList;
+import intlist.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares GapIntList with ArrayIntList on bursts of edits around a cursor
+ * that now and then jumps somewhere else in the list. Each invocation jumps
+ * the cursor, then types and deletes a few values around it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GapIntListBenchmark
+{
+    //edits made at the cursor after each jump
+    private static final int BURST = 32;
+
+    @Param({"GapIntList", "ArrayIntList"})
+    public String implementation;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    //how far the cursor jumps between bursts, at most
+    @Param({"100", "1000000"})
+    public int jump;
+
+    private IntList list;
+    private Random random;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        list = implementation.equals("GapIntList") ? new GapIntList() : new ArrayIntList();
+        list.addAll(IntStream.range(0, size).toArray());
+        random = new Random(42);
+        cursor = size / 2;
+    }
+
+    @Benchmark
+    public int burstAtCursor()
+    {
+        cursor += random.nextInt(2 * jump + 1) - jump;
+        cursor = Math.max(0, Math.min(list.size(), cursor));
+
+        //type a burst, then backspace over it
+        for (int i = 0; i < BURST; i++)
+        {
+            list.add(cursor + i, i);
+        }
+        for (int i = BURST - 1; i >= 0; i--)
+        {
+            list.remove(cursor + i);
+        }
+        return list.size();
+    }
+}
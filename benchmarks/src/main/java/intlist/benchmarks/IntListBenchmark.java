@@ -0,0 +1,266 @@
+package intlist.benchmarks;
+
+import intlist.ArrayDoublyLinkedIntList;
+import intlist.ArrayIntList;
+import intlist.CompressedIntList;
+import intlist.DoublyLinkedIntList;
+import intlist.GapIntList;
+import intlist.IndexableSkipIntList;
+import intlist.IntList;
+import intlist.LinkedIntList;
+import intlist.TreeIntList;
+import intlist.UnrolledIntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Measures every IntList operation for each implementation, over lists from
+ * 10 to 10 million values. Run it with {@code gradle :benchmarks:jmh},
+ * which turns on the GC profiler so each result also shows the bytes
+ * allocated per operation.
+ *
+ * Benchmarks that change the list undo their change in the same operation
+ * (add then remove, and so on) so the list stays the same size from one
+ * operation to the next.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntListBenchmark
+{
+    //number of values inserted and removed by the bulk benchmarks
+    private static final int BATCH_SIZE = 100;
+
+    //number of random indexes the lookup benchmarks cycle through
+    private static final int INDEX_COUNT = 1024;
+
+    @Param({"ArrayIntList", "LinkedIntList", "DoublyLinkedIntList", "CompressedIntList",
+            "UnrolledIntList", "ArrayDoublyLinkedIntList", "TreeIntList", "IndexableSkipIntList", "GapIntList"})
+    public String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private IntList list;
+    private int[] values;
+    private int[] batch;
+    private int[] indexes;
+    private int next;
+    private Summer summer;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        //the list holds 0, 1, 2, ... size - 1
+        values = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            values[i] = i;
+        }
+        list = newList(implementation);
+        list.addAll(values);
+
+        batch = new int[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++)
+        {
+            batch[i] = -i;
+        }
+
+        //fixed seed so every implementation looks up the same positions
+        Random random = new Random(42);
+        indexes = new int[INDEX_COUNT];
+        for (int i = 0; i < INDEX_COUNT; i++)
+        {
+            indexes[i] = random.nextInt(size);
+        }
+        next = 0;
+        summer = new Summer();
+    }
+
+    //creates an empty list of the named implementation
+    static IntList newList(String implementation)
+    {
+        switch (implementation)
+        {
+            case "ArrayIntList":
+                return new ArrayIntList();
+            case "LinkedIntList":
+                return new LinkedIntList();
+            case "DoublyLinkedIntList":
+                return new DoublyLinkedIntList();
+            case "CompressedIntList":
+                return new CompressedIntList();
+            case "UnrolledIntList":
+                return new UnrolledIntList();
+            case "ArrayDoublyLinkedIntList":
+                return new ArrayDoublyLinkedIntList();
+            case "TreeIntList":
+                return new TreeIntList();
+            case "IndexableSkipIntList":
+                return new IndexableSkipIntList();
+            case "GapIntList":
+                return new GapIntList();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    //the next random index to look up
+    private int nextIndex()
+    {
+        int index = indexes[next];
+        next = (next + 1) & (INDEX_COUNT - 1);
+        return index;
+    }
+
+    @Benchmark
+    public void addFrontRemoveFront()
+    {
+        list.addFront(-1);
+        list.removeFront();
+    }
+
+    @Benchmark
+    public void addBackRemoveBack()
+    {
+        list.addBack(-1);
+        list.removeBack();
+    }
+
+    @Benchmark
+    public int addRemoveMiddle()
+    {
+        int middle = size / 2;
+        list.add(middle, -1);
+        return list.remove(middle);
+    }
+
+    @Benchmark
+    public void addAllRemoveRangeMiddle()
+    {
+        int middle = size / 2;
+        list.addAll(middle, batch);
+        list.removeRange(middle, middle + BATCH_SIZE);
+    }
+
+    @Benchmark
+    public void addAllListRemoveRangeBack()
+    {
+        IntList other = newList(implementation);
+        other.addAll(batch);
+        list.addAll(other);
+        list.removeRange(size, size + BATCH_SIZE);
+    }
+
+    @Benchmark
+    public int get()
+    {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public boolean containsMissing()
+    {
+        //a value that isn't in the list, so the whole list is scanned
+        return list.contains(-1);
+    }
+
+    @Benchmark
+    public int indexOfRandom()
+    {
+        return list.indexOf(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public int size()
+    {
+        return list.size();
+    }
+
+    @Benchmark
+    public boolean isEmpty()
+    {
+        return list.isEmpty();
+    }
+
+    @Benchmark
+    public void clearAndRefill()
+    {
+        list.clear();
+        list.addAll(values);
+    }
+
+    @Benchmark
+    public long iterateBoxed()
+    {
+        long sum = 0;
+        for (int value : list)
+        {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iteratePrimitive()
+    {
+        long sum = 0;
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        while (iterator.hasNext())
+        {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEach()
+    {
+        summer.sum = 0;
+        list.forEach(summer);
+        return summer.sum;
+    }
+
+    @Benchmark
+    public long streamSum()
+    {
+        return list.stream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long parallelStreamSum()
+    {
+        return list.parallelStream().asLongStream().sum();
+    }
+
+    //adds up the values handed to it - reused so forEach() doesn't measure
+    //allocating a capturing lambda on every call
+    private static final class Summer implements IntConsumer
+    {
+        long sum;
+
+        @Override
+        public void accept(int value)
+        {
+            sum += value;
+        }
+    }
+}
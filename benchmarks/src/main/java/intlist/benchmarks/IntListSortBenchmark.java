@@ -0,0 +1,121 @@
+package intlist.benchmarks;
+
+import intlist.ArrayIntList;
+import intlist.DoublyLinkedIntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the radix sorts of ArrayIntList with Arrays.sort and
+ * Arrays.parallelSort on a plain int[] holding the same values, and the
+ * node-relinking merge sort of DoublyLinkedIntList at a smaller size.
+ * Every invocation starts from the same unsorted values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class IntListSortBenchmark
+{
+    @Param({"1000000", "20000000"})
+    public int size;
+
+    private int[] values;
+    private int[] array;
+    private ArrayIntList list;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        values = new Random(42).ints(size).toArray();
+        array = new int[size];
+        list = new ArrayIntList(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void unsort()
+    {
+        System.arraycopy(values, 0, array, 0, size);
+        list.clear();
+        list.addAll(values);
+    }
+
+    @Benchmark
+    public int[] arraysSort()
+    {
+        Arrays.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort()
+    {
+        Arrays.parallelSort(array);
+        return array;
+    }
+
+    @Benchmark
+    public ArrayIntList arrayListSort()
+    {
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public ArrayIntList arrayListParallelSort()
+    {
+        list.parallelSort();
+        return list;
+    }
+
+    /**
+     * The linked list's merge sort, kept to a size where the nodes still
+     * fit in a default heap.
+     */
+    @State(Scope.Thread)
+    public static class Linked
+    {
+        @Param({"1000000"})
+        public int linkedSize;
+
+        private int[] values;
+        private DoublyLinkedIntList list;
+
+        @Setup(Level.Trial)
+        public void setUp()
+        {
+            values = new Random(42).ints(linkedSize).toArray();
+            list = new DoublyLinkedIntList();
+        }
+
+        @Setup(Level.Invocation)
+        public void unsort()
+        {
+            list.clear();
+            list.addAll(values);
+        }
+    }
+
+    @Benchmark
+    public DoublyLinkedIntList linkedListSort(Linked state)
+    {
+        state.list.sort();
+        return state.list;
+    }
+}
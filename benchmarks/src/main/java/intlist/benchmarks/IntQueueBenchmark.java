@@ -0,0 +1,153 @@
+package intlist.benchmarks;
+
+import intlist.IntQueue;
+import intlist.MpscArrayIntQueue;
+import intlist.SpscArrayIntQueue;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Measures handing ints from one producer thread to one consumer thread
+ * through each kind of IntQueue, against a synchronized ArrayIntDeque.
+ *
+ * A call can fail (offer on a full queue, poll on an empty one), so the
+ * numbers to read are the "offered" and "polled" counters - successful
+ * transfers per microsecond - rather than the raw call rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class IntQueueBenchmark
+{
+    //values taken per drainTo call
+    private static final int DRAIN_LIMIT = 64;
+
+    @Param({"SpscArrayIntQueue", "MpscArrayIntQueue", "SynchronizedIntQueue"})
+    public String implementation;
+
+    @Param({"1024"})
+    public int capacity;
+
+    private IntQueue queue;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        //a fresh queue each iteration, so one doesn't start out full
+        queue = newQueue(implementation, capacity);
+    }
+
+    //creates an empty queue of the named implementation
+    static IntQueue newQueue(String implementation, int capacity)
+    {
+        switch (implementation)
+        {
+            case "SpscArrayIntQueue":
+                return new SpscArrayIntQueue(capacity);
+            case "MpscArrayIntQueue":
+                return new MpscArrayIntQueue(capacity);
+            case "SynchronizedIntQueue":
+                return new SynchronizedIntQueue(capacity);
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    @Benchmark
+    @Group("offerPoll")
+    @GroupThreads(1)
+    public void offer(Counters counters)
+    {
+        counters.record(queue.offer(1));
+    }
+
+    @Benchmark
+    @Group("offerPoll")
+    @GroupThreads(1)
+    public void poll(Counters counters)
+    {
+        if (!queue.poll(counters))
+        {
+            counters.pollsFailed++;
+        }
+    }
+
+    @Benchmark
+    @Group("offerDrain")
+    @GroupThreads(1)
+    public void offerForDrain(Counters counters)
+    {
+        counters.record(queue.offer(1));
+    }
+
+    @Benchmark
+    @Group("offerDrain")
+    @GroupThreads(1)
+    public void drain(Counters counters)
+    {
+        int taken = queue.drainTo(counters, DRAIN_LIMIT);
+        if (taken == 0)
+        {
+            counters.pollsFailed++;
+        }
+    }
+
+    //per-thread tallies of successful and failed calls, reported by JMH
+    //next to the main score. Every value offered is 1, so adding up the
+    //values polled counts them
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters implements IntConsumer
+    {
+        public long offered;
+        public long offersFailed;
+        public long polled;
+        public long pollsFailed;
+
+        @Setup(Level.Iteration)
+        public void reset()
+        {
+            offered = 0;
+            offersFailed = 0;
+            polled = 0;
+            pollsFailed = 0;
+        }
+
+        void record(boolean added)
+        {
+            if (added)
+            {
+                offered++;
+            }
+            else
+            {
+                offersFailed++;
+            }
+        }
+
+        @Override
+        public void accept(int value)
+        {
+            polled += value;
+        }
+    }
+}
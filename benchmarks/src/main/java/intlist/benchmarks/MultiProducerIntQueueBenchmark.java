@@ -0,0 +1,70 @@
+package intlist.benchmarks;
+
+import intlist.IntQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Like {@link IntQueueBenchmark}, but with three producer threads sharing
+ * the queue, so only the queues that allow several producers take part.
+ * The producer count can be changed with -tg, e.g. {@code -tg 7,1}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class MultiProducerIntQueueBenchmark
+{
+    //values taken per drainTo call
+    private static final int DRAIN_LIMIT = 64;
+
+    @Param({"MpscArrayIntQueue", "SynchronizedIntQueue"})
+    public String implementation;
+
+    @Param({"1024"})
+    public int capacity;
+
+    private IntQueue queue;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        queue = IntQueueBenchmark.newQueue(implementation, capacity);
+    }
+
+    @Benchmark
+    @Group("offerDrain")
+    @GroupThreads(3)
+    public void offer(IntQueueBenchmark.Counters counters)
+    {
+        counters.record(queue.offer(1));
+    }
+
+    @Benchmark
+    @Group("offerDrain")
+    @GroupThreads(1)
+    public void drain(IntQueueBenchmark.Counters counters)
+    {
+        int taken = queue.drainTo(counters, DRAIN_LIMIT);
+        if (taken == 0)
+        {
+            counters.pollsFailed++;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package intlist.benchmarks;
+
+import intlist.ArrayIntList;
+import intlist.PersistentIntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares making a changed version of a list with PersistentIntList
+ * against copying an ArrayIntList and changing the copy, which is what
+ * handing out versions of a mutable list costs. Run with
+ * {@code -prof gc} to see the bytes allocated per version as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistentIntListBenchmark
+{
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private PersistentIntList persistent;
+    private PersistentIntList other;
+    private ArrayIntList array;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        int[] values = IntStream.range(0, size).toArray();
+        persistent = PersistentIntList.of(values);
+        other = PersistentIntList.of(values);
+        array = new ArrayIntList(size);
+        array.addAll(values);
+        random = new Random(42);
+    }
+
+    @Benchmark
+    public PersistentIntList persistentWith()
+    {
+        return persistent.with(random.nextInt(size), -1);
+    }
+
+    @Benchmark
+    public ArrayIntList copyAndChange()
+    {
+        ArrayIntList copy = new ArrayIntList(size);
+        copy.addAll(array);
+        copy.remove(random.nextInt(size));
+        return copy;
+    }
+
+    @Benchmark
+    public PersistentIntList persistentPlus()
+    {
+        return persistent.plus(1);
+    }
+
+    @Benchmark
+    public PersistentIntList persistentConcat()
+    {
+        return persistent.concat(other);
+    }
+
+    @Benchmark
+    public PersistentIntList persistentSubList()
+    {
+        int from = random.nextInt(size);
+        return persistent.subList(from, from + random.nextInt(size - from + 1));
+    }
+
+    @Benchmark
+    public int persistentGet()
+    {
+        return persistent.get(random.nextInt(size));
+    }
+
+    @Benchmark
+    public PersistentIntList build()
+    {
+        PersistentIntList.Builder builder = PersistentIntList.builder();
+        for (int i = 0; i < size; i++)
+        {
+            builder.add(i);
+        }
+        return builder.build();
+    }
+}
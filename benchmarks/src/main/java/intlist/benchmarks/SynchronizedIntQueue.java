@@ -0,0 +1,89 @@
+package intlist.benchmarks;
+
+import intlist.ArrayIntDeque;
+import intlist.IntQueue;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * The baseline the lock-free queues are measured against: a bounded queue
+ * made the usual hand-rolled way, from an ArrayIntDeque guarded by
+ * synchronized blocks.
+ */
+final class SynchronizedIntQueue implements IntQueue
+{
+    private final ArrayIntDeque deque;
+    private final int capacity;
+
+    SynchronizedIntQueue(int capacity)
+    {
+        this.deque = new ArrayIntDeque(capacity);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized boolean offer(int value)
+    {
+        if (deque.size() >= capacity)
+        {
+            return false;
+        }
+        deque.addBack(value);
+        return true;
+    }
+
+    @Override
+    public boolean poll(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        int value;
+        synchronized (this)
+        {
+            if (deque.isEmpty())
+            {
+                return false;
+            }
+            value = deque.popFront();
+        }
+        action.accept(value);
+        return true;
+    }
+
+    @Override
+    public synchronized int poll()
+    {
+        return deque.popFront();
+    }
+
+    @Override
+    public synchronized int drainTo(IntConsumer action, int limit)
+    {
+        Objects.requireNonNull(action);
+        int taken = 0;
+        while (taken < limit && !deque.isEmpty())
+        {
+            action.accept(deque.popFront());
+            taken++;
+        }
+        return taken;
+    }
+
+    @Override
+    public synchronized boolean isEmpty()
+    {
+        return deque.isEmpty();
+    }
+
+    @Override
+    public synchronized int size()
+    {
+        return deque.size();
+    }
+
+    @Override
+    public int capacity()
+    {
+        return capacity;
+    }
+}
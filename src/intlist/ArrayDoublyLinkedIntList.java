@@ -0,0 +1,757 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * A doubly linked list without any node objects. Each "node" is a slot in
+ * three parallel arrays - data, next and prev - and the links are slot
+ * numbers instead of references. That is 12 bytes per value instead of a
+ * 32 byte Node, and nothing for the garbage collector to trace.
+ *
+ * Slots freed by removals go onto a free list (chained through the next
+ * array) and are handed out again by the next add, so a list whose size
+ * stays about the same allocates nothing once it is warmed up. Adding and
+ * removing at either end is constant time, and so is removing through an
+ * iterator with Iterator.remove().
+ *
+ * After a lot of churn the slots of neighbouring values end up scattered
+ * around the arrays. compact() lays them out in order again, which makes
+ * traversal sequential in memory and trims off unused room.
+ */
+public class ArrayDoublyLinkedIntList implements IntDeque
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NIL = -1;     //"null" link
+
+    // the nodes - slot i holds data[i], linked to next[i] and prev[i]
+    private int[] data;
+    private int[] next;
+    private int[] prev;
+
+    private int head;
+    private int tail;
+    private int size;
+
+    private int free;       //first slot on the free list, chained through next[]
+    private int used;       //slots from here up have never been handed out
+
+    public ArrayDoublyLinkedIntList()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with room for initialCapacity values before the
+     * arrays have to grow.
+     *
+     * @param initialCapacity the starting length of the arrays
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public ArrayDoublyLinkedIntList(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+
+        //initialize my fields
+        data = new int[initialCapacity];
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        free = NIL;
+        used = 0;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        linkBefore(head, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        linkBefore(NIL, value);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        linkBefore(index == size ? NIL : slotAt(index), value);
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        addAll(size, values);
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+
+        //grow once up front, then link each value in front of the same slot
+        ensureCapacity(size + values.length);
+        int successor = index == size ? NIL : slotAt(index);
+        for (int value : values)
+        {
+            linkBefore(successor, value);
+        }
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        if (other == this)
+        {
+            //take a copy first, or we would keep reading what we just added
+            addAll(other.stream().toArray());
+            return;
+        }
+        ensureCapacity(size + other.size());
+        other.forEach((int value) -> addBack(value));
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (head != NIL)
+        {
+            unlink(head);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (tail != NIL)
+        {
+            unlink(tail);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        checkIndex(index);
+        int slot = slotAt(index);
+        int value = data[slot];
+        unlink(slot);
+        return value;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is
+     * greater than size(), or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        if (fromIndex == toIndex)
+        {
+            return;
+        }
+
+        //walk to the first one, then unlink the run one slot at a time
+        int slot = slotAt(fromIndex);
+        for (int i = fromIndex; i < toIndex; i++)
+        {
+            int following = next[slot];
+            unlink(slot);
+            slot = following;
+        }
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        checkIndex(index);
+        return data[slotAt(index)];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        int index = 0;
+        for (int slot = head; slot != NIL; slot = next[slot])
+        {
+            if (data[slot] == value)
+            {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns. The arrays are kept,
+     * so refilling the list doesn't allocate.
+     */
+    @Override
+    public void clear()
+    {
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        free = NIL;
+        used = 0;
+    }
+
+    /**
+     * Returns the value at the front of the list (at index 0).
+     *
+     * @return the value at the front of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int peekFront()
+    {
+        if (head == NIL)
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return data[head];
+    }
+
+    /**
+     * Returns the value at the back of the list (at index size()-1).
+     *
+     * @return the value at the back of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int peekBack()
+    {
+        if (tail == NIL)
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return data[tail];
+    }
+
+    /**
+     * Removes the value at the front of the list (at index 0) and returns it.
+     * Shifts any subsequent values to the left.
+     *
+     * @return the value that was at the front of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int popFront()
+    {
+        int value = peekFront();
+        unlink(head);
+        return value;
+    }
+
+    /**
+     * Removes the value at the back of the list (at index size()-1) and returns it.
+     *
+     * @return the value that was at the back of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int popBack()
+    {
+        int value = peekBack();
+        unlink(tail);
+        return value;
+    }
+
+    /**
+     * Makes sure the arrays can hold at least minCapacity values without
+     * growing again, growing them once if they can't.
+     *
+     * @param minCapacity the number of values the list should be able to hold
+     */
+    public void ensureCapacity(int minCapacity)
+    {
+        //free slots and never-used slots both count, so every slot not holding a value is spare
+        if (minCapacity > data.length)
+        {
+            int newCapacity = GrowthPolicy.doubling().newCapacity(data.length, minCapacity);
+            resize(Math.max(newCapacity, minCapacity));
+        }
+    }
+
+    /**
+     * Returns the number of values the list can hold before its arrays have to grow.
+     *
+     * @return the length of the arrays
+     */
+    public int capacity()
+    {
+        return data.length;
+    }
+
+    /**
+     * Moves the values into slots 0 to size()-1, in list order, and shrinks
+     * the arrays to fit (but not below the default capacity). Afterwards
+     * walking the list reads the arrays front to back, and the free list is
+     * empty. This allocates new arrays, so call it between bursts of work
+     * rather than in the middle of one.
+     */
+    public void compact()
+    {
+        int capacity = Math.max(size, DEFAULT_CAPACITY);
+        int[] newData = new int[capacity];
+        int[] newNext = new int[capacity];
+        int[] newPrev = new int[capacity];
+
+        int i = 0;
+        for (int slot = head; slot != NIL; slot = next[slot])
+        {
+            newData[i] = data[slot];
+            newNext[i] = i + 1;
+            newPrev[i] = i - 1;
+            i++;
+        }
+
+        data = newData;
+        next = newNext;
+        prev = newPrev;
+        head = size == 0 ? NIL : 0;
+        tail = size == 0 ? NIL : size - 1;
+        if (size > 0)
+        {
+            next[tail] = NIL;
+        }
+        free = NIL;
+        used = size;
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+    }
+
+    //finds the slot holding index (0 <= index < size), walking from the nearer end
+    private int slotAt(int index)
+    {
+        int slot;
+        if (index < size / 2)
+        {
+            slot = head;
+            for (int i = 0; i < index; i++)
+            {
+                slot = next[slot];
+            }
+        }
+        else
+        {
+            slot = tail;
+            for (int i = size - 1; i > index; i--)
+            {
+                slot = prev[slot];
+            }
+        }
+        return slot;
+    }
+
+    //takes a slot off the free list, or a fresh one off the end of the arrays
+    private int allocate()
+    {
+        if (free != NIL)
+        {
+            int slot = free;
+            free = next[slot];
+            return slot;
+        }
+        if (used == data.length)
+        {
+            resize(Math.max(GrowthPolicy.doubling().newCapacity(data.length, used + 1), used + 1));
+        }
+        int slot = used;
+        used++;
+        return slot;
+    }
+
+    private void resize(int newCapacity)
+    {
+        data = Arrays.copyOf(data, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+        prev = Arrays.copyOf(prev, newCapacity);
+    }
+
+    //links a new slot holding value in front of successor (NIL means at the back)
+    private void linkBefore(int successor, int value)
+    {
+        int slot = allocate();
+        int predecessor = successor == NIL ? tail : prev[successor];
+        data[slot] = value;
+        next[slot] = successor;
+        prev[slot] = predecessor;
+
+        if (predecessor == NIL)
+        {
+            head = slot;
+        }
+        else
+        {
+            next[predecessor] = slot;
+        }
+        if (successor == NIL)
+        {
+            tail = slot;
+        }
+        else
+        {
+            prev[successor] = slot;
+        }
+        size++;
+    }
+
+    //takes the slot out of the list and pushes it onto the free list
+    private void unlink(int slot)
+    {
+        int predecessor = prev[slot];
+        int successor = next[slot];
+        if (predecessor == NIL)
+        {
+            head = successor;
+        }
+        else
+        {
+            next[predecessor] = successor;
+        }
+        if (successor == NIL)
+        {
+            tail = predecessor;
+        }
+        else
+        {
+            prev[successor] = predecessor;
+        }
+
+        data[slot] = 0;
+        prev[slot] = NIL;
+        next[slot] = free;
+        free = slot;
+        size--;
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}. Its remove()
+     * takes out the last value returned in constant time.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new SlotIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints. Its remove() takes out the last
+     * value returned in constant time.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new SlotIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        for (int slot = head; slot != NIL; slot = next[slot])
+        {
+            action.accept(data[slot]);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. It splits off
+     * growing batches of values copied into an array, and knows how many
+     * values are left.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return new SlotSpliterator();
+    }
+
+    //helper iterator class - follows the next links, and remembers the last
+    //slot it handed out so remove() can unlink it straight away
+    private class SlotIterator implements PrimitiveIterator.OfInt {
+        private int current;
+        private int lastReturned;
+
+        public SlotIterator()
+        {
+            current = head;
+            lastReturned = NIL;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return current != NIL;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (current == NIL)
+            {
+                throw new NoSuchElementException("There is no next one to go to!!");
+            }
+            lastReturned = current;
+            current = next[current];
+            return data[lastReturned];
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+
+        @Override
+        public void remove()
+        {
+            if (lastReturned == NIL)
+            {
+                throw new IllegalStateException("nextInt() has not been called since the last remove()");
+            }
+            unlink(lastReturned);
+            lastReturned = NIL;
+        }
+    }
+
+    //helper class that lets streams walk the slots, splitting off
+    //batches of values for other threads to work on
+    private class SlotSpliterator implements Spliterator.OfInt {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private int current;
+        private int remaining;
+        private int batch;      //size of the last batch that was split off
+
+        public SlotSpliterator()
+        {
+            current = head;
+            remaining = size;
+            batch = 0;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit()
+        {
+            if (remaining <= 1)
+            {
+                return null;
+            }
+
+            //each batch is a bit bigger than the last one
+            int batchSize = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            int[] values = new int[batchSize];
+            for (int i = 0; i < batchSize; i++)
+            {
+                values[i] = data[current];
+                current = next[current];
+            }
+            remaining -= batchSize;
+            batch = batchSize;
+            return Spliterators.spliterator(values, 0, batchSize, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            if (remaining == 0)
+            {
+                return false;
+            }
+            action.accept(data[current]);
+            current = next[current];
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            while (remaining > 0)
+            {
+                action.accept(data[current]);
+                current = next[current];
+                remaining--;
+            }
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL;
+        }
+    }
+}
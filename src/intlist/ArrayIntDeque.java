@@ -0,0 +1,679 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * An IntDeque that stores its values in a circular buffer. The front of the
+ * list can sit anywhere in the buffer and the values wrap around the end of
+ * it, so adding and removing at either end never shifts anything. Inserts
+ * and removals in the middle shift whichever side of the list is shorter.
+ */
+public class ArrayIntDeque implements IntDeque
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private int[] buffer;   //length is always a power of two
+    private int head;       //position in the buffer of the value at index 0
+    private int size;
+
+    public ArrayIntDeque()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty deque that can hold at least initialCapacity values
+     * before it has to grow. The capacity is rounded up to a power of two.
+     *
+     * @param initialCapacity the smallest starting length of the buffer
+     * @throws IllegalArgumentException if initialCapacity is negative or too big
+     */
+    public ArrayIntDeque(int initialCapacity)
+    {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY)
+        {
+            throw new IllegalArgumentException("Initial capacity is out of range");
+        }
+
+        //initialize my fields
+        buffer = new int[powerOfTwoAtLeast(initialCapacity)];
+        head = 0;
+        size = 0;
+    }
+
+    //rounds n up to the next power of two (at least 1)
+    private static int powerOfTwoAtLeast(int n)
+    {
+        int capacity = 1;
+        while (capacity < n)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    //turns an index in the list into a position in the buffer - since the
+    //length is a power of two, masking with length - 1 wraps it around
+    private int slot(int index)
+    {
+        return (head + index) & (buffer.length - 1);
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        ensureCapacity(size + 1);
+
+        //step the head back one slot (wrapping around) instead of shifting
+        head = (head - 1) & (buffer.length - 1);
+        buffer[head] = value;
+        size++;
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        ensureCapacity(size + 1);
+        buffer[slot(size)] = value;
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        ensureCapacity(size + 1);
+
+        if (index < size - index)
+        {
+            //fewer values in front of index, so move those one slot toward the front
+            head = (head - 1) & (buffer.length - 1);
+            for (int i = 0; i < index; i++)
+            {
+                buffer[slot(i)] = buffer[slot(i + 1)];
+            }
+        }
+        else
+        {
+            //fewer values behind index, so move those one slot toward the back
+            for (int i = size; i > index; i--)
+            {
+                buffer[slot(i)] = buffer[slot(i - 1)];
+            }
+        }
+        buffer[slot(index)] = value;
+        size++;
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        addAll(size, values);
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        int count = values.length;
+        ensureCapacity(size + count);
+
+        //open up a gap of count slots by moving the shorter side out of the way
+        if (index < size - index)
+        {
+            head = (head - count) & (buffer.length - 1);
+            for (int i = 0; i < index; i++)
+            {
+                buffer[slot(i)] = buffer[slot(i + count)];
+            }
+        }
+        else
+        {
+            for (int i = size - 1; i >= index; i--)
+            {
+                buffer[slot(i + count)] = buffer[slot(i)];
+            }
+        }
+
+        //then fill the gap
+        for (int i = 0; i < count; i++)
+        {
+            buffer[slot(index + i)] = values[i];
+        }
+        size += count;
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        if (other == this)
+        {
+            //take a copy first, or we would keep reading what we just added
+            addAll(other.stream().toArray());
+            return;
+        }
+        ensureCapacity(size + other.size());
+        other.forEach((int value) -> addBack(value));
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (!isEmpty())
+        {
+            //clear out the old front and step the head forward
+            buffer[head] = 0;
+            head = (head + 1) & (buffer.length - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (!isEmpty())
+        {
+            buffer[slot(size - 1)] = 0;
+            size--;
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        checkIndex(index);
+        int removedValue = buffer[slot(index)];
+
+        if (index < size - index)
+        {
+            //close the hole by moving the values in front of it back one slot
+            for (int i = index; i > 0; i--)
+            {
+                buffer[slot(i)] = buffer[slot(i - 1)];
+            }
+            buffer[head] = 0;
+            head = (head + 1) & (buffer.length - 1);
+        }
+        else
+        {
+            //close the hole by moving the values behind it up one slot
+            for (int i = index; i < size - 1; i++)
+            {
+                buffer[slot(i)] = buffer[slot(i + 1)];
+            }
+            buffer[slot(size - 1)] = 0;
+        }
+        size--;
+
+        return removedValue;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if the range is out of range
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        int count = toIndex - fromIndex;
+
+        if (fromIndex < size - toIndex)
+        {
+            //slide the values in front of the range back over it
+            for (int i = fromIndex - 1; i >= 0; i--)
+            {
+                buffer[slot(i + count)] = buffer[slot(i)];
+            }
+            for (int i = 0; i < count; i++)
+            {
+                buffer[slot(i)] = 0;
+            }
+            head = (head + count) & (buffer.length - 1);
+        }
+        else
+        {
+            //slide the values behind the range up over it
+            for (int i = toIndex; i < size; i++)
+            {
+                buffer[slot(i - count)] = buffer[slot(i)];
+            }
+            for (int i = size - count; i < size; i++)
+            {
+                buffer[slot(i)] = 0;
+            }
+        }
+        size -= count;
+    }
+
+    /**
+     * Returns the value at the front of the list (at index 0).
+     *
+     * @return the value at the front of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int peekFront()
+    {
+        if (isEmpty())
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return buffer[head];
+    }
+
+    /**
+     * Returns the value at the back of the list (at index size()-1).
+     *
+     * @return the value at the back of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int peekBack()
+    {
+        if (isEmpty())
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return buffer[slot(size - 1)];
+    }
+
+    /**
+     * Removes the value at the front of the list (at index 0) and returns it.
+     * Shifts any subsequent values to the left.
+     *
+     * @return the value that was at the front of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int popFront()
+    {
+        int value = peekFront();
+        removeFront();
+        return value;
+    }
+
+    /**
+     * Removes the value at the back of the list (at index size()-1) and returns it.
+     *
+     * @return the value that was at the back of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int popBack()
+    {
+        int value = peekBack();
+        removeBack();
+        return value;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        checkIndex(index);
+        return buffer[slot(index)];
+    }
+
+    /**
+     * Replaces the value at the specified position in the list.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void set(int index, int value)
+    {
+        checkIndex(index);
+        buffer[slot(index)] = value;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            if (buffer[slot(i)] == value)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear()
+    {
+        Arrays.fill(buffer, 0);
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Makes sure the buffer can hold at least minCapacity values without
+     * growing again, doubling it as many times as needed if it can't.
+     *
+     * @param minCapacity the number of values the deque should be able to hold
+     * @throws IllegalStateException if minCapacity is more than the deque can hold
+     */
+    public void ensureCapacity(int minCapacity)
+    {
+        if (minCapacity <= buffer.length)
+        {
+            return;
+        }
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY)
+        {
+            throw new IllegalStateException("The deque is too big to grow");
+        }
+
+        //unwrap the values into the new buffer, so the front ends up at slot 0
+        int[] newBuffer = new int[powerOfTwoAtLeast(minCapacity)];
+        int firstPart = Math.min(size, buffer.length - head);
+        System.arraycopy(buffer, head, newBuffer, 0, firstPart);
+        System.arraycopy(buffer, 0, newBuffer, firstPart, size - firstPart);
+
+        buffer = newBuffer;
+        head = 0;
+    }
+
+    //throws if index is not the index of a value in the list
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new DequeIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new DequeIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < size; i++)
+        {
+            action.accept(buffer[slot(i)]);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. It splits by
+     * halving its index range, just like ArrayIntList.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return new DequeSpliterator(0, -1);
+    }
+
+    //helper iterator class - walks the indexes and wraps them into the buffer
+    private class DequeIterator implements PrimitiveIterator.OfInt {
+        private int i;
+
+        public DequeIterator()
+        {
+            i = 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return i < size;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (i >= size)
+            {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            int currentValue = buffer[slot(i)];
+            i++;
+
+            return currentValue;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+    }
+
+    //helper class that lets streams walk (and split up) the deque by index
+    private class DequeSpliterator implements Spliterator.OfInt {
+        private int index;      //next index to hand out
+        private int fence;      //one past the last index, -1 until first used
+
+        public DequeSpliterator(int origin, int fence)
+        {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence()
+        {
+            if (fence < 0)
+            {
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit()
+        {
+            int low = index;
+            int middle = (low + getFence()) >>> 1;
+            if (low >= middle)
+            {
+                return null;
+            }
+            index = middle;
+            return new DequeSpliterator(low, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            if (index < getFence())
+            {
+                action.accept(buffer[slot(index)]);
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            int end = getFence();
+            for (int i = index; i < end; i++)
+            {
+                action.accept(buffer[slot(i)]);
+            }
+            index = end;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,1014 @@
+package intlist;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+public class ArrayIntList implements IntList
+{
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int size;
+    private int[] buffer;
+
+    //how the buffer grows, and the size it starts at (and can shrink back to)
+    private final GrowthPolicy growthPolicy;
+    private final int initialCapacity;
+
+    //shrink the buffer when it is less than this fraction full (0 means never)
+    private double shrinkThreshold;
+
+    //optional value -> first index table for contains/indexOf (null when off),
+    //and whether values have moved since it was last brought up to date
+    private IntHashIndex valueIndex;
+    private boolean valueIndexStale;
+
+    public ArrayIntList()
+    {
+        this(DEFAULT_CAPACITY, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Creates an empty list that can hold initialCapacity values before it
+     * has to grow. Use this when you know roughly how big the list will get.
+     *
+     * @param initialCapacity the starting length of the buffer
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public ArrayIntList(int initialCapacity)
+    {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Creates an empty list that can hold initialCapacity values and grows
+     * according to the given policy when it runs out of room.
+     *
+     * @param initialCapacity the starting length of the buffer
+     * @param growthPolicy decides how big the buffer becomes when it grows
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public ArrayIntList(int initialCapacity, GrowthPolicy growthPolicy)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+
+        //initialize my fields
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        this.initialCapacity = initialCapacity;
+        size = 0;
+        buffer = new int[initialCapacity];
+        shrinkThreshold = 0;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        ensureCapacity(size + 1);
+
+        //shift everything over to the right by one in a single block move
+        System.arraycopy(buffer, 0, buffer, 1, size);
+
+        // put the value at the front of the array at position 0
+        buffer[0] = value;
+        size++;
+        valuesShifted();
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        //check to see if we are full - if so, we need to create a larger buffer
+        if (size == buffer.length)
+        {
+            ensureCapacity(size + 1);
+        }
+
+        buffer[size] = value;
+        size += 1;
+        valuesAppended(size - 1);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        ensureCapacity(size + 1);
+
+        //open up a slot at index by shifting the rest of the values right
+        System.arraycopy(buffer, index, buffer, index + 1, size - index);
+        buffer[index] = value;
+        size++;
+        valuesShifted();
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (!isEmpty()) {
+            //shift everything to the left by one in a single block move
+            System.arraycopy(buffer, 1, buffer, 0, size - 1);
+
+            //optional, but a good idea - since we shifted everything to the left by 1
+            // we want to clear out the right-most value to be zero
+            buffer[size - 1] = 0;
+            
+            size--;
+            valuesShifted();
+            shrinkIfSparse();
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (!isEmpty()) {
+            valueRemovedFromBack();
+            buffer[size - 1] = 0;
+            size--;
+            shrinkIfSparse();
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        //first, check the index to see if it is valid
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+
+        //save a copy of the value to be removed so we can return it later
+        int copyOfRemovedValue = buffer[index];
+
+        //shift values to the left
+        System.arraycopy(buffer, index + 1, buffer, index, size - index - 1);
+
+        //reassign the last value of the size to 0
+        buffer[size - 1] = 0;
+
+        //don't forget to decrement size
+        size--;
+        valuesShifted();
+        shrinkIfSparse();
+
+        return copyOfRemovedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        return buffer[index];
+    }
+
+    /**
+     * Replaces the value at the specified position in the list.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void set(int index, int value)
+    {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+
+        //overwrite the slot in place - nothing else moves
+        buffer[index] = value;
+        valuesShifted();
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     * Scans with SIMD instructions when the Vector API is available.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Scans with SIMD instructions when the Vector API is available.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        if (isEmpty())
+        {
+            return -1;
+        }
+
+        //with the value index turned on, it is a hash lookup instead of a scan
+        if (valueIndex != null)
+        {
+            refreshValueIndex();
+            return valueIndex.get(value);
+        }
+
+        //run through the array, a vector register at a time if we can
+        return IntScans.indexOf(buffer, 0, size, value);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Scans from the back, with SIMD instructions when the Vector API is available.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    public int lastIndexOf(int value)
+    {
+        return IntScans.lastIndexOf(buffer, 0, size, value);
+    }
+
+    /**
+     * Returns how many times the specified value occurs in this list.
+     *
+     * @param value value to count
+     * @return the number of values in this list equal to value
+     */
+    public int count(int value)
+    {
+        return IntScans.count(buffer, 0, size, value);
+    }
+
+    /**
+     * Returns the sum of the values in this list, or 0 if it is empty.
+     * The sum is a long, so it can't overflow.
+     *
+     * @return the sum of the values in this list
+     */
+    public long sum()
+    {
+        return IntScans.sum(buffer, 0, size);
+    }
+
+    /**
+     * Returns the smallest value in this list.
+     *
+     * @return the smallest value in this list
+     * @throws NoSuchElementException if the list is empty
+     */
+    public int min()
+    {
+        if (isEmpty())
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return IntScans.min(buffer, 0, size);
+    }
+
+    /**
+     * Returns the biggest value in this list.
+     *
+     * @return the biggest value in this list
+     * @throws NoSuchElementException if the list is empty
+     */
+    public int max()
+    {
+        if (isEmpty())
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return IntScans.max(buffer, 0, size);
+    }
+
+    /**
+     * Returns true if the other object is an ArrayIntList holding the same
+     * values in the same order. The buffers are compared with
+     * Arrays.equals, which the JIT already turns into vector instructions.
+     *
+     * @param other object to compare this list with
+     * @return true if other is an ArrayIntList equal to this one
+     */
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof ArrayIntList))
+        {
+            return false;
+        }
+        ArrayIntList otherList = (ArrayIntList) other;
+        return Arrays.equals(buffer, 0, size, otherList.buffer, 0, otherList.size);
+    }
+
+    /**
+     * Returns a hash code for this list, worked out from its values the same
+     * way as Arrays.hashCode, so equal lists have equal hash codes.
+     *
+     * @return a hash code for this list
+     */
+    @Override
+    public int hashCode()
+    {
+        int hash = 1;
+        for (int i = 0; i < size; i++)
+        {
+            hash = 31 * hash + buffer[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     * The buffer keeps its capacity (including any room reserved with
+     * ensureCapacity), so refilling the list doesn't have to grow it again -
+     * call trimToSize() afterwards to give the memory back.
+     */
+    @Override
+    public void clear()
+    {
+        Arrays.fill(buffer, 0, size, 0);
+        size = 0;
+        if (valueIndex != null)
+        {
+            valueIndex.clear(0);
+            valueIndexStale = false;
+        }
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        addAll(size, values);
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+
+        //one capacity check for the whole batch
+        ensureCapacity(size + values.length);
+
+        //one block move to open up the gap, one to fill it
+        System.arraycopy(buffer, index, buffer, index + values.length, size - index);
+        System.arraycopy(values, 0, buffer, index, values.length);
+        size += values.length;
+        if (index == size - values.length)
+        {
+            valuesAppended(index);
+        }
+        else
+        {
+            valuesShifted();
+        }
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        if (other instanceof ArrayIntList)
+        {
+            //copy straight out of the other buffer
+            ArrayIntList otherList = (ArrayIntList) other;
+            int count = otherList.size;
+            ensureCapacity(size + count);
+            System.arraycopy(otherList.buffer, 0, buffer, size, count);
+            size += count;
+            valuesAppended(size - count);
+        }
+        else
+        {
+            ensureCapacity(size + other.size());
+            other.forEach((int value) -> addBack(value));
+        }
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if the range is out of range
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+
+        //slide the tail end of the list down over the removed values
+        int count = toIndex - fromIndex;
+        System.arraycopy(buffer, toIndex, buffer, fromIndex, size - toIndex);
+
+        //clear out the values left over at the end
+        Arrays.fill(buffer, size - count, size, 0);
+        size -= count;
+        valuesShifted();
+        shrinkIfSparse();
+    }
+
+    /**
+     * Makes sure the buffer can hold at least minCapacity values without
+     * growing again, growing it once (using the growth policy) if it can't.
+     * Calling this before adding a known number of values avoids the
+     * copies that growing a little at a time would cost.
+     *
+     * @param minCapacity the number of values the list should be able to hold
+     */
+    public void ensureCapacity(int minCapacity)
+    {
+        if (minCapacity > buffer.length)
+        {
+            resize(grownCapacity(minCapacity));
+        }
+    }
+
+    //the capacity the growth policy picks to fit minCapacity values
+    private int grownCapacity(int minCapacity)
+    {
+        int newCapacity = growthPolicy.newCapacity(buffer.length, minCapacity);
+
+        //the policy might not grow enough (or might overflow)
+        if (newCapacity < minCapacity)
+        {
+            newCapacity = minCapacity;
+        }
+        return newCapacity;
+    }
+
+    /**
+     * Shrinks the buffer so that it is exactly as long as the list,
+     * handing any unused memory back to the garbage collector.
+     */
+    public void trimToSize()
+    {
+        if (size < buffer.length)
+        {
+            resize(size);
+        }
+    }
+
+    /**
+     * Returns the number of values the list can hold before it has to grow.
+     *
+     * @return the length of the buffer
+     */
+    public int capacity()
+    {
+        return buffer.length;
+    }
+
+    /**
+     * Turns on shrinking after removals. Whenever a removal leaves the buffer
+     * less than the given fraction full, the buffer is cut in half (but never
+     * below the initial capacity). A threshold of 0.25 is a good choice; 0
+     * turns shrinking off, which is the default.
+     *
+     * @param shrinkThreshold fraction of the buffer, from 0 to 0.5
+     * @throws IllegalArgumentException if the threshold is outside 0 to 0.5
+     */
+    public void setShrinkThreshold(double shrinkThreshold)
+    {
+        //above one half, a halved buffer could be full straight away
+        if (!(shrinkThreshold >= 0 && shrinkThreshold <= 0.5))
+        {
+            throw new IllegalArgumentException("Shrink threshold must be between 0 and 0.5");
+        }
+        this.shrinkThreshold = shrinkThreshold;
+    }
+
+    //called after every removal - gives back half the buffer if it has
+    //gotten too empty
+    private void shrinkIfSparse()
+    {
+        if (size < buffer.length * shrinkThreshold && buffer.length > initialCapacity)
+        {
+            resize(Math.max(buffer.length / 2, initialCapacity));
+        }
+    }
+
+    /**
+     * Turns on the value index: a hash table from each value to the index
+     * where it first appears, which makes contains and indexOf take the same
+     * (short) time however long the list is. Adding and removing at the back
+     * keep the index up to date as they go; operations that shift values
+     * (addFront, add, remove, removeRange, ...) just mark it out of date, and
+     * it is rebuilt the next time it is needed. Use valueIndexMemoryUsage()
+     * to see what it costs.
+     */
+    public void enableValueIndex()
+    {
+        if (valueIndex == null)
+        {
+            valueIndex = new IntHashIndex();
+            valueIndexStale = true;
+        }
+    }
+
+    /**
+     * Turns off the value index and lets its memory go. contains and indexOf
+     * go back to scanning the list.
+     */
+    public void disableValueIndex()
+    {
+        valueIndex = null;
+        valueIndexStale = false;
+    }
+
+    /**
+     * Returns the number of bytes used by the value index, or 0 if it is
+     * turned off. The table is kept at most half full, so this is 16 to 32
+     * bytes per distinct value.
+     *
+     * @return the size of the value index in bytes
+     */
+    public long valueIndexMemoryUsage()
+    {
+        return valueIndex == null ? 0 : valueIndex.memoryUsage();
+    }
+
+    //rebuilds the value index if values have moved since it was last used
+    private void refreshValueIndex()
+    {
+        if (valueIndexStale)
+        {
+            valueIndex.clear(size);
+            for (int i = 0; i < size; i++)
+            {
+                valueIndex.putIfAbsent(buffer[i], i);
+            }
+            valueIndexStale = false;
+        }
+    }
+
+    //the values from index from to the end were just added at the back - an
+    //up to date index only needs them added (earlier copies keep their index)
+    private void valuesAppended(int from)
+    {
+        if (valueIndex != null && !valueIndexStale)
+        {
+            for (int i = from; i < size; i++)
+            {
+                valueIndex.putIfAbsent(buffer[i], i);
+            }
+        }
+    }
+
+    //values have moved to new indexes, so the index must be rebuilt before it is used again
+    private void valuesShifted()
+    {
+        if (valueIndex != null)
+        {
+            valueIndexStale = true;
+        }
+    }
+
+    //called before the last value is removed - if that was its first (so
+    //only) copy, it has to come out of the index
+    private void valueRemovedFromBack()
+    {
+        if (valueIndex != null && !valueIndexStale)
+        {
+            int value = buffer[size - 1];
+            if (valueIndex.get(value) == size - 1)
+            {
+                valueIndex.remove(value);
+            }
+        }
+    }
+
+    public void resize(int newSize)
+    {
+        if (newSize < size)
+        {
+            throw new IllegalArgumentException("New size is too small to hold the list");
+        }
+
+        //create new space, separate from the old space (buffer)
+        int[] newBuffer = new int[newSize];
+
+        //copy everything over from buffer into newBuffer
+        System.arraycopy(buffer, 0, newBuffer, 0, size);
+
+        // set the new space into buffer
+        buffer = newBuffer;
+
+        //the old buffer space is no longer "pointed to" and will eventually
+        //be cleaned up by the garbage collector
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        IntListIterator theIterator = new IntListIterator();
+        return theIterator;
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new IntListIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+
+        //read straight out of the buffer - no iterator object, no boxing
+        for (int i = 0; i < size; i++)
+        {
+            action.accept(buffer[i]);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. It splits by
+     * halving its index range, so parallel streams divide the buffer
+     * evenly without copying it.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return new ArrayIntListSpliterator(0, -1);
+    }
+
+    /**
+     * Sorts the values in this list into ascending order. Equal values keep
+     * their order relative to each other. Uses an LSD radix sort on the
+     * buffer, so it takes a few straight passes over the values rather than
+     * n log n comparisons.
+     */
+    @Override
+    public void sort()
+    {
+        IntSorts.sort(buffer, 0, size);
+        valuesShifted();
+    }
+
+    /**
+     * Sorts the values in this list into ascending order like {@link #sort()},
+     * but splits each radix pass across the common fork-join pool when the
+     * list is big enough for that to pay off.
+     */
+    @Override
+    public void parallelSort()
+    {
+        IntSorts.parallelSort(buffer, 0, size);
+        valuesShifted();
+    }
+
+    /**
+     * Writes this list to the channel in a compact binary format: a small
+     * header (magic number, version, count, byte order and a CRC32C
+     * checksum) followed by the values as raw little-endian ints.
+     * The channel is not closed.
+     *
+     * @param channel where to write the list
+     * @throws IOException if the channel can't be written to
+     */
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException
+    {
+        //the values are already in an array, so write straight from the buffer
+        IntListFormat.write(channel, buffer, size);
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo(WritableByteChannel)} from the
+     * channel and appends its values to the back of this list, in order.
+     * If the data is truncated, isn't a list, or doesn't match its checksum,
+     * an exception is thrown and this list (and its capacity) is left
+     * unchanged.
+     * The channel is not closed.
+     *
+     * @param channel where to read the list from
+     * @throws IOException if the channel can't be read, or doesn't hold a valid list
+     */
+    @Override
+    public void readFrom(ReadableByteChannel channel) throws IOException
+    {
+        IntListFormat.Reader reader = new IntListFormat.Reader(channel);
+        if (reader.count() > Integer.MAX_VALUE - size)
+        {
+            throw new IOException("List is too big to load: " + reader.count() + " values");
+        }
+        int count = (int) reader.count();
+
+        //read the chunks straight into the spare end of the buffer. The count
+        //isn't covered by the checksum, so only grow for all of it at once if
+        //the channel has shown the values are there - otherwise grow as they
+        //arrive, so a bad header can't blow up the buffer
+        int[] oldBuffer = buffer;
+        try
+        {
+            if (reader.countConfirmed())
+            {
+                ensureCapacity(size + count);
+            }
+            int filled = 0;
+            while (filled < count)
+            {
+                if (size + filled == buffer.length)
+                {
+                    //keep the values read so far, not just the first size
+                    buffer = Arrays.copyOf(buffer, grownCapacity(size + filled + 1));
+                }
+                int room = Math.min(count - filled, buffer.length - size - filled);
+                filled += reader.read(buffer, size + filled, room);
+            }
+            reader.verify();
+        }
+        catch (IOException e)
+        {
+            //size hasn't moved, so the list is unchanged - put back the old
+            //buffer if it grew, and clear out the bad values
+            buffer = oldBuffer;
+            Arrays.fill(buffer, size, Math.min(size + count, buffer.length), 0);
+            throw e;
+        }
+        size += count;
+        valuesAppended(size - count);
+    }
+
+    //create a private helper Iterator class
+    //it is a primitive iterator, so both iterator() and intIterator() can use it
+    private class IntListIterator implements PrimitiveIterator.OfInt {
+        //private fields:
+        private int i;
+
+        public IntListIterator()
+        {
+            i = 0;
+        }
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext()
+        {
+            return i < size;
+        }
+
+        /**
+         * Returns the next element in the iteration as a primitive int.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt()
+        {
+            if (i >= size)
+            {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            int currentValue = buffer[i];
+            i++;
+
+            return currentValue;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+    }
+
+    //helper class that lets streams walk (and split up) the buffer
+    private class ArrayIntListSpliterator implements Spliterator.OfInt {
+        private int index;      //next index to hand out
+        private int fence;      //one past the last index, -1 until first used
+
+        public ArrayIntListSpliterator(int origin, int fence)
+        {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        //bind to the size as late as possible, so values added after
+        //spliterator() is called but before the stream runs are included
+        private int getFence()
+        {
+            if (fence < 0)
+            {
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit()
+        {
+            int low = index;
+            int middle = (low + getFence()) >>> 1;
+            if (low >= middle)
+            {
+                //too small to split
+                return null;
+            }
+
+            //hand off the first half and keep the second half
+            index = middle;
+            return new ArrayIntListSpliterator(low, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            if (index < getFence())
+            {
+                action.accept(buffer[index]);
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            int[] values = buffer;
+            int end = getFence();
+            for (int i = index; i < end; i++)
+            {
+                action.accept(values[i]);
+            }
+            index = end;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+
+    // iterators are what enables main/client to use a for-each loop
+    // on my IntList
+}
\ No newline at end of file
@@ -1,3 +1,5 @@
+package intlist;
+
 import java.util.Iterator;
 
 //TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
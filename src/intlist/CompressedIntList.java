@@ -0,0 +1,804 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * An IntList that stores its values compressed, for lists of increasing ids
+ * and other data where neighbouring values are close together.
+ *
+ * Values are kept in blocks of 128. Each full block stores its first value
+ * and then the differences (deltas) between neighbouring values. The deltas
+ * are bit-packed using frame-of-reference: the smallest delta is stored
+ * once and every delta is stored as its distance from it, in just as many
+ * bits as the largest one needs. A run of consecutive ids packs down to 10
+ * bytes a block. When a few outliers would make every delta wide, the block
+ * falls back to a variable-length (varint) encoding, whichever is smaller.
+ *
+ * A skip table holds where each block starts, so get(index) only decodes
+ * the one block the index is in, and iteration decodes a block at a time.
+ * The last block is kept uncompressed until it fills up, so addBack and
+ * removeBack are cheap. Inserting or removing anywhere else re-encodes the
+ * blocks from that point to the end, much like ArrayIntList shifts values.
+ */
+public class CompressedIntList implements IntList
+{
+    private static final int BLOCK_SHIFT = 7;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    //block layouts - both start with a type byte and the first value
+    private static final byte PACKED = 0;   //then min delta, bit width, packed deltas
+    private static final byte VARINT = 1;   //then one zigzag varint per delta
+    private static final int PACKED_HEADER = 10;
+    private static final int VARINT_HEADER = 5;
+
+    private static final int DEFAULT_DATA_CAPACITY = 64;
+    private static final int DEFAULT_BLOCK_CAPACITY = 8;
+
+    private static final int[] NO_VALUES = new int[0];
+
+    private byte[] data;            //the encoded blocks, back to back
+    private int dataLength;         //bytes of data in use
+    private int[] blockOffsets;     //skip table - where each full block starts in data
+    private int blockCount;
+    private final int[] tail;       //the last block, uncompressed until it fills
+    private int tailSize;
+    private int size;
+
+    //the most recently decoded block, so runs of get() on one block decode it once
+    private final int[] cache;
+    private int cachedBlock;
+
+    public CompressedIntList()
+    {
+        //initialize my fields
+        data = new byte[DEFAULT_DATA_CAPACITY];
+        dataLength = 0;
+        blockOffsets = new int[DEFAULT_BLOCK_CAPACITY];
+        blockCount = 0;
+        tail = new int[BLOCK_SIZE];
+        tailSize = 0;
+        size = 0;
+        cache = new int[BLOCK_SIZE];
+        cachedBlock = -1;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        replace(0, 0, new int[] {value});
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        tail[tailSize] = value;
+        tailSize++;
+        size++;
+
+        //once the tail is full it becomes a compressed block
+        if (tailSize == BLOCK_SIZE)
+        {
+            encodeBlock(tail);
+            tailSize = 0;
+        }
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        replace(index, index, new int[] {value});
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        append(values, 0, values.length);
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        replace(index, index, values);
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        if (other == this)
+        {
+            //take a copy first, or we would keep reading what we just added
+            addAll(other.stream().toArray());
+            return;
+        }
+        other.forEach((int value) -> addBack(value));
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (!isEmpty())
+        {
+            replace(0, 1, NO_VALUES);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (tailSize > 0)
+        {
+            tailSize--;
+            size--;
+        }
+        else if (!isEmpty())
+        {
+            //the last block is compressed - unpack it back into the tail first
+            replace(size - 1, size, NO_VALUES);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        int value = get(index);
+        replace(index, index + 1, NO_VALUES);
+        return value;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is
+     * greater than size(), or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        if (fromIndex < toIndex)
+        {
+            replace(fromIndex, toIndex, NO_VALUES);
+        }
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        checkIndex(index);
+        return blockValues(index >>> BLOCK_SHIFT)[index & BLOCK_MASK];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        //decode a block at a time and scan it like a plain array
+        int[] values = new int[BLOCK_SIZE];
+        for (int block = 0; block < blockCount; block++)
+        {
+            decodeBlock(block, values, 0);
+            for (int i = 0; i < BLOCK_SIZE; i++)
+            {
+                if (values[i] == value)
+                {
+                    return (block << BLOCK_SHIFT) + i;
+                }
+            }
+        }
+        for (int i = 0; i < tailSize; i++)
+        {
+            if (tail[i] == value)
+            {
+                return (blockCount << BLOCK_SHIFT) + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear()
+    {
+        data = new byte[DEFAULT_DATA_CAPACITY];
+        dataLength = 0;
+        blockOffsets = new int[DEFAULT_BLOCK_CAPACITY];
+        blockCount = 0;
+        tailSize = 0;
+        size = 0;
+        cachedBlock = -1;
+    }
+
+    /**
+     * Returns roughly how many bytes this list uses to hold its values:
+     * the encoded blocks, the skip table, and the uncompressed last block.
+     * Compare it with 4 * size() to see how well the values compress.
+     *
+     * @return the number of bytes the list's arrays take up
+     */
+    public long memoryUsage()
+    {
+        return data.length + (long) Integer.BYTES * (blockOffsets.length + tail.length + cache.length);
+    }
+
+    /**
+     * Shrinks the encoded data and the skip table down to what is in use,
+     * giving back the spare room left over from growing them.
+     */
+    public void trimToSize()
+    {
+        data = Arrays.copyOf(data, Math.max(dataLength, 1));
+        blockOffsets = Arrays.copyOf(blockOffsets, Math.max(blockCount, 1));
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+    }
+
+    //returns the values of one block - the tail as it is, or a full block decoded into the cache
+    private int[] blockValues(int block)
+    {
+        if (block == blockCount)
+        {
+            return tail;
+        }
+        if (block != cachedBlock)
+        {
+            decodeBlock(block, cache, 0);
+            cachedBlock = block;
+        }
+        return cache;
+    }
+
+    //replaces the values from fromIndex to toIndex with the given ones. Blocks
+    //before fromIndex's block are left alone; the rest are decoded, then
+    //re-encoded with the change made
+    private void replace(int fromIndex, int toIndex, int[] values)
+    {
+        int block = fromIndex >>> BLOCK_SHIFT;
+        int start = block << BLOCK_SHIFT;
+        int[] rest = decodeFrom(block);
+
+        //drop everything from that block on
+        if (block < blockCount)
+        {
+            dataLength = blockOffsets[block];
+        }
+        blockCount = block;
+        tailSize = 0;
+        size = start;
+        if (cachedBlock >= block)
+        {
+            cachedBlock = -1;
+        }
+
+        append(rest, 0, fromIndex - start);
+        append(values, 0, values.length);
+        append(rest, toIndex - start, rest.length);
+    }
+
+    //decodes every value from the start of the given block to the end of the list
+    private int[] decodeFrom(int block)
+    {
+        int[] values = new int[size - (block << BLOCK_SHIFT)];
+        int offset = 0;
+        for (int i = block; i < blockCount; i++)
+        {
+            decodeBlock(i, values, offset);
+            offset += BLOCK_SIZE;
+        }
+        System.arraycopy(tail, 0, values, offset, tailSize);
+        return values;
+    }
+
+    private void append(int[] values, int from, int to)
+    {
+        for (int i = from; i < to; i++)
+        {
+            addBack(values[i]);
+        }
+    }
+
+    //compresses a full block of values onto the end of data and adds it to the skip table
+    private void encodeBlock(int[] values)
+    {
+        //find the range of the deltas, and what they would cost as varints
+        int minDelta = Integer.MAX_VALUE;
+        int maxDelta = Integer.MIN_VALUE;
+        int varintBytes = VARINT_HEADER;
+        for (int i = 1; i < BLOCK_SIZE; i++)
+        {
+            int delta = values[i] - values[i - 1];
+            minDelta = Math.min(minDelta, delta);
+            maxDelta = Math.max(maxDelta, delta);
+            varintBytes += varintLength(zigzag(delta));
+        }
+        //how many bits it takes to hold (delta - minDelta) for the biggest delta
+        int width = 64 - Long.numberOfLeadingZeros((long) maxDelta - minDelta);
+        int packedBytes = PACKED_HEADER + ((BLOCK_SIZE - 1) * width + 7) / 8;
+
+        if (blockCount == blockOffsets.length)
+        {
+            blockOffsets = Arrays.copyOf(blockOffsets, blockOffsets.length * 2);
+        }
+        ensureDataCapacity(dataLength + Math.min(packedBytes, varintBytes));
+        blockOffsets[blockCount] = dataLength;
+        blockCount++;
+
+        int p = dataLength;
+        if (packedBytes <= varintBytes)
+        {
+            data[p] = PACKED;
+            writeInt(p + 1, values[0]);
+            writeInt(p + 5, minDelta);
+            data[p + 9] = (byte) width;
+            p += PACKED_HEADER;
+
+            //pack the deltas low bits first, a byte at a time
+            long bits = 0;
+            int available = 0;
+            for (int i = 1; i < BLOCK_SIZE; i++)
+            {
+                long packed = (values[i] - values[i - 1] - minDelta) & 0xFFFFFFFFL;
+                bits |= packed << available;
+                available += width;
+                while (available >= 8)
+                {
+                    data[p] = (byte) bits;
+                    p++;
+                    bits >>>= 8;
+                    available -= 8;
+                }
+            }
+            if (available > 0)
+            {
+                data[p] = (byte) bits;
+                p++;
+            }
+        }
+        else
+        {
+            data[p] = VARINT;
+            writeInt(p + 1, values[0]);
+            p += VARINT_HEADER;
+
+            for (int i = 1; i < BLOCK_SIZE; i++)
+            {
+                int zigzag = zigzag(values[i] - values[i - 1]);
+                while ((zigzag & ~0x7F) != 0)
+                {
+                    data[p] = (byte) ((zigzag & 0x7F) | 0x80);
+                    p++;
+                    zigzag >>>= 7;
+                }
+                data[p] = (byte) zigzag;
+                p++;
+            }
+        }
+        dataLength = p;
+    }
+
+    //decodes the full block into target, starting at offset
+    private void decodeBlock(int block, int[] target, int offset)
+    {
+        int p = blockOffsets[block];
+        byte type = data[p];
+        int value = readInt(p + 1);
+        target[offset] = value;
+
+        if (type == PACKED)
+        {
+            int minDelta = readInt(p + 5);
+            int width = data[p + 9];
+            long mask = (1L << width) - 1;
+            p += PACKED_HEADER;
+
+            long bits = 0;
+            int available = 0;
+            for (int i = 1; i < BLOCK_SIZE; i++)
+            {
+                while (available < width)
+                {
+                    bits |= (data[p] & 0xFFL) << available;
+                    p++;
+                    available += 8;
+                }
+                value += minDelta + (int) (bits & mask);
+                bits >>>= width;
+                available -= width;
+                target[offset + i] = value;
+            }
+        }
+        else
+        {
+            p += VARINT_HEADER;
+            for (int i = 1; i < BLOCK_SIZE; i++)
+            {
+                int zigzag = 0;
+                int shift = 0;
+                byte b;
+                do
+                {
+                    b = data[p];
+                    p++;
+                    zigzag |= (b & 0x7F) << shift;
+                    shift += 7;
+                }
+                while (b < 0);
+
+                value += (zigzag >>> 1) ^ -(zigzag & 1);
+                target[offset + i] = value;
+            }
+        }
+    }
+
+    //maps small negative deltas to small positive numbers, so they varint well
+    private static int zigzag(int delta)
+    {
+        return (delta << 1) ^ (delta >> 31);
+    }
+
+    private static int varintLength(int value)
+    {
+        return (32 - Integer.numberOfLeadingZeros(value | 1) + 6) / 7;
+    }
+
+    private void ensureDataCapacity(int minCapacity)
+    {
+        if (minCapacity > data.length)
+        {
+            data = Arrays.copyOf(data, Math.max(minCapacity, data.length * 2));
+        }
+    }
+
+    private void writeInt(int p, int value)
+    {
+        data[p] = (byte) value;
+        data[p + 1] = (byte) (value >>> 8);
+        data[p + 2] = (byte) (value >>> 16);
+        data[p + 3] = (byte) (value >>> 24);
+    }
+
+    private int readInt(int p)
+    {
+        return (data[p] & 0xFF)
+                | (data[p + 1] & 0xFF) << 8
+                | (data[p + 2] & 0xFF) << 16
+                | (data[p + 3] & 0xFF) << 24;
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new CompressedIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints. It decodes a whole block each time
+     * it steps into one.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new CompressedIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+
+        //decode into our own array, so the action can call get() without upsetting us
+        int[] values = new int[BLOCK_SIZE];
+        for (int block = 0; block < blockCount; block++)
+        {
+            decodeBlock(block, values, 0);
+            for (int i = 0; i < BLOCK_SIZE; i++)
+            {
+                action.accept(values[i]);
+            }
+        }
+        for (int i = 0; i < tailSize; i++)
+        {
+            action.accept(tail[i]);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. It splits by
+     * halving its index range, rounded to a block boundary so no block has
+     * to be decoded by both halves.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return new CompressedSpliterator(0, -1);
+    }
+
+    //helper iterator class - keeps the block it is walking through decoded
+    private class CompressedIterator implements PrimitiveIterator.OfInt {
+        private final int[] values;
+        private int i;
+
+        public CompressedIterator()
+        {
+            values = new int[BLOCK_SIZE];
+            i = 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return i < size;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (i >= size)
+            {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            int block = i >>> BLOCK_SHIFT;
+            int offset = i & BLOCK_MASK;
+
+            //decode each full block as we step into it
+            if (block < blockCount && offset == 0)
+            {
+                decodeBlock(block, values, 0);
+            }
+            int currentValue = block < blockCount ? values[offset] : tail[offset];
+            i++;
+
+            return currentValue;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+    }
+
+    //helper class that lets streams walk (and split up) the list a block at a time
+    private class CompressedSpliterator implements Spliterator.OfInt {
+        private int index;          //next index to hand out
+        private int fence;          //one past the last index, -1 until first used
+        private final int[] values;
+        private int decodedBlock;
+
+        public CompressedSpliterator(int origin, int fence)
+        {
+            this.index = origin;
+            this.fence = fence;
+            this.values = new int[BLOCK_SIZE];
+            this.decodedBlock = -1;
+        }
+
+        private int getFence()
+        {
+            if (fence < 0)
+            {
+                fence = size;
+            }
+            return fence;
+        }
+
+        private int valueAt(int i)
+        {
+            int block = i >>> BLOCK_SHIFT;
+            if (block == blockCount)
+            {
+                return tail[i & BLOCK_MASK];
+            }
+            if (block != decodedBlock)
+            {
+                decodeBlock(block, values, 0);
+                decodedBlock = block;
+            }
+            return values[i & BLOCK_MASK];
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit()
+        {
+            int low = index;
+            int middle = ((low + getFence()) >>> 1) & ~BLOCK_MASK;
+            if (low >= middle)
+            {
+                return null;
+            }
+            index = middle;
+            return new CompressedSpliterator(low, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            if (index < getFence())
+            {
+                action.accept(valueAt(index));
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            int end = getFence();
+            for (int i = index; i < end; i++)
+            {
+                action.accept(valueAt(i));
+            }
+            index = end;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,681 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntConsumer;
+
+/**
+ * An array-backed IntList that any number of threads can use at once.
+ *
+ * Changes take a StampedLock's write lock, one at a time. Reads (get, size,
+ * contains, indexOf and the toArray() snapshot that iteration and streams
+ * are built on) don't lock at all to begin with: they read optimistically,
+ * then check the lock's stamp to see whether a writer got in while they
+ * were reading. Only if one did do they go again under the read lock. When
+ * writes are rare next to reads, readers never block each other and never
+ * write to shared memory, so read throughput grows with the number of
+ * reader threads.
+ *
+ * When the buffer grows, the values are copied into a new array and only
+ * then is the new array swapped in. The old array is never written to
+ * again, so a reader that is part way through it still sees sensible
+ * values (and then fails its stamp check and retries).
+ *
+ * Iterators, spliterators, streams and forEach work on a copy of the list
+ * taken at the moment they are created, so they never see a half-finished
+ * change and never throw ConcurrentModificationException.
+ */
+public class ConcurrentArrayIntList implements IntList
+{
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final StampedLock lock;
+
+    //only ever changed while holding the write lock
+    private int size;
+    private int[] buffer;
+
+    public ConcurrentArrayIntList()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list that can hold initialCapacity values before it
+     * has to grow.
+     *
+     * @param initialCapacity the starting length of the buffer
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public ConcurrentArrayIntList(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+
+        //initialize my fields
+        lock = new StampedLock();
+        size = 0;
+        buffer = new int[initialCapacity];
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            insertAt(0, value);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            insertAt(size, value);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            if (index < 0 || index > size)
+            {
+                throw new IndexOutOfBoundsException("Index is out of range");
+            }
+            insertAt(index, value);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     * Other threads see either none of the values or all of them.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            insertAllAt(size, values);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right. Other threads see either none
+     * of the values or all of them.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            if (index < 0 || index > size)
+            {
+                throw new IndexOutOfBoundsException("Index is out of range");
+            }
+            insertAllAt(index, values);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        //copy the other list first, without holding the lock - the lock
+        //isn't reentrant, and other may be this list
+        addAll(other.stream().toArray());
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            if (size > 0)
+            {
+                removeAt(0);
+            }
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            if (size > 0)
+            {
+                removeAt(size - 1);
+            }
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            checkIndex(index, size);
+            return removeAt(index);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replaces the value at the specified position in the list.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void set(int index, int value)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            checkIndex(index, size);
+            buffer[index] = value;
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is
+     * greater than size(), or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            {
+                throw new IndexOutOfBoundsException("Range is out of range");
+            }
+            int count = toIndex - fromIndex;
+            System.arraycopy(buffer, toIndex, buffer, fromIndex, size - toIndex);
+            Arrays.fill(buffer, size - count, size, 0);
+            size -= count;
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     * Doesn't lock unless a change is being made at the same time.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        //read both fields into locals, then check nothing changed - the
+        //bounds checks keep a torn read from going outside the array
+        long stamp = lock.tryOptimisticRead();
+        int[] currentBuffer = buffer;
+        int currentSize = size;
+        if (stamp != 0 && index >= 0 && index < currentSize && index < currentBuffer.length)
+        {
+            int value = currentBuffer[index];
+            if (lock.validate(stamp))
+            {
+                return value;
+            }
+        }
+
+        //a writer got in (or the index is bad) - do it properly under the read lock
+        stamp = lock.readLock();
+        try
+        {
+            checkIndex(index, size);
+            return buffer[index];
+        }
+        finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * The scan runs without locking, and is only repeated under the read
+     * lock if a change was made while it was running.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0)
+        {
+            int index = find(buffer, size, value);
+            if (lock.validate(stamp))
+            {
+                return index;
+            }
+        }
+
+        stamp = lock.readLock();
+        try
+        {
+            return find(buffer, size, value);
+        }
+        finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (!lock.validate(stamp))
+        {
+            stamp = lock.readLock();
+            try
+            {
+                currentSize = size;
+            }
+            finally
+            {
+                lock.unlockRead(stamp);
+            }
+        }
+        return currentSize;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear()
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            Arrays.fill(buffer, 0, size, 0);
+            size = 0;
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sorts the values in this list into ascending order, in place, while
+     * holding the write lock - readers see the list either all before or
+     * all after the sort.
+     */
+    @Override
+    public void sort()
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            IntSorts.sort(buffer, 0, size);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sorts the values in this list into ascending order like {@link #sort()},
+     * splitting the work across the common fork-join pool when the list is
+     * big enough for that to pay off.
+     */
+    @Override
+    public void parallelSort()
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            IntSorts.parallelSort(buffer, 0, size);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns a copy of the values in this list, as they were at one moment
+     * in time - never part way through a change.
+     *
+     * @return a new array holding the values in this list, in order
+     */
+    public int[] toArray()
+    {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0)
+        {
+            //copyOf pads with zeros rather than failing if the two reads
+            //don't match, and then the stamp check fails anyway
+            int[] copy = Arrays.copyOf(buffer, size);
+            if (lock.validate(stamp))
+            {
+                return copy;
+            }
+        }
+
+        stamp = lock.readLock();
+        try
+        {
+            return Arrays.copyOf(buffer, size);
+        }
+        finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Makes sure the buffer can hold at least minCapacity values without
+     * growing again, doubling it (or more) if it can't.
+     *
+     * @param minCapacity the number of values the list should be able to hold
+     */
+    public void ensureCapacity(int minCapacity)
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            grow(minCapacity);
+        }
+        finally
+        {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the length of the buffer - how many values the list can hold
+     * before it has to grow again.
+     *
+     * @return the current capacity of the list
+     */
+    public int capacity()
+    {
+        long stamp = lock.readLock();
+        try
+        {
+            return buffer.length;
+        }
+        finally
+        {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    //the rest of the helpers must only be called while holding the write lock
+
+    private void grow(int minCapacity)
+    {
+        if (minCapacity > buffer.length)
+        {
+            //fill the new array first and swap it in last, so readers holding
+            //the old one never see it change
+            int newCapacity = GrowthPolicy.doubling().newCapacity(buffer.length, minCapacity);
+            buffer = Arrays.copyOf(buffer, Math.max(newCapacity, minCapacity));
+        }
+    }
+
+    private void insertAt(int index, int value)
+    {
+        grow(size + 1);
+        System.arraycopy(buffer, index, buffer, index + 1, size - index);
+        buffer[index] = value;
+        size++;
+    }
+
+    private void insertAllAt(int index, int[] values)
+    {
+        grow(size + values.length);
+        System.arraycopy(buffer, index, buffer, index + values.length, size - index);
+        System.arraycopy(values, 0, buffer, index, values.length);
+        size += values.length;
+    }
+
+    private int removeAt(int index)
+    {
+        int value = buffer[index];
+        System.arraycopy(buffer, index + 1, buffer, index, size - index - 1);
+        buffer[size - 1] = 0;
+        size--;
+        return value;
+    }
+
+    private static void checkIndex(int index, int size)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+    }
+
+    //linear scan of the first count values - safe on a torn read, since it
+    //never goes past the end of the array it was given
+    private static int find(int[] values, int count, int value)
+    {
+        int end = Math.min(count, values.length);
+        for (int i = 0; i < end; i++)
+        {
+            if (values[i] == value)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return intIterator();
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the values in this list, taken
+     * when the iterator is created. Later changes to the list don't show up
+     * in it.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Performs the given action for each value in a snapshot of this list,
+     * in order, without boxing. The action runs without any lock held, so it
+     * is free to change the list.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        for (int value : toArray())
+        {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Returns a spliterator over a snapshot of the values in this list, taken
+     * when the spliterator is created. It splits by halving its index range.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE
+                | Spliterator.NONNULL);
+    }
+}
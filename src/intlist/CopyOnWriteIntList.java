@@ -0,0 +1,738 @@
+package intlist;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * A thread-safe IntList for lists that are read far more often than they
+ * are changed, and iterated while other threads change them.
+ *
+ * The list is always an immutable snapshot - an array and how many of its
+ * values are in use - held in a volatile field. Readers just read that
+ * field and work on the snapshot they got, so they never lock, never block
+ * and never see half of a change; an iterator keeps walking the values the
+ * list had when it was created. {@link #snapshot()} hands out the current
+ * snapshot itself as a read-only IntList, in constant time.
+ *
+ * Writers take turns on a lock and publish a new snapshot when they are
+ * done. Most changes copy the array, but appends don't have to: the array
+ * has room at the back, and slots past the end of every snapshot handed out
+ * so far can be filled in without any reader seeing them. So a burst of
+ * addBack calls costs one copy each time the array fills up (it doubles),
+ * not one per value, and addAll publishes its whole batch with at most one
+ * copy.
+ */
+public class CopyOnWriteIntList implements IntList
+{
+    private static final int[] NO_VALUES = new int[0];
+
+    private final Object writeLock;
+
+    //what readers see - replaced, never changed
+    private volatile Snapshot current;
+
+    //how many slots of current.values have ever been part of a published
+    //snapshot. Those slots may still be being read, so only the slots from
+    //here on can be filled in place. Guarded by writeLock
+    private int published;
+
+    public CopyOnWriteIntList()
+    {
+        //initialize my fields
+        writeLock = new Object();
+        current = new Snapshot(NO_VALUES, 0);
+        published = 0;
+    }
+
+    /**
+     * Returns the list as it is right now, as a read-only IntList that shares
+     * this list's array. Changes made to this list afterwards don't show up in
+     * it, and trying to change the snapshot throws an
+     * UnsupportedOperationException.
+     *
+     * @return an unmodifiable snapshot of this list
+     */
+    public IntList snapshot()
+    {
+        return current;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     * Usually fills in a spare slot instead of copying the list.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        synchronized (writeLock)
+        {
+            int[] values = roomToAppend(1);
+            values[current.size] = value;
+            publish(values, current.size + 1);
+        }
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        synchronized (writeLock)
+        {
+            int size = current.size;
+            if (index < 0 || index > size)
+            {
+                throw new IndexOutOfBoundsException("Index is out of range");
+            }
+            if (index == size)
+            {
+                addBack(value);
+                return;
+            }
+
+            int[] values = new int[size + 1];
+            System.arraycopy(current.values, 0, values, 0, index);
+            values[index] = value;
+            System.arraycopy(current.values, index, values, index + 1, size - index);
+            replace(values);
+        }
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     * Other threads see either none of the values or all of them.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        synchronized (writeLock)
+        {
+            int size = current.size;
+            int[] newValues = roomToAppend(values.length);
+            System.arraycopy(values, 0, newValues, size, values.length);
+            publish(newValues, size + values.length);
+        }
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right. Other threads see either none
+     * of the values or all of them.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        synchronized (writeLock)
+        {
+            int size = current.size;
+            if (index < 0 || index > size)
+            {
+                throw new IndexOutOfBoundsException("Index is out of range");
+            }
+            if (index == size)
+            {
+                addAll(values);
+                return;
+            }
+
+            int[] newValues = new int[size + values.length];
+            System.arraycopy(current.values, 0, newValues, 0, index);
+            System.arraycopy(values, 0, newValues, index, values.length);
+            System.arraycopy(current.values, index, newValues, index + values.length, size - index);
+            replace(newValues);
+        }
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        //copy first - other may be this list
+        addAll(other.stream().toArray());
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        synchronized (writeLock)
+        {
+            if (current.size > 0)
+            {
+                removeRange(0, 1);
+            }
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present. This never copies the list.
+     */
+    @Override
+    public void removeBack()
+    {
+        synchronized (writeLock)
+        {
+            if (current.size > 0)
+            {
+                removeRange(current.size - 1, current.size);
+            }
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        synchronized (writeLock)
+        {
+            int value = current.get(index);
+            removeRange(index, index + 1);
+            return value;
+        }
+    }
+
+    /**
+     * Replaces the value at the specified position in the list. Readers
+     * holding a snapshot keep seeing the old value.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void set(int index, int value)
+    {
+        synchronized (writeLock)
+        {
+            current.get(index);     //throws if the index is out of range
+            int[] values = Arrays.copyOf(current.values, current.size);
+            values[index] = value;
+            replace(values);
+        }
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is
+     * greater than size(), or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        synchronized (writeLock)
+        {
+            int size = current.size;
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            {
+                throw new IndexOutOfBoundsException("Range is out of range");
+            }
+            if (fromIndex == toIndex)
+            {
+                return;
+            }
+
+            if (toIndex == size)
+            {
+                //cutting off the back - the same array with a smaller size
+                //will do. The slots stay published, so they won't be reused
+                publish(current.values, fromIndex);
+            }
+            else
+            {
+                int[] values = new int[size - (toIndex - fromIndex)];
+                System.arraycopy(current.values, 0, values, 0, fromIndex);
+                System.arraycopy(current.values, toIndex, values, fromIndex, size - toIndex);
+                replace(values);
+            }
+        }
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        return current.get(index);
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return current.contains(value);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        return current.indexOf(value);
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return current.size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return current.size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear()
+    {
+        synchronized (writeLock)
+        {
+            replace(NO_VALUES);
+        }
+    }
+
+    /**
+     * Sorts the values in this list into ascending order. The values are
+     * sorted in a copy, which is then published in one go, so readers and
+     * snapshots never see a half sorted list.
+     */
+    @Override
+    public void sort()
+    {
+        synchronized (writeLock)
+        {
+            int[] values = Arrays.copyOf(current.values, current.size);
+            IntSorts.sort(values, 0, values.length);
+            replace(values);
+        }
+    }
+
+    /**
+     * Sorts the values in this list into ascending order like {@link #sort()},
+     * splitting the work across the common fork-join pool when the list is
+     * big enough for that to pay off.
+     */
+    @Override
+    public void parallelSort()
+    {
+        synchronized (writeLock)
+        {
+            int[] values = Arrays.copyOf(current.values, current.size);
+            IntSorts.parallelSort(values, 0, values.length);
+            replace(values);
+        }
+    }
+
+    //returns an array the current values can be extended into by count
+    //values without any reader noticing - the current array if its spare
+    //slots have never been published, or else a bigger copy.
+    //Called while holding writeLock
+    private int[] roomToAppend(int count)
+    {
+        int size = current.size;
+        int[] values = current.values;
+        boolean hasRoom = values.length - size >= count;
+        if (size == published && hasRoom)
+        {
+            return values;
+        }
+
+        //only grow if it's room that is short - if the spare slots were just
+        //published before (after a removeBack), a same-sized copy will do
+        int newCapacity = values.length;
+        if (!hasRoom)
+        {
+            newCapacity = Math.max(GrowthPolicy.doubling().newCapacity(values.length, size + count), size + count);
+        }
+        int[] newValues = new int[newCapacity];
+        System.arraycopy(values, 0, newValues, 0, size);
+        return newValues;
+    }
+
+    //publishes a brand new array, all of which is in use
+    private void replace(int[] values)
+    {
+        publish(values, values.length);
+    }
+
+    //makes the first size values of the array the list that readers see
+    private void publish(int[] values, int size)
+    {
+        if (values != current.values)
+        {
+            //a new array - none of it has been seen yet
+            published = 0;
+        }
+        published = Math.max(published, size);
+        current = new Snapshot(values, size);
+    }
+
+    /**
+     * Writes the list, as it is right now, to the channel in the format
+     * described by {@link IntList#writeTo(WritableByteChannel)}.
+     *
+     * @param channel where to write the list
+     * @throws IOException if the channel can't be written to
+     */
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException
+    {
+        current.writeTo(channel);
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return current.intIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list as they were when
+     * the iterator was created. It never locks and never sees later changes.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return current.intIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list as it is right
+     * now, in order, without boxing. The action is free to change the list.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        current.forEach(action);
+    }
+
+    /**
+     * Returns a spliterator over the values in this list as they were when
+     * the spliterator was created. It splits by halving its index range.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return current.spliterator();
+    }
+
+    //one published state of the list: the first size values of an array
+    //that nobody writes to below size any more
+    private static final class Snapshot implements IntList
+    {
+        private final int[] values;
+        private final int size;
+
+        Snapshot(int[] values, int size)
+        {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public void addFront(int value)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void addBack(int value)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void add(int index, int value)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void addAll(int[] values)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void addAll(int index, int[] values)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void addAll(IntList other)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void removeFront()
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void removeBack()
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public int remove(int index)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void set(int index, int value)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void removeRange(int fromIndex, int toIndex)
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void clear()
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void sort()
+        {
+            throw readOnly();
+        }
+
+        @Override
+        public void parallelSort()
+        {
+            throw readOnly();
+        }
+
+        private static UnsupportedOperationException readOnly()
+        {
+            return new UnsupportedOperationException("A snapshot cannot be changed");
+        }
+
+        @Override
+        public int get(int index)
+        {
+            if (index < 0)
+            {
+                throw new IndexOutOfBoundsException("Index cannot be negative");
+            }
+            else if (index >= size)
+            {
+                throw new IndexOutOfBoundsException("Index is higher than size");
+            }
+            return values[index];
+        }
+
+        @Override
+        public boolean contains(int value)
+        {
+            return indexOf(value) != -1;
+        }
+
+        @Override
+        public int indexOf(int value)
+        {
+            for (int i = 0; i < size; i++)
+            {
+                if (values[i] == value)
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return size == 0;
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public void writeTo(WritableByteChannel channel) throws IOException
+        {
+            IntListFormat.write(channel, values, size);
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return intIterator();
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt intIterator()
+        {
+            return new SnapshotIterator();
+        }
+
+        @Override
+        public void forEach(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            for (int i = 0; i < size; i++)
+            {
+                action.accept(values[i]);
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt spliterator()
+        {
+            return Spliterators.spliterator(values, 0, size, Spliterator.ORDERED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL);
+        }
+
+        //helper iterator class - walks the array from the front
+        private class SnapshotIterator implements PrimitiveIterator.OfInt {
+            private int i;
+
+            public SnapshotIterator()
+            {
+                i = 0;
+            }
+
+            @Override
+            public boolean hasNext()
+            {
+                return i < size;
+            }
+
+            @Override
+            public int nextInt()
+            {
+                if (i >= size)
+                {
+                    throw new NoSuchElementException("i is now out of bounds");
+                }
+                int currentValue = values[i];
+                i++;
+
+                return currentValue;
+            }
+
+            @Override
+            public Integer next()
+            {
+                //boxed version for for-each loops
+                return nextInt();
+            }
+        }
+    }
+}
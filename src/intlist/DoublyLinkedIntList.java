@@ -0,0 +1,1111 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+public class DoublyLinkedIntList implements IntDeque
+{
+    //private fields
+    int size;
+
+    private class Node {
+        int data;
+        Node next;      //address of the node "after" this one in line
+        Node last;      //address of the node "before" this one in line
+
+        public Node() {
+            next = null;
+            last = null;
+        }
+    }
+
+    private Node head;
+    private Node tail;
+
+    //the last node reached by index, and its index - indexed operations
+    //start walking from here when it is closer than either end
+    private Node finger;
+    private int fingerIndex;
+
+    //counts structural changes, so list iterators can tell when the
+    //list was changed behind their backs
+    private int modCount;
+
+    public DoublyLinkedIntList() {
+        // an empty list has no nodes - head and tail both point at nothing
+        head = null;
+        tail = null;
+        size = 0;
+        finger = null;
+    }
+
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        Node newNode = new Node();
+        Node tempNode = head;
+        newNode.data = value;
+
+        //if the list is empty, the new node is both the head and the tail
+        if (head == null)
+        {
+            head = newNode;
+            tail = newNode;
+            size++;
+        }
+        // if there is, then assign
+        // head.last to the new node
+        // assign the new node to next
+        // and assign the head to new node
+        else
+        {
+            head.last = newNode;
+            head = newNode;
+            head.next = tempNode;
+            size++;
+        }
+
+        //everything moved one place to the right, including the finger
+        fingerIndex++;
+        modCount++;
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        //create node with new value
+        Node newNode = new Node();
+        newNode.data = value;
+        modCount++;
+
+        if (head == null)
+        {
+            head = newNode;
+            tail = newNode;
+            size++;
+            return;
+        }
+
+        //assign the next node of tail to new node
+        //reassign the tail to the new node
+        //increase size
+
+        //current tail
+        tail.next = newNode;
+
+        //new tail
+        newNode.last = tail;
+        tail = newNode;
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("The given index is out of range");
+        }
+
+        //the ends don't need a walk at all
+        if (index == 0)
+        {
+            addFront(value);
+            return;
+        }
+        if (index == size)
+        {
+            addBack(value);
+            return;
+        }
+
+        //link the new node in between the node at index and the one before it
+        Node newNode = linkBefore(nodeAt(index), value);
+
+        //the new node now sits at index, so it becomes the finger
+        finger = newNode;
+        fingerIndex = index;
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        //the tail is right there, so there's no need to walk the list
+        spliceAfter(tail, Arrays.stream(values).iterator());
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+
+        //index 0 goes in front of the head, anything else goes after
+        //the node at index - 1
+        Node previous = null;
+        if (index > 0)
+        {
+            previous = nodeAt(index - 1);
+        }
+        spliceAfter(previous, Arrays.stream(values).iterator());
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        spliceAfter(tail, other.intIterator());
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (head == null)
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+
+        //everything moves one place to the left - the finger too, unless it
+        //was on the node being removed
+        if (finger == head)
+        {
+            finger = null;
+        }
+        fingerIndex--;
+        modCount++;
+
+        if (head == tail)
+        {
+            head = null;
+            tail = null;
+            size--;
+        }
+        else
+        {
+            //change the head to head.next
+            //reassign the new heads last to node
+            head = head.next;
+            head.last = null;
+            size--;
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (head == null)
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        if (finger == tail)
+        {
+            finger = null;
+        }
+        modCount++;
+
+        if (head == tail)
+        {
+            head = null;
+            tail = null;
+            size--;
+        }
+        else {
+            //set up a temporary variable for convenience
+            Node theOneToRemove = tail;
+
+            tail = theOneToRemove.last;
+            tail.next = null;
+
+            //optional, but strongly recommended to clean up
+            theOneToRemove.next = null;
+            theOneToRemove.last = null;
+            theOneToRemove.data = 0;
+
+            size--;
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        Node current = nodeAt(index);
+        int returnValue = current.data;
+
+        //the ends keep head and tail up to date themselves
+        if (current == head)
+        {
+            removeFront();
+            return returnValue;
+        }
+        if (current == tail)
+        {
+            removeBack();
+            return returnValue;
+        }
+
+        //remove the node by connecting its neighbours to each other
+        Node following = current.next;
+        unlink(current);
+
+        //the node after it has moved into its place, so it becomes the finger
+        finger = following;
+        fingerIndex = index;
+
+        return returnValue;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if the range is out of range
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        if (fromIndex == toIndex)
+        {
+            return;
+        }
+
+        //find the first and last nodes in the range
+        Node first = nodeAt(fromIndex);
+        Node last = nodeAt(toIndex - 1);
+        finger = null;
+
+        //then connect the nodes on either side of the range to each other
+        Node before = first.last;
+        Node after = last.next;
+        if (before == null)
+        {
+            head = after;
+        }
+        else
+        {
+            before.next = after;
+        }
+        if (after == null)
+        {
+            tail = before;
+        }
+        else
+        {
+            after.last = before;
+        }
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    /**
+     * Returns the value at the front of the list (at index 0).
+     *
+     * @return the value at the front of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int peekFront()
+    {
+        if (head == null)
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return head.data;
+    }
+
+    /**
+     * Returns the value at the back of the list (at index size()-1).
+     *
+     * @return the value at the back of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int peekBack()
+    {
+        if (tail == null)
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        return tail.data;
+    }
+
+    /**
+     * Removes the value at the front of the list (at index 0) and returns it.
+     * Shifts any subsequent values to the left.
+     *
+     * @return the value that was at the front of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int popFront()
+    {
+        int value = peekFront();
+        removeFront();
+        return value;
+    }
+
+    /**
+     * Removes the value at the back of the list (at index size()-1) and returns it.
+     *
+     * @return the value that was at the back of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    @Override
+    public int popBack()
+    {
+        int value = peekBack();
+        removeBack();
+        return value;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        return nodeAt(index).data;
+    }
+
+    /**
+     * Replaces the value at the specified position in the list.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void set(int index, int value)
+    {
+        nodeAt(index).data = value;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        // create current node
+        Node current = head;
+
+        // run through list until you hit the value - running off the
+        // end (or an empty list) means the value does not exist
+        while (current != null)
+        {
+            if (current.data == value)
+            {
+                return true;
+            }
+            current = current.next;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        // create current node and currentIndex
+        Node current = head;
+        int currentIndex = 0;
+
+        // run through list until you hit the value
+        while (current != null)
+        {
+            if (current.data == value)
+            {
+                return currentIndex;
+            }
+            current = current.next;
+            currentIndex++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return head == null;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        //every add and remove keeps size up to date, so there's
+        //no need to walk the list
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear()
+    {
+        head = null;
+        tail = null;
+        size = 0;
+        finger = null;
+        modCount++;
+    }
+
+    //returns the node at the given index, walking from whichever of the
+    //head, the tail and the finger is closest, and leaves the finger there -
+    //so a loop over get(i) only ever takes one step per call
+    private Node nodeAt(int index)
+    {
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+
+        Node current;
+        int currentIndex;
+        int fromBack = size - 1 - index;
+        if (finger != null && Math.abs(index - fingerIndex) < Math.min(index, fromBack))
+        {
+            current = finger;
+            currentIndex = fingerIndex;
+        }
+        else if (index <= fromBack)
+        {
+            current = head;
+            currentIndex = 0;
+        }
+        else
+        {
+            current = tail;
+            currentIndex = size - 1;
+        }
+
+        while (currentIndex < index)
+        {
+            current = current.next;
+            currentIndex++;
+        }
+        while (currentIndex > index)
+        {
+            current = current.last;
+            currentIndex--;
+        }
+
+        finger = current;
+        fingerIndex = currentIndex;
+        return current;
+    }
+
+    //builds a chain of new nodes holding the given values off to the side,
+    //then links the whole chain in right after previous (or at the front
+    //of the list if previous is null)
+    private void spliceAfter(Node previous, PrimitiveIterator.OfInt values)
+    {
+        Node first = null;
+        Node last = null;
+        int count = 0;
+        while (values.hasNext())
+        {
+            Node newNode = new Node();
+            newNode.data = values.nextInt();
+            if (first == null)
+            {
+                first = newNode;
+            }
+            else
+            {
+                last.next = newNode;
+                newNode.last = last;
+            }
+            last = newNode;
+            count++;
+        }
+
+        //nothing to add
+        if (first == null)
+        {
+            return;
+        }
+
+        //hook both ends of the chain into the list
+        Node following = (previous == null) ? head : previous.next;
+        first.last = previous;
+        last.next = following;
+        if (previous == null)
+        {
+            head = first;
+        }
+        else
+        {
+            previous.next = first;
+        }
+        if (following == null)
+        {
+            tail = last;
+        }
+        else
+        {
+            following.last = last;
+        }
+        size += count;
+        modCount++;
+
+        //nodes after the splice have all moved along
+        finger = null;
+    }
+
+    //links a new node holding the value in just before successor (or at the
+    //back of the list if successor is null) and returns it
+    private Node linkBefore(Node successor, int value)
+    {
+        Node newNode = new Node();
+        newNode.data = value;
+        newNode.next = successor;
+        newNode.last = (successor == null) ? tail : successor.last;
+
+        if (newNode.last == null)
+        {
+            head = newNode;
+        }
+        else
+        {
+            newNode.last.next = newNode;
+        }
+        if (successor == null)
+        {
+            tail = newNode;
+        }
+        else
+        {
+            successor.last = newNode;
+        }
+        size++;
+        modCount++;
+
+        //indexes after the new node have moved along
+        finger = null;
+        return newNode;
+    }
+
+    //takes the node out of the list by connecting its neighbours to each other
+    private void unlink(Node node)
+    {
+        if (node.last == null)
+        {
+            head = node.next;
+        }
+        else
+        {
+            node.last.next = node.next;
+        }
+        if (node.next == null)
+        {
+            tail = node.last;
+        }
+        else
+        {
+            node.next.last = node.last;
+        }
+        size--;
+        modCount++;
+        finger = null;
+
+        //optional, but strongly recommended to clean up
+        node.next = null;
+        node.last = null;
+        node.data = 0;
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        DoublyLinkedIterator theIterator = new DoublyLinkedIterator();
+        return theIterator;
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new DoublyLinkedIterator();
+    }
+
+    /**
+     * Returns an iterator that can walk this list in both directions and
+     * add, remove or replace values at its cursor, starting with the cursor
+     * in front of the given index. Every step and every edit at the cursor
+     * takes constant time.
+     *
+     * @param index index of the first value to be returned by nextInt()
+     * @return a list iterator positioned at the index
+     * @throws IndexOutOfBoundsException if the index is not between 0 and size()
+     */
+    @Override
+    public IntListIterator listIterator(int index)
+    {
+        return new DoublyLinkedListIterator(index);
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. The nodes can't
+     * be split by index, so each split copies the next batch of values into
+     * an array (batches grow as the walk goes on) and hands that off instead.
+     * It knows exactly how many values are left, so it is SIZED.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return new LinkedIntSpliterator(intIterator(), size);
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+
+        //walk the nodes directly - no iterator object, no boxing
+        Node current = head;
+        while (current != null)
+        {
+            action.accept(current.data);
+            current = current.next;
+        }
+    }
+
+    /**
+     * Sorts the values in this list into ascending order. Equal values keep
+     * their order relative to each other. This is a bottom-up merge sort
+     * that relinks the existing nodes - runs of 1, then 2, 4, ... values
+     * are merged in passes over the list - so it needs no extra memory and
+     * allocates no new nodes.
+     */
+    @Override
+    public void sort()
+    {
+        //nothing to do with fewer than two values
+        if (head == null || head.next == null)
+        {
+            return;
+        }
+
+        //merge using only the next links, then put the last links back
+        int width = 1;
+        int merges;
+        do
+        {
+            Node remaining = head;
+            Node sortedHead = null;
+            Node sortedTail = null;
+            merges = 0;
+            while (remaining != null)
+            {
+                //cut the next two runs off the front of what is left
+                Node left = remaining;
+                Node right = cutAfter(left, width);
+                remaining = cutAfter(right, width);
+                merges++;
+
+                //merge them onto the back of the sorted part, taking from
+                //the left run on ties so equal values stay in order
+                while (left != null && right != null)
+                {
+                    Node smaller;
+                    if (left.data <= right.data)
+                    {
+                        smaller = left;
+                        left = left.next;
+                    }
+                    else
+                    {
+                        smaller = right;
+                        right = right.next;
+                    }
+
+                    if (sortedTail == null)
+                    {
+                        sortedHead = smaller;
+                    }
+                    else
+                    {
+                        sortedTail.next = smaller;
+                    }
+                    sortedTail = smaller;
+                }
+
+                //whichever run is left over is already in order
+                Node rest = (left != null) ? left : right;
+                if (sortedTail == null)
+                {
+                    sortedHead = rest;
+                    sortedTail = rest;
+                }
+                else
+                {
+                    sortedTail.next = rest;
+                }
+                while (sortedTail.next != null)
+                {
+                    sortedTail = sortedTail.next;
+                }
+            }
+            head = sortedHead;
+            width *= 2;
+        }
+        while (merges > 1);
+
+        Node previous = null;
+        for (Node current = head; current != null; current = current.next)
+        {
+            current.last = previous;
+            previous = current;
+        }
+        tail = previous;
+
+        //the nodes have all moved, so the finger's index is wrong now
+        finger = null;
+        modCount++;
+    }
+
+    //ends the run of up to count nodes starting at start, and returns the
+    //node that came after it (null if the list ran out). Only the next
+    //links are kept right - sort() fixes the last links at the end
+    private Node cutAfter(Node start, int count)
+    {
+        if (start == null)
+        {
+            return null;
+        }
+        for (int i = 1; i < count && start.next != null; i++)
+        {
+            start = start.next;
+        }
+        Node rest = start.next;
+        start.next = null;
+        return rest;
+    }
+
+    /**
+     * Sorts the values in this list into ascending order like {@link #sort()}.
+     * Nodes can't be split up between threads, so the values are copied into
+     * an array, sorted there in parallel and written back into the same
+     * nodes, in order - still without allocating any new nodes.
+     */
+    @Override
+    public void parallelSort()
+    {
+        int[] values = stream().toArray();
+        IntSorts.parallelSort(values, 0, values.length);
+
+        Node current = head;
+        for (int value : values)
+        {
+            current.data = value;
+            current = current.next;
+        }
+        modCount++;
+    }
+
+    //list iterator that keeps hold of the node after the cursor - the node
+    //before it is always next.last (or the tail at the end of the list)
+    private class DoublyLinkedListIterator implements IntListIterator {
+
+        private Node next;              //node after the cursor, null at the end
+        private int nextIndex;
+        private Node lastReturned;      //null if there is nothing to remove or set
+        private int expectedModCount;
+
+        public DoublyLinkedListIterator(int index) {
+            if (index < 0 || index > size)
+            {
+                throw new IndexOutOfBoundsException("Index is out of range");
+            }
+            next = (index == size) ? null : nodeAt(index);
+            nextIndex = index;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return nextIndex < size;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            checkForComodification();
+            if (next == null)
+            {
+                throw new NoSuchElementException("There is no next one to go to!!");
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public int previousInt()
+        {
+            checkForComodification();
+            if (nextIndex == 0)
+            {
+                throw new NoSuchElementException("There is no previous one to go to");
+            }
+            next = (next == null) ? tail : next.last;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (lastReturned == null)
+            {
+                throw new IllegalStateException("There is no value to remove");
+            }
+            checkForComodification();
+
+            if (lastReturned == next)
+            {
+                //came from previousInt - the cursor stays put
+                next = lastReturned.next;
+            }
+            else
+            {
+                //came from nextInt - the cursor moves back one
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(int value)
+        {
+            if (lastReturned == null)
+            {
+                throw new IllegalStateException("There is no value to set");
+            }
+            checkForComodification();
+            lastReturned.data = value;
+        }
+
+        @Override
+        public void add(int value)
+        {
+            checkForComodification();
+            linkBefore(next, value);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification()
+        {
+            if (modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException("The list was changed outside the iterator");
+            }
+        }
+    }
+
+    private class DoublyLinkedIterator implements PrimitiveIterator.OfInt {
+
+        private Node current;
+
+        public DoublyLinkedIterator() {
+            current = head;
+        }
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext()
+        {
+            //return current != null; <----- another way to write this
+            if (current == null) {
+                return false;
+            }
+            else {
+                return true;
+            }
+        }
+
+        /**
+         * Returns the next element in the iteration as a primitive int.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt()
+        {
+            if (current == null)
+            {
+                throw new NoSuchElementException("There is no next one to go to!!");
+            }
+            int item = current.data;
+            current = current.next;
+            return item;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+    }}
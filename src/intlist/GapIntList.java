@@ -0,0 +1,611 @@
+package intlist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * A list backed by a gap buffer: one int[] with the values at both ends and
+ * the spare room (the gap) somewhere in the middle instead of at the back.
+ * Adding at the start of the gap or removing right next to it just moves
+ * the gap's edge, so a burst of edits at or near the same index - like
+ * typing and deleting at a cursor - costs O(1) each, where ArrayIntList
+ * would shift the whole tail every time.
+ *
+ * Editing somewhere else first moves the gap there, which copies only the
+ * values between the old and new position. gapMoveCount() and
+ * gapMoveDistance() keep track of how often that happens and how many
+ * values it copies, to check the list suits how it is being used: few,
+ * short moves mean clustered edits; lots of long ones mean edits all over
+ * the list, where this is no better than an ArrayIntList.
+ */
+public class GapIntList implements IntList
+{
+    private static final int DEFAULT_CAPACITY = 10;
+
+    //values are in buffer[0, gapStart) and buffer[gapEnd, buffer.length)
+    private int[] buffer;
+    private int gapStart;
+    private int gapEnd;
+
+    //how many times the gap has moved, and how many values those moves copied
+    private long gapMoveCount;
+    private long gapMoveDistance;
+
+    public GapIntList()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list that can hold initialCapacity values before it
+     * has to grow.
+     *
+     * @param initialCapacity the starting length of the buffer
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public GapIntList(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+
+        //initialize my fields
+        buffer = new int[initialCapacity];
+        gapStart = 0;
+        gapEnd = initialCapacity;
+    }
+
+    private int gapLength()
+    {
+        return gapEnd - gapStart;
+    }
+
+    //slides the gap so it starts at index, copying the values in between
+    //across it
+    private void moveGap(int index)
+    {
+        if (index == gapStart)
+        {
+            return;
+        }
+
+        int gapLength = gapLength();
+        int distance;
+        if (index < gapStart)
+        {
+            //values before the gap go to just after it
+            distance = gapStart - index;
+            System.arraycopy(buffer, index, buffer, gapEnd - distance, distance);
+        }
+        else
+        {
+            //values after the gap go to just before it
+            distance = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, distance);
+        }
+        gapStart = index;
+        gapEnd = index + gapLength;
+        gapMoveCount++;
+        gapMoveDistance += distance;
+    }
+
+    //puts a gap of at least count slots at index. If the buffer has to
+    //grow, the values are copied into place around the new gap in the same
+    //pass, so that isn't counted as a move
+    private void openGap(int index, int count)
+    {
+        if (gapLength() >= count)
+        {
+            moveGap(index);
+            return;
+        }
+
+        int size = size();
+        int minCapacity = size + count;
+        int newCapacity = GrowthPolicy.doubling().newCapacity(buffer.length, minCapacity);
+
+        //doubling might not be enough (or might overflow)
+        if (newCapacity < minCapacity)
+        {
+            newCapacity = minCapacity;
+        }
+
+        int[] newBuffer = new int[newCapacity];
+        int newGapEnd = newCapacity - (size - index);
+        copyValues(0, index, newBuffer, 0);
+        copyValues(index, size, newBuffer, newGapEnd);
+        buffer = newBuffer;
+        gapStart = index;
+        gapEnd = newGapEnd;
+    }
+
+    //copies the values from fromIndex to toIndex into dest, skipping the gap
+    private void copyValues(int fromIndex, int toIndex, int[] dest, int destPos)
+    {
+        if (fromIndex < gapStart)
+        {
+            int count = Math.min(toIndex, gapStart) - fromIndex;
+            System.arraycopy(buffer, fromIndex, dest, destPos, count);
+            fromIndex += count;
+            destPos += count;
+        }
+        if (fromIndex < toIndex)
+        {
+            System.arraycopy(buffer, fromIndex + gapLength(), dest, destPos, toIndex - fromIndex);
+        }
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        add(size(), value);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right. Takes O(1) time when the index is where the gap
+     * is (such as right after the last value added), otherwise the gap is
+     * moved there first.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size())
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        openGap(index, 1);
+        buffer[gapStart++] = value;
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        addAll(size(), values);
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right. The gap is moved (or grown)
+     * once and the values are copied into it in a single block.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size())
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        openGap(index, values.length);
+        System.arraycopy(values, 0, buffer, gapStart, values.length);
+        gapStart += values.length;
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        //copy first - other might be this list
+        addAll(other.stream().toArray());
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (!isEmpty())
+        {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (!isEmpty())
+        {
+            remove(size() - 1);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list. Takes O(1) time when the value is
+     * right before or right after the gap (deleting backwards or forwards
+     * from a cursor), otherwise the gap is moved next to it first.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        checkIndex(index);
+        if (index < gapStart)
+        {
+            //grow the gap backwards over it
+            moveGap(index + 1);
+            return buffer[--gapStart];
+        }
+        else
+        {
+            //grow the gap forwards over it
+            moveGap(index);
+            return buffer[gapEnd++];
+        }
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left. A range that touches or
+     * spans the gap is simply taken into it; otherwise the gap is moved to
+     * the near end of the range first.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is
+     * greater than size(), or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+
+        if (toIndex <= gapStart)
+        {
+            moveGap(toIndex);
+            gapStart = fromIndex;
+        }
+        else if (fromIndex >= gapStart)
+        {
+            moveGap(fromIndex);
+            gapEnd += toIndex - fromIndex;
+        }
+        else
+        {
+            //the gap is inside the range - widen it both ways
+            gapEnd += toIndex - gapStart;
+            gapStart = fromIndex;
+        }
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        checkIndex(index);
+        return index < gapStart ? buffer[index] : buffer[index + gapLength()];
+    }
+
+    /**
+     * Replaces the value at the specified position in the list. The gap
+     * stays where it is.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void set(int index, int value)
+    {
+        checkIndex(index);
+        buffer[index < gapStart ? index : index + gapLength()] = value;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        //scan the values before the gap, then the ones after it
+        int found = IntScans.indexOf(buffer, 0, gapStart, value);
+        if (found != -1)
+        {
+            return found;
+        }
+        found = IntScans.indexOf(buffer, gapEnd, buffer.length, value);
+        return found == -1 ? -1 : found - gapLength();
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return buffer.length - gapLength();
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     * The gap move statistics are kept.
+     */
+    @Override
+    public void clear()
+    {
+        gapStart = 0;
+        gapEnd = buffer.length;
+    }
+
+    /**
+     * Sorts the values in this list into ascending order. The gap is moved
+     * to the back first so the values are in one piece.
+     */
+    @Override
+    public void sort()
+    {
+        moveGap(size());
+        IntSorts.sort(buffer, 0, gapStart);
+    }
+
+    /**
+     * Sorts the values in this list into ascending order, splitting the work
+     * across threads for big lists. The gap is moved to the back first so
+     * the values are in one piece.
+     */
+    @Override
+    public void parallelSort()
+    {
+        moveGap(size());
+        IntSorts.parallelSort(buffer, 0, gapStart);
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size())
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+    }
+
+    /**
+     * Returns the index the gap is at: the index the next value added
+     * without moving the gap would get.
+     *
+     * @return the index of the start of the gap
+     */
+    public int gapPosition()
+    {
+        return gapStart;
+    }
+
+    /**
+     * Returns the number of values the list can hold before it has to grow.
+     *
+     * @return the length of the buffer
+     */
+    public int capacity()
+    {
+        return buffer.length;
+    }
+
+    /**
+     * Returns how many times the gap has been moved to a different index
+     * (since the list was created or resetGapStats() was last called).
+     * Edits at the gap, and growing the buffer, don't count.
+     *
+     * @return the number of gap moves
+     */
+    public long gapMoveCount()
+    {
+        return gapMoveCount;
+    }
+
+    /**
+     * Returns how many values have been copied across the gap to move it
+     * (since the list was created or resetGapStats() was last called).
+     * Divided by gapMoveCount(), this is the average distance of a move.
+     *
+     * @return the total distance the gap has moved
+     */
+    public long gapMoveDistance()
+    {
+        return gapMoveDistance;
+    }
+
+    /**
+     * Sets the gap move count and distance back to zero, so that a
+     * particular stretch of work can be measured on its own.
+     */
+    public void resetGapStats()
+    {
+        gapMoveCount = 0;
+        gapMoveDistance = 0;
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new GapIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new GapIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+
+        //the values before the gap, then the ones after it
+        for (int i = 0; i < gapStart; i++)
+        {
+            action.accept(buffer[i]);
+        }
+        for (int i = gapEnd; i < buffer.length; i++)
+        {
+            action.accept(buffer[i]);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return Spliterators.spliterator(intIterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    //helper class/type that defines how the iterator works
+    private class GapIterator implements PrimitiveIterator.OfInt {
+
+        //position in the buffer, jumping over the gap
+        private int i;
+
+        public GapIterator() {
+            i = gapStart == 0 ? gapEnd : 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return i < buffer.length;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (i >= buffer.length)
+            {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            int currentValue = buffer[i++];
+            if (i == gapStart)
+            {
+                i = gapEnd;
+            }
+
+            return currentValue;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+    }
+}
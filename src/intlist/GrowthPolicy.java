@@ -0,0 +1,75 @@
+package intlist;
+
+/**
+ * A GrowthPolicy decides how big the buffer of an {@link ArrayIntList}
+ * becomes when it runs out of room. Growing by a larger factor means fewer
+ * copies while a list fills up; growing by a smaller factor wastes less
+ * memory once it has stopped growing.
+ */
+public interface GrowthPolicy
+{
+    /**
+     * Returns the capacity the buffer should grow to. If the answer is smaller
+     * than minCapacity (or overflows), the list uses minCapacity instead.
+     *
+     * @param currentCapacity the current length of the buffer
+     * @param minCapacity the smallest capacity that will fit the values being added
+     * @return the new capacity for the buffer
+     */
+    int newCapacity(int currentCapacity, int minCapacity);
+
+    /**
+     * Returns a policy that doubles the capacity every time it grows.
+     * This is the default policy for an ArrayIntList.
+     *
+     * @return a doubling growth policy
+     */
+    static GrowthPolicy doubling()
+    {
+        return (currentCapacity, minCapacity) -> currentCapacity * 2;
+    }
+
+    /**
+     * Returns a policy that grows the capacity by half (1.5x) every time it grows.
+     *
+     * @return a 1.5x growth policy
+     */
+    static GrowthPolicy oneAndAHalf()
+    {
+        return (currentCapacity, minCapacity) -> currentCapacity + (currentCapacity >> 1);
+    }
+
+    /**
+     * Returns a policy that adds the same number of slots every time it grows.
+     *
+     * @param increment number of slots to add each time
+     * @return a fixed increment growth policy
+     * @throws IllegalArgumentException if the increment is not positive
+     */
+    static GrowthPolicy fixedIncrement(int increment)
+    {
+        if (increment <= 0)
+        {
+            throw new IllegalArgumentException("Increment must be positive");
+        }
+        return (currentCapacity, minCapacity) -> currentCapacity + increment;
+    }
+
+    /**
+     * Returns a policy that doubles the capacity, but never adds more than
+     * maxIncrement slots at once. Small lists grow quickly and big lists
+     * don't reserve huge amounts of memory they may never use.
+     *
+     * @param maxIncrement the most slots to add each time
+     * @return a capped doubling growth policy
+     * @throws IllegalArgumentException if maxIncrement is not positive
+     */
+    static GrowthPolicy capped(int maxIncrement)
+    {
+        if (maxIncrement <= 0)
+        {
+            throw new IllegalArgumentException("Max increment must be positive");
+        }
+        return (currentCapacity, minCapacity) -> currentCapacity + Math.min(currentCapacity, maxIncrement);
+    }
+}
@@ -0,0 +1,569 @@
+package intlist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * A singly linked list with express lanes on top (an indexable skip list).
+ * The base level is an ordinary chain of nodes, one per value, just like
+ * LinkedIntList - iterating the list walks it node by node. On top of that,
+ * about one node in four also sits on lane 1, one in sixteen on lane 2, and
+ * so on, and each lane link records its span: how many positions it jumps.
+ *
+ * Finding an index starts on the highest lane and takes every jump that
+ * doesn't overshoot, dropping down a lane when the next one would. That
+ * takes expected O(log n) steps, so get, add and remove at any index are
+ * expected O(log n) instead of a walk from the head. Adding or removing a
+ * node relinks it on its own lanes and adjusts the spans of the links that
+ * pass over it - the rest of the list isn't touched.
+ *
+ * Runs of values (addAll at an index, removeRange) are found once and then
+ * spliced in or out in a single pass.
+ */
+public class IndexableSkipIntList implements IntList
+{
+    private static final int MAX_LEVELS = 16;   //plenty for 4^15 values
+
+    // define what a node is
+    private static class Node {
+        int data;
+        Node next;          //the base level: the next value in the list
+        Node[] lanes;       //lanes[l - 1] is the next node on lane l (null if this node is only on the base level)
+        int[] spans;        //spans[l - 1] is how many positions ahead lanes[l - 1] is
+
+        Node(int data, int levels)
+        {
+            this.data = data;
+            if (levels > 1)
+            {
+                lanes = new Node[levels - 1];
+                spans = new int[levels - 1];
+            }
+        }
+    }
+
+    //sits before index 0, on every lane
+    private Node head;
+    private int size;
+
+    //lanes in use, counting the base level
+    private int levels;
+
+    //the last node before an index on each lane, and its index (-1 for the
+    //head) - filled in by findPath
+    private final Node[] path;
+    private final int[] pathIndexes;
+
+    //xorshift state for picking how many lanes a new node goes on
+    private int seed;
+
+    public IndexableSkipIntList()
+    {
+        //initialize my fields
+        head = new Node(0, MAX_LEVELS);
+        size = 0;
+        levels = 1;
+        path = new Node[MAX_LEVELS];
+        pathIndexes = new int[MAX_LEVELS];
+        seed = 0x2545F491;
+    }
+
+    //the next node on lane level, and how far ahead it is. A null link at
+    //the end of a lane spans to one past the last value
+    private static Node forward(Node node, int level)
+    {
+        return level == 0 ? node.next : node.lanes[level - 1];
+    }
+
+    private static int span(Node node, int level)
+    {
+        return level == 0 ? 1 : node.spans[level - 1];
+    }
+
+    private static void setForward(Node node, int level, Node next)
+    {
+        if (level == 0)
+        {
+            node.next = next;
+        }
+        else
+        {
+            node.lanes[level - 1] = next;
+        }
+    }
+
+    //how many lanes a new node goes on: one more for every 1 in 4 chance
+    private int randomLevels()
+    {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return Math.min(1 + Integer.numberOfTrailingZeros(seed) / 2, MAX_LEVELS);
+    }
+
+    //fills in path with the last node before index on each lane in use
+    private void findPath(int index)
+    {
+        Node node = head;
+        int position = -1;
+        for (int level = levels - 1; level >= 0; level--)
+        {
+            Node next = forward(node, level);
+            while (next != null && position + span(node, level) < index)
+            {
+                position += span(node, level);
+                node = next;
+                next = forward(node, level);
+            }
+            path[level] = node;
+            pathIndexes[level] = position;
+        }
+    }
+
+    //links a new node in at index, just after path, and leaves path ready
+    //for the next index along
+    private void insertAtPath(int index, int value)
+    {
+        int nodeLevels = randomLevels();
+        if (nodeLevels > levels)
+        {
+            //new lanes start out as one long jump from the head to the end
+            for (int level = levels; level < nodeLevels; level++)
+            {
+                head.lanes[level - 1] = null;
+                head.spans[level - 1] = size + 1;
+                path[level] = head;
+                pathIndexes[level] = -1;
+            }
+            levels = nodeLevels;
+        }
+
+        Node newNode = new Node(value, nodeLevels);
+        for (int level = 0; level < nodeLevels; level++)
+        {
+            Node before = path[level];
+            if (level > 0)
+            {
+                //the old jump is split in two at the new node
+                int end = pathIndexes[level] + before.spans[level - 1] + 1;
+                newNode.spans[level - 1] = end - index;
+                before.spans[level - 1] = index - pathIndexes[level];
+            }
+            setForward(newNode, level, forward(before, level));
+            setForward(before, level, newNode);
+            path[level] = newNode;
+            pathIndexes[level] = index;
+        }
+
+        //higher lanes jump over the new node
+        for (int level = nodeLevels; level < levels; level++)
+        {
+            path[level].spans[level - 1]++;
+        }
+        size++;
+    }
+
+    //drops lanes that no longer have any nodes on them
+    private void trimLevels()
+    {
+        while (levels > 1 && head.lanes[levels - 2] == null)
+        {
+            levels--;
+        }
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        add(size, value);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right. Takes expected O(log n) time.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        findPath(index);
+        insertAtPath(index, value);
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        addAll(size, values);
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right. The position is found once,
+     * then each value is linked in after the one before it.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        findPath(index);
+        for (int i = 0; i < values.length; i++)
+        {
+            insertAtPath(index + i, values[i]);
+        }
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        //copy first - other might be this list
+        addAll(other.stream().toArray());
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (!isEmpty())
+        {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (!isEmpty())
+        {
+            remove(size - 1);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list. Takes expected O(log n) time.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        checkIndex(index);
+        findPath(index);
+        Node target = path[0].next;
+        for (int level = 0; level < levels; level++)
+        {
+            Node before = path[level];
+            if (forward(before, level) == target)
+            {
+                //unlink it, taking over its jump
+                if (level > 0)
+                {
+                    before.spans[level - 1] += target.spans[level - 1] - 1;
+                }
+                setForward(before, level, forward(target, level));
+            }
+            else
+            {
+                //the jump passes over it, and is now one shorter
+                before.spans[level - 1]--;
+            }
+        }
+        size--;
+        trimLevels();
+        return target.data;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left. Each lane is relinked once,
+     * straight past the range.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is
+     * greater than size(), or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        if (fromIndex == toIndex)
+        {
+            return;
+        }
+
+        findPath(fromIndex);
+        int removed = toIndex - fromIndex;
+        for (int level = 0; level < levels; level++)
+        {
+            //find the first node on this lane at or after toIndex
+            Node before = path[level];
+            Node next = forward(before, level);
+            int nextIndex = pathIndexes[level] + span(before, level);
+            while (next != null && nextIndex < toIndex)
+            {
+                nextIndex += span(next, level);
+                next = forward(next, level);
+            }
+
+            setForward(before, level, next);
+            if (level > 0)
+            {
+                before.spans[level - 1] = nextIndex - pathIndexes[level] - removed;
+            }
+        }
+        size -= removed;
+        trimLevels();
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     * Takes expected O(log n) time.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        checkIndex(index);
+        findPath(index);
+        return path[0].next.data;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        int index = 0;
+        for (Node current = head.next; current != null; current = current.next)
+        {
+            if (current.data == value)
+            {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear()
+    {
+        head = new Node(0, MAX_LEVELS);
+        size = 0;
+        levels = 1;
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new SkipIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints. It walks the base level only.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new SkipIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+
+        //walk the base level directly - no iterator object, no boxing
+        for (Node current = head.next; current != null; current = current.next)
+        {
+            action.accept(current.data);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. Splitting copies
+     * off batches of values walked along the base level.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return Spliterators.spliterator(intIterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    //helper class/type that defines how the iterator works
+    private class SkipIterator implements PrimitiveIterator.OfInt {
+
+        private Node current;
+
+        public SkipIterator() {
+            current = head.next;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return current != null;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (current == null)
+            {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            int currentValue = current.data;
+            current = current.next;
+
+            return currentValue;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+    }
+}
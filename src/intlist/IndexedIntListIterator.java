@@ -0,0 +1,129 @@
+package intlist;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * The IntListIterator used by lists that don't have one of their own. It
+ * keeps the cursor as an index and does everything through the list's
+ * indexed operations, which is cheap for the array-backed lists. set() goes
+ * through the list's own set(), so it never changes the list if it fails.
+ *
+ * Changes made behind its back are noticed when they change the size of
+ * the list.
+ */
+final class IndexedIntListIterator implements IntListIterator
+{
+    private final IntList list;
+    private int cursor;             //index of the value nextInt() returns
+    private int lastReturned;       //index of the value last returned, -1 if none
+    private int expectedSize;
+
+    IndexedIntListIterator(IntList list, int index)
+    {
+        if (index < 0 || index > list.size())
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        this.list = list;
+        this.cursor = index;
+        this.lastReturned = -1;
+        this.expectedSize = list.size();
+    }
+
+    private void checkForComodification()
+    {
+        if (list.size() != expectedSize)
+        {
+            throw new ConcurrentModificationException("The list was changed outside the iterator");
+        }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return cursor < expectedSize;
+    }
+
+    @Override
+    public int nextInt()
+    {
+        checkForComodification();
+        if (cursor >= expectedSize)
+        {
+            throw new NoSuchElementException("There is no next value");
+        }
+        lastReturned = cursor;
+        cursor++;
+        return list.get(lastReturned);
+    }
+
+    @Override
+    public boolean hasPrevious()
+    {
+        return cursor > 0;
+    }
+
+    @Override
+    public int previousInt()
+    {
+        checkForComodification();
+        if (cursor == 0)
+        {
+            throw new NoSuchElementException("There is no previous value");
+        }
+        cursor--;
+        lastReturned = cursor;
+        return list.get(lastReturned);
+    }
+
+    @Override
+    public int nextIndex()
+    {
+        return cursor;
+    }
+
+    @Override
+    public int previousIndex()
+    {
+        return cursor - 1;
+    }
+
+    @Override
+    public void remove()
+    {
+        if (lastReturned < 0)
+        {
+            throw new IllegalStateException("There is no value to remove");
+        }
+        checkForComodification();
+        list.remove(lastReturned);
+        if (lastReturned < cursor)
+        {
+            cursor--;
+        }
+        lastReturned = -1;
+        expectedSize = list.size();
+    }
+
+    @Override
+    public void set(int value)
+    {
+        if (lastReturned < 0)
+        {
+            throw new IllegalStateException("There is no value to set");
+        }
+        checkForComodification();
+        list.set(lastReturned, value);
+    }
+
+    @Override
+    public void add(int value)
+    {
+        checkForComodification();
+        list.add(cursor, value);
+        cursor++;
+        lastReturned = -1;
+        expectedSize = list.size();
+    }
+}
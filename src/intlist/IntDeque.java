@@ -0,0 +1,43 @@
+package intlist;
+
+/**
+ * The IntDeque interface is an IntList that is meant to be used from
+ * both ends (a double-ended queue). On top of the IntList operations it
+ * can look at or take the value at either end in a single call.
+ * Implementations add and remove at both ends in constant time.
+ */
+public interface IntDeque extends IntList
+{
+    /**
+     * Returns the value at the front of the list (at index 0).
+     *
+     * @return the value at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    int peekFront();
+
+    /**
+     * Returns the value at the back of the list (at index size()-1).
+     *
+     * @return the value at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    int peekBack();
+
+    /**
+     * Removes the value at the front of the list (at index 0) and returns it.
+     * Shifts any subsequent values to the left.
+     *
+     * @return the value that was at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    int popFront();
+
+    /**
+     * Removes the value at the back of the list (at index size()-1) and returns it.
+     *
+     * @return the value that was at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    int popBack();
+}
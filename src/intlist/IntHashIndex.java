@@ -0,0 +1,165 @@
+package intlist;
+
+import java.util.Arrays;
+
+/**
+ * A hash table from int values to the index where each value first appears
+ * in a list. It uses open addressing with linear probing over two parallel
+ * int arrays, so nothing is ever boxed and a lookup is usually a single
+ * probe. Used by ArrayIntList to answer contains and indexOf without a scan.
+ *
+ * The table is kept at most half full and grows by doubling.
+ */
+final class IntHashIndex
+{
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] keys;
+    private int[] indexes;  //first index of the key, plus one - 0 marks an empty slot
+    private int count;      //number of keys in the table
+
+    IntHashIndex()
+    {
+        keys = new int[DEFAULT_CAPACITY];
+        indexes = new int[DEFAULT_CAPACITY];
+        count = 0;
+    }
+
+    //Fibonacci hashing - spreads runs of nearby values across the table
+    private int slotOf(int key)
+    {
+        return (key * 0x9E3779B9) >>> (32 - Integer.numberOfTrailingZeros(keys.length));
+    }
+
+    /**
+     * Returns the first index of the key, or -1 if it isn't in the table.
+     */
+    int get(int key)
+    {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key); indexes[slot] != 0; slot = (slot + 1) & mask)
+        {
+            if (keys[slot] == key)
+            {
+                return indexes[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Records index as the first index of the key, unless the key is already
+     * in the table (at an earlier index).
+     */
+    void putIfAbsent(int key, int index)
+    {
+        int mask = keys.length - 1;
+        int slot = slotOf(key);
+        while (indexes[slot] != 0)
+        {
+            if (keys[slot] == key)
+            {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        indexes[slot] = index + 1;
+        count++;
+
+        if (count * 2 > keys.length)
+        {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Takes the key out of the table, if it is there.
+     */
+    void remove(int key)
+    {
+        int mask = keys.length - 1;
+        int slot = slotOf(key);
+        while (indexes[slot] != 0 && keys[slot] != key)
+        {
+            slot = (slot + 1) & mask;
+        }
+        if (indexes[slot] == 0)
+        {
+            return;
+        }
+
+        //shift later entries of the probe run back into the hole, so lookups
+        //never stop early at an empty slot (no tombstones needed)
+        int hole = slot;
+        for (int next = (hole + 1) & mask; indexes[next] != 0; next = (next + 1) & mask)
+        {
+            int home = slotOf(keys[next]);
+
+            //move the entry if its home slot isn't between the hole and it
+            if (((next - home) & mask) >= ((next - hole) & mask))
+            {
+                keys[hole] = keys[next];
+                indexes[hole] = indexes[next];
+                hole = next;
+            }
+        }
+        keys[hole] = 0;
+        indexes[hole] = 0;
+        count--;
+    }
+
+    /**
+     * Empties the table, and makes it big enough for expected keys without
+     * growing.
+     */
+    void clear(int expected)
+    {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < expected * 2)
+        {
+            capacity <<= 1;
+        }
+        if (capacity == keys.length)
+        {
+            Arrays.fill(indexes, 0);
+        }
+        else
+        {
+            keys = new int[capacity];
+            indexes = new int[capacity];
+        }
+        count = 0;
+    }
+
+    /**
+     * Returns the number of bytes taken up by the table's arrays.
+     */
+    long memoryUsage()
+    {
+        return 2L * Integer.BYTES * keys.length;
+    }
+
+    private void rehash(int newCapacity)
+    {
+        int[] oldKeys = keys;
+        int[] oldIndexes = indexes;
+        keys = new int[newCapacity];
+        indexes = new int[newCapacity];
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldIndexes[i] != 0)
+            {
+                int slot = slotOf(oldKeys[i]);
+                while (indexes[slot] != 0)
+                {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                indexes[slot] = oldIndexes[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package intlist;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The IntList interface defines a set of operations
+ * for an ordered (indexed) collection of ints, which
+ * in mathematics is known as a sequence.
+ */
+public interface IntList extends Iterable<Integer>
+{
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    void addFront(int value);
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    void addBack(int value);
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    void add(int index, int value);
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    void addAll(int[] values);
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    void addAll(int index, int[] values);
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    void addAll(IntList other);
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    void removeFront();
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    void removeBack();
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    int remove(int index);
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is
+     * greater than size(), or fromIndex is greater than toIndex
+     */
+    void removeRange(int fromIndex, int toIndex);
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    int get(int index);
+
+    /**
+     * Replaces the value at the specified position in the list. By default
+     * this is a remove() then an add() at the same index, and the old value
+     * is put back if the add() fails; lists that can write the slot in place
+     * override it.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    default void set(int index, int value)
+    {
+        int old = remove(index);
+        try
+        {
+            add(index, value);
+        }
+        catch (RuntimeException e)
+        {
+            //leave the list as it was
+            add(index, old);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    boolean contains(int value);
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    int indexOf(int value);
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    int size();
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    void clear();
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints. This is the fast path for
+     * traversing a list: unlike the boxed {@link #iterator()}, calling
+     * {@code nextInt()} never allocates an Integer.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    PrimitiveIterator.OfInt intIterator();
+
+    /**
+     * Returns an iterator that can walk this list in both directions and
+     * add, remove or replace values at its cursor, starting with the cursor
+     * in front of the given index. The linked lists do these edits in
+     * constant time; other lists use their indexed operations.
+     *
+     * @param index index of the first value to be returned by nextInt()
+     * @return a list iterator positioned at the index
+     * @throws IndexOutOfBoundsException if the index is not between 0 and size()
+     */
+    default IntListIterator listIterator(int index)
+    {
+        return new IndexedIntListIterator(this, index);
+    }
+
+    /**
+     * Returns a list iterator positioned at the front of this list.
+     *
+     * @return a list iterator over the values in this list
+     */
+    default IntListIterator listIterator()
+    {
+        return listIterator(0);
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing. Lambdas passed here need an explicit {@code int}
+     * parameter type, e.g. {@code list.forEach((int value) -> ...)},
+     * so they don't also match {@link Iterable#forEach}.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    void forEach(IntConsumer action);
+
+    /**
+     * Returns a primitive spliterator over the values in this list, in order.
+     * Array-backed lists split by index range; linked lists split off
+     * batches of values copied into an array.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    Spliterator.OfInt spliterator();
+
+    /**
+     * Returns a sequential IntStream with this list as its source.
+     *
+     * @return a sequential IntStream over the values in this list
+     */
+    default IntStream stream()
+    {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel IntStream with this list as its source.
+     * The work is split up using {@link #spliterator()} and run on the
+     * common fork-join pool.
+     *
+     * @return a possibly parallel IntStream over the values in this list
+     */
+    default IntStream parallelStream()
+    {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    /**
+     * Sorts the values in this list into ascending order. Equal values keep
+     * their order relative to each other. Lists that can, sort in place;
+     * by default the values are copied out, sorted and put back.
+     */
+    default void sort()
+    {
+        int[] values = stream().toArray();
+        Arrays.sort(values);
+        clear();
+        addAll(values);
+    }
+
+    /**
+     * Sorts the values in this list into ascending order like {@link #sort()},
+     * but splits the work across the common fork-join pool when the list is
+     * big enough for that to pay off.
+     */
+    default void parallelSort()
+    {
+        int[] values = stream().toArray();
+        Arrays.parallelSort(values);
+        clear();
+        addAll(values);
+    }
+
+    /**
+     * Writes this list to the channel in a compact binary format: a small
+     * header (magic number, version, count, byte order and a CRC32C
+     * checksum) followed by the values as raw little-endian ints.
+     * The channel is not closed.
+     *
+     * @param channel where to write the list
+     * @throws IOException if the channel can't be written to
+     */
+    default void writeTo(WritableByteChannel channel) throws IOException
+    {
+        int[] values = stream().toArray();
+        IntListFormat.write(channel, values, values.length);
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo(WritableByteChannel)} from the
+     * channel and appends its values to the back of this list, in order.
+     * If the data is truncated, isn't a list, or doesn't match its checksum,
+     * an exception is thrown and this list is left unchanged.
+     * The channel is not closed.
+     *
+     * @param channel where to read the list from
+     * @throws IOException if the channel can't be read, or doesn't hold a valid list
+     */
+    default void readFrom(ReadableByteChannel channel) throws IOException
+    {
+        addAll(IntListFormat.readAll(channel));
+    }
+}
@@ -0,0 +1,296 @@
+package intlist;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads and writes the binary format used by {@link IntList#writeTo} and
+ * {@link IntList#readFrom}.
+ *
+ * The format is a 24 byte header followed by the values as raw ints:
+ * <pre>
+ *  offset  size  field
+ *       0     4  magic number, the bytes "INTS"
+ *       4     2  format version (1)
+ *       6     1  byte order of the values: 1 = little-endian, 2 = big-endian
+ *       7     1  reserved (0)
+ *       8     8  number of values
+ *      16     4  CRC32C checksum of the value bytes
+ *      20     4  reserved (0)
+ * </pre>
+ * The header fields are always little-endian. Values are always written
+ * little-endian, but either byte order can be read.
+ *
+ * Data moves through a reusable direct buffer in large chunks, so the
+ * channel sees a few big reads and writes instead of one per value.
+ *
+ * The count in the header isn't covered by the checksum, so it is never
+ * trusted to size an allocation on its own: it is checked against the
+ * bytes left in a seekable channel, and otherwise the values are loaded
+ * into storage that grows as they actually arrive.
+ */
+final class IntListFormat
+{
+    static final int HEADER_BYTES = 24;
+
+    //"INTS" as a little-endian int
+    private static final int MAGIC = 0x53544E49;
+    private static final short VERSION = 1;
+    private static final byte LITTLE_ENDIAN = 1;
+    private static final byte BIG_ENDIAN = 2;
+
+    //values per chunk (4 MB of bytes)
+    private static final int CHUNK_INTS = 1 << 20;
+
+    private IntListFormat()
+    {
+    }
+
+    /**
+     * Writes count values from the start of the array to the channel. The
+     * values are gone over twice: once to work out the checksum for the
+     * header, and once to write them.
+     *
+     * @param channel where to write the list
+     * @param values array holding the values
+     * @param count number of values to write
+     * @throws IOException if the channel can't be written to
+     */
+    static void write(WritableByteChannel channel, int[] values, int count) throws IOException
+    {
+        ByteBuffer chunk = newChunk(count, ByteOrder.LITTLE_ENDIAN);
+
+        CRC32C checksum = new CRC32C();
+        for (int offset = 0; offset < count; offset += CHUNK_INTS)
+        {
+            fillChunk(chunk, values, offset, Math.min(CHUNK_INTS, count - offset));
+            checksum.update(chunk);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.put(LITTLE_ENDIAN);
+        header.put((byte) 0);
+        header.putLong(count);
+        header.putInt((int) checksum.getValue());
+        header.putInt(0);
+        header.flip();
+        writeFully(channel, header);
+
+        for (int offset = 0; offset < count; offset += CHUNK_INTS)
+        {
+            fillChunk(chunk, values, offset, Math.min(CHUNK_INTS, count - offset));
+            writeFully(channel, chunk);
+        }
+    }
+
+    /**
+     * Reads a whole list from the channel into a new array. Unless the
+     * channel's length has already shown the values are all there, the
+     * array starts at one chunk and doubles as values arrive, so a header
+     * claiming far more values than the channel holds fails with an
+     * EOFException rather than a huge allocation.
+     *
+     * @param channel where to read the list from
+     * @return the values in the list
+     * @throws IOException if the channel can't be read, or doesn't hold a valid list
+     */
+    static int[] readAll(ReadableByteChannel channel) throws IOException
+    {
+        Reader reader = new Reader(channel);
+        if (reader.count() > Integer.MAX_VALUE)
+        {
+            throw new IOException("List is too big to load: " + reader.count() + " values");
+        }
+        int count = (int) reader.count();
+
+        int[] values = new int[reader.countConfirmed() ? count : Math.min(count, CHUNK_INTS)];
+        int filled = 0;
+        while (filled < count)
+        {
+            if (filled == values.length)
+            {
+                values = Arrays.copyOf(values, (int) Math.min(count, 2L * values.length));
+            }
+            filled += reader.read(values, filled, values.length - filled);
+        }
+        reader.verify();
+        return values;
+    }
+
+    //copies count values starting at offset into the chunk, ready to be read from
+    private static void fillChunk(ByteBuffer chunk, int[] values, int offset, int count)
+    {
+        chunk.clear();
+        chunk.asIntBuffer().put(values, offset, count);
+        chunk.limit(count * Integer.BYTES);
+    }
+
+    //a direct buffer big enough for one chunk (or the whole list, if that's smaller)
+    private static ByteBuffer newChunk(long count, ByteOrder order)
+    {
+        int ints = (int) Math.max(1, Math.min(CHUNK_INTS, count));
+        return ByteBuffer.allocateDirect(ints * Integer.BYTES).order(order);
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer bytes) throws IOException
+    {
+        while (bytes.hasRemaining())
+        {
+            channel.write(bytes);
+        }
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer bytes) throws IOException
+    {
+        while (bytes.hasRemaining())
+        {
+            if (channel.read(bytes) < 0)
+            {
+                throw new EOFException("The list ended early");
+            }
+        }
+    }
+
+    /**
+     * Reads the values of one list from a channel, chunk by chunk, straight
+     * into whatever int[] the caller hands it. The header is read and checked
+     * as soon as the reader is created; the checksum is checked by verify()
+     * once all the values have been read.
+     */
+    static final class Reader
+    {
+        private final ReadableByteChannel channel;
+        private final long count;
+        private final int expectedChecksum;
+        private final CRC32C checksum;
+        private final ByteBuffer chunk;
+        private final boolean countConfirmed;
+        private long remaining;
+
+        Reader(ReadableByteChannel channel) throws IOException
+        {
+            this.channel = channel;
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header);
+            header.flip();
+
+            if (header.getInt() != MAGIC)
+            {
+                throw new IOException("Not an int list");
+            }
+            short version = header.getShort();
+            if (version != VERSION)
+            {
+                throw new IOException("Unsupported int list version " + version);
+            }
+            byte orderFlag = header.get();
+            ByteOrder order;
+            if (orderFlag == LITTLE_ENDIAN)
+            {
+                order = ByteOrder.LITTLE_ENDIAN;
+            }
+            else if (orderFlag == BIG_ENDIAN)
+            {
+                order = ByteOrder.BIG_ENDIAN;
+            }
+            else
+            {
+                throw new IOException("Unknown byte order " + orderFlag);
+            }
+            header.get();
+            count = header.getLong();
+            if (count < 0)
+            {
+                throw new IOException("Int list is corrupt");
+            }
+            expectedChecksum = header.getInt();
+
+            //when the channel knows its length, a count that can't fit in
+            //what's left is caught before anything is allocated for it
+            if (channel instanceof SeekableByteChannel seekable)
+            {
+                long bytesLeft = seekable.size() - seekable.position();
+                if (count > bytesLeft / Integer.BYTES)
+                {
+                    throw new EOFException("The list ended early");
+                }
+                countConfirmed = true;
+            }
+            else
+            {
+                countConfirmed = false;
+            }
+
+            checksum = new CRC32C();
+            chunk = newChunk(count, order);
+            remaining = count;
+        }
+
+        /**
+         * Returns the number of values in the list being read.
+         */
+        long count()
+        {
+            return count;
+        }
+
+        /**
+         * Returns true if the channel's length has already shown that all
+         * count() values are there, so it is safe to allocate room for them
+         * up front. Otherwise room should be made as the values arrive.
+         */
+        boolean countConfirmed()
+        {
+            return countConfirmed;
+        }
+
+        /**
+         * Reads up to max values into target, starting at offset, and returns
+         * how many were read. Returns 0 once every value has been read.
+         */
+        int read(int[] target, int offset, int max) throws IOException
+        {
+            int ints = (int) Math.min(Math.min(max, remaining), chunk.capacity() / Integer.BYTES);
+            if (ints == 0)
+            {
+                return 0;
+            }
+
+            chunk.clear();
+            chunk.limit(ints * Integer.BYTES);
+            readFully(channel, chunk);
+            chunk.flip();
+            checksum.update(chunk.duplicate());
+            chunk.asIntBuffer().get(target, offset, ints);
+
+            remaining -= ints;
+            return ints;
+        }
+
+        /**
+         * Throws if the values read don't match the checksum in the header.
+         * Call it once all the values have been read.
+         */
+        void verify() throws IOException
+        {
+            if (remaining != 0)
+            {
+                throw new IllegalStateException("Not all the values have been read");
+            }
+            if ((int) checksum.getValue() != expectedChecksum)
+            {
+                throw new IOException("Int list checksum does not match");
+            }
+        }
+    }
+}
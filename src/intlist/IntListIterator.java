@@ -0,0 +1,93 @@
+package intlist;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * An iterator over an IntList that can move in both directions and change
+ * the list as it goes - the primitive int version of java.util.ListIterator.
+ *
+ * The cursor always sits between two values (or before the first, or after
+ * the last). nextInt() and previousInt() step over a value and return it;
+ * remove() and set() then act on that value, and add() inserts in front of
+ * the cursor. On the linked lists all of these are constant time, so a
+ * list can be filtered or edited in a single pass.
+ *
+ * If the list is changed other than through this iterator, the iterator
+ * throws a ConcurrentModificationException the next time it is used.
+ */
+public interface IntListIterator extends PrimitiveIterator.OfInt
+{
+    /**
+     * Returns true if there is a value after the cursor.
+     *
+     * @return true if nextInt() would return a value
+     */
+    @Override
+    boolean hasNext();
+
+    /**
+     * Returns the value after the cursor and moves the cursor past it.
+     *
+     * @return the next value in the list
+     * @throws java.util.NoSuchElementException if there is no next value
+     */
+    @Override
+    int nextInt();
+
+    /**
+     * Returns true if there is a value before the cursor.
+     *
+     * @return true if previousInt() would return a value
+     */
+    boolean hasPrevious();
+
+    /**
+     * Returns the value before the cursor and moves the cursor back over it.
+     *
+     * @return the previous value in the list
+     * @throws java.util.NoSuchElementException if there is no previous value
+     */
+    int previousInt();
+
+    /**
+     * Returns the index of the value that nextInt() would return,
+     * or size() if the cursor is at the end of the list.
+     *
+     * @return the index of the value after the cursor
+     */
+    int nextIndex();
+
+    /**
+     * Returns the index of the value that previousInt() would return,
+     * or -1 if the cursor is at the front of the list.
+     *
+     * @return the index of the value before the cursor
+     */
+    int previousIndex();
+
+    /**
+     * Removes the value last returned by nextInt() or previousInt().
+     * Can only be called once per call to one of those, and not after add().
+     *
+     * @throws IllegalStateException if there is no value to remove
+     */
+    @Override
+    void remove();
+
+    /**
+     * Replaces the value last returned by nextInt() or previousInt().
+     *
+     * @param value the new value
+     * @throws IllegalStateException if nextInt() or previousInt() hasn't been
+     * called, or remove() or add() has been called since
+     */
+    void set(int value);
+
+    /**
+     * Inserts the value in front of the cursor: a following nextInt() is not
+     * affected, and a following previousInt() returns the new value.
+     *
+     * @param value value to be inserted
+     */
+    void add(int value);
+}
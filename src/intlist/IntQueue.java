@@ -0,0 +1,82 @@
+package intlist;
+
+import java.util.function.IntConsumer;
+
+/**
+ * The IntQueue interface is a bounded first-in, first-out queue of ints for
+ * handing values from one thread to another. Unlike an IntList it has no
+ * indexes: values go in at the back with offer() and come out of the front
+ * with poll(IntConsumer) or drainTo(), and a full queue refuses new values
+ * instead of growing. Neither of those throws when the queue is empty -
+ * for a consumer spinning on a queue, empty is the normal case.
+ *
+ * Which threads may offer and which may poll at the same time is up to the
+ * implementation - see {@link SpscArrayIntQueue} and {@link MpscArrayIntQueue}.
+ */
+public interface IntQueue
+{
+    /**
+     * Adds the value to the back of the queue, if there is room for it.
+     *
+     * @param value value to be added
+     * @return true if the value was added, false if the queue was full
+     */
+    boolean offer(int value);
+
+    /**
+     * Removes the value at the front of the queue, if there is one, and
+     * hands it to the action. This is the way to poll in a loop: an empty
+     * queue just returns false.
+     *
+     * @param action what to do with the value
+     * @return true if a value was taken, false if the queue was empty
+     * @throws NullPointerException if the action is null
+     */
+    boolean poll(IntConsumer action);
+
+    /**
+     * Removes the value at the front of the queue and returns it.
+     * A convenience for when the queue is known to hold a value - an empty
+     * queue costs an exception, so loops waiting for values should use
+     * {@link #poll(IntConsumer)} instead.
+     *
+     * @return the value that was at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    int poll();
+
+    /**
+     * Removes up to limit values from the front of the queue, in order, and
+     * hands each one to the action. Cheaper than polling them one at a time,
+     * since the consumer only publishes its progress once for the whole batch.
+     *
+     * @param action what to do with each value
+     * @param limit the most values to take
+     * @return how many values were taken
+     * @throws NullPointerException if the action is null
+     */
+    int drainTo(IntConsumer action, int limit);
+
+    /**
+     * Returns true if there is no value ready to be polled.
+     *
+     * @return true if the queue is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of values in the queue. While other threads are
+     * using the queue this is only a snapshot, and may be out of date by the
+     * time it is returned.
+     *
+     * @return the number of values in the queue
+     */
+    int size();
+
+    /**
+     * Returns the most values the queue can hold at once.
+     *
+     * @return the capacity of the queue
+     */
+    int capacity();
+}
@@ -0,0 +1,150 @@
+package intlist;
+
+/**
+ * Scans over a range of an int[] - searching, counting and reductions -
+ * shared by the array-backed lists.
+ *
+ * When the jdk.incubator.vector module is available (the JVM was started
+ * with {@code --add-modules jdk.incubator.vector}) the scans go through
+ * {@link VectorIntScans}, which compares a whole SIMD register of ints per
+ * step. Otherwise, or if the system property {@code intlist.vector} is set
+ * to false, they fall back to the plain loops in this class. Both give the
+ * same answers.
+ */
+final class IntScans
+{
+    //decided once, the first time a scan runs
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && Boolean.parseBoolean(System.getProperty("intlist.vector", "true"));
+
+    private IntScans()
+    {
+    }
+
+    //index of the first value in [from, to) equal to value, or -1
+    static int indexOf(int[] values, int from, int to, int value)
+    {
+        if (VECTORIZED)
+        {
+            return VectorIntScans.indexOf(values, from, to, value);
+        }
+        return scalarIndexOf(values, from, to, value);
+    }
+
+    //index of the last value in [from, to) equal to value, or -1
+    static int lastIndexOf(int[] values, int from, int to, int value)
+    {
+        if (VECTORIZED)
+        {
+            return VectorIntScans.lastIndexOf(values, from, to, value);
+        }
+        return scalarLastIndexOf(values, from, to, value);
+    }
+
+    //how many values in [from, to) are equal to value
+    static int count(int[] values, int from, int to, int value)
+    {
+        if (VECTORIZED)
+        {
+            return VectorIntScans.count(values, from, to, value);
+        }
+        return scalarCount(values, from, to, value);
+    }
+
+    //sum of the values in [from, to), added up as longs so it can't overflow
+    static long sum(int[] values, int from, int to)
+    {
+        if (VECTORIZED)
+        {
+            return VectorIntScans.sum(values, from, to);
+        }
+        return scalarSum(values, from, to);
+    }
+
+    //smallest value in [from, to), which must not be empty
+    static int min(int[] values, int from, int to)
+    {
+        if (VECTORIZED)
+        {
+            return VectorIntScans.min(values, from, to);
+        }
+        return scalarMin(values, from, to);
+    }
+
+    //biggest value in [from, to), which must not be empty
+    static int max(int[] values, int from, int to)
+    {
+        if (VECTORIZED)
+        {
+            return VectorIntScans.max(values, from, to);
+        }
+        return scalarMax(values, from, to);
+    }
+
+    static int scalarIndexOf(int[] values, int from, int to, int value)
+    {
+        for (int i = from; i < to; i++)
+        {
+            if (values[i] == value)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int scalarLastIndexOf(int[] values, int from, int to, int value)
+    {
+        for (int i = to - 1; i >= from; i--)
+        {
+            if (values[i] == value)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int scalarCount(int[] values, int from, int to, int value)
+    {
+        int count = 0;
+        for (int i = from; i < to; i++)
+        {
+            if (values[i] == value)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static long scalarSum(int[] values, int from, int to)
+    {
+        long sum = 0;
+        for (int i = from; i < to; i++)
+        {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    static int scalarMin(int[] values, int from, int to)
+    {
+        int min = values[from];
+        for (int i = from + 1; i < to; i++)
+        {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    static int scalarMax(int[] values, int from, int to)
+    {
+        int max = values[from];
+        for (int i = from + 1; i < to; i++)
+        {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,225 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * LSD radix sorts over a range of an int[], used by the array-backed lists.
+ *
+ * Each pass of the sort distributes the values by one byte, from the lowest
+ * byte to the highest, into a scratch array and back - four passes, each a
+ * straight run over memory, with no comparisons at all. The sign bit is
+ * flipped when picking the top byte so negative values come first. A pass
+ * whose byte is the same for every value can't change anything, so it is
+ * skipped (small values only ever need one or two passes).
+ *
+ * The parallel version splits each pass into chunks for the common
+ * fork-join pool: every chunk counts its own bytes, the counts are turned
+ * into a separate starting offset for each chunk, and then every chunk
+ * moves its values into place without getting in another's way.
+ */
+final class IntSorts
+{
+    private static final int BITS = 8;
+    private static final int RADIX = 1 << BITS;
+    private static final int MASK = RADIX - 1;
+    private static final int PASSES = Integer.SIZE / BITS;
+
+    //below this many values a comparison sort is quicker than four passes
+    private static final int RADIX_THRESHOLD = 256;
+
+    //below this many values splitting the work up costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    //smallest chunk a parallel pass hands to one task
+    private static final int MIN_CHUNK = 1 << 14;
+
+    private IntSorts()
+    {
+    }
+
+    //the byte of value that pass sorts on, with the sign bit flipped
+    private static int digit(int value, int pass)
+    {
+        return ((value ^ Integer.MIN_VALUE) >>> (pass * BITS)) & MASK;
+    }
+
+    /**
+     * Sorts values[from, to) into ascending order.
+     */
+    static void sort(int[] values, int from, int to)
+    {
+        int n = to - from;
+        if (n < RADIX_THRESHOLD)
+        {
+            Arrays.sort(values, from, to);
+            return;
+        }
+
+        //count every pass's bytes in one read of the values
+        int[][] counts = new int[PASSES][RADIX];
+        for (int i = from; i < to; i++)
+        {
+            int value = values[i];
+            for (int pass = 0; pass < PASSES; pass++)
+            {
+                counts[pass][digit(value, pass)]++;
+            }
+        }
+
+        int[] source = values;
+        int sourceFrom = from;
+        int[] target = new int[n];
+        int targetFrom = 0;
+        for (int pass = 0; pass < PASSES; pass++)
+        {
+            int[] offsets = counts[pass];
+            if (allInOneBucket(offsets, n))
+            {
+                continue;
+            }
+
+            //turn the counts into where each bucket starts
+            int next = targetFrom;
+            for (int d = 0; d < RADIX; d++)
+            {
+                int count = offsets[d];
+                offsets[d] = next;
+                next += count;
+            }
+
+            //then move every value into its bucket, keeping their order
+            for (int i = sourceFrom; i < sourceFrom + n; i++)
+            {
+                int value = source[i];
+                target[offsets[digit(value, pass)]++] = value;
+            }
+
+            //the values just written are the input to the next pass
+            int[] swap = source;
+            source = target;
+            target = swap;
+            int swapFrom = sourceFrom;
+            sourceFrom = targetFrom;
+            targetFrom = swapFrom;
+        }
+
+        if (source != values)
+        {
+            System.arraycopy(source, sourceFrom, values, from, n);
+        }
+    }
+
+    /**
+     * Sorts values[from, to) into ascending order, splitting the work across
+     * the common fork-join pool when the range is big enough to be worth it.
+     */
+    static void parallelSort(int[] values, int from, int to)
+    {
+        int n = to - from;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (n < PARALLEL_THRESHOLD || parallelism < 2)
+        {
+            sort(values, from, to);
+            return;
+        }
+
+        //a few chunks per thread, so a slow one doesn't hold the others up
+        parallelSort(values, from, to, Math.max(2, Math.min(parallelism * 4, n / MIN_CHUNK)));
+    }
+
+    /**
+     * Sorts values[from, to) into ascending order with every pass split into
+     * the given number of chunks, however small the range or the pool is.
+     */
+    static void parallelSort(int[] values, int from, int to, int chunks)
+    {
+        if (chunks < 1)
+        {
+            throw new IllegalArgumentException("Chunk count must be positive");
+        }
+        int n = to - from;
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        int[] source = values;
+        int sourceFrom = from;
+        int[] target = new int[n];
+        int targetFrom = 0;
+        for (int pass = 0; pass < PASSES; pass++)
+        {
+            int[] passSource = source;
+            int passSourceFrom = sourceFrom;
+            int[] passTarget = target;
+            int passNumber = pass;
+
+            //each chunk counts its own bytes
+            int[][] offsets = new int[chunks][RADIX];
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int[] counts = offsets[chunk];
+                int start = passSourceFrom + chunk * chunkSize;
+                int end = Math.min(start + chunkSize, passSourceFrom + n);
+                for (int i = start; i < end; i++)
+                {
+                    counts[digit(passSource[i], passNumber)]++;
+                }
+            });
+
+            //bucket d starts after every smaller bucket, and within bucket d
+            //each chunk's values go after the values of the chunks before it
+            int next = targetFrom;
+            boolean skip = false;
+            for (int d = 0; d < RADIX && !skip; d++)
+            {
+                int bucketStart = next;
+                for (int chunk = 0; chunk < chunks; chunk++)
+                {
+                    int count = offsets[chunk][d];
+                    offsets[chunk][d] = next;
+                    next += count;
+                }
+                skip = (next - bucketStart == n);
+            }
+            if (skip)
+            {
+                //every value has the same byte here - nothing would move
+                continue;
+            }
+
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int[] chunkOffsets = offsets[chunk];
+                int start = passSourceFrom + chunk * chunkSize;
+                int end = Math.min(start + chunkSize, passSourceFrom + n);
+                for (int i = start; i < end; i++)
+                {
+                    int value = passSource[i];
+                    passTarget[chunkOffsets[digit(value, passNumber)]++] = value;
+                }
+            });
+
+            int[] swap = source;
+            source = target;
+            target = swap;
+            int swapFrom = sourceFrom;
+            sourceFrom = targetFrom;
+            targetFrom = swapFrom;
+        }
+
+        if (source != values)
+        {
+            System.arraycopy(source, sourceFrom, values, from, n);
+        }
+    }
+
+    private static boolean allInOneBucket(int[] counts, int n)
+    {
+        for (int count : counts)
+        {
+            if (count != 0)
+            {
+                return count == n;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,923 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+public class LinkedIntList implements IntList {
+
+    // define what a node is
+    private class Node {
+        int data;
+        Node next;
+    }
+
+    // set up the head field
+    private Node head;
+
+    // set up the size field
+    private int size;
+
+    //counts structural changes, so list iterators can tell when the
+    //list was changed behind their backs
+    private int modCount;
+
+    //add a constructor to initialize
+    public LinkedIntList()
+    {
+        head = null;
+        size = 0;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        //considerations: empty list
+        modCount++;
+
+        // set up a new node
+        Node newNode = new Node();
+
+        if (head == null) {
+            // the list is currently empty
+            head = newNode;
+            head.data = value;
+            size++;
+        }
+        else {
+            // the list currently has some nodes in it
+            newNode.next = head;
+            head = newNode;
+            head.data = value;
+            size++;
+        }
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        //considerations: empty list
+        //create a current to traverse list
+        //create new node
+        modCount++;
+        Node current = head;
+        Node node = new Node();
+        node.data = value;
+
+        if (head == null) {
+            // the list is currently empty
+            head = node;
+        }
+        else {
+            //otherwise, assign the current.next to the new value
+            while (current.next != null)
+            {
+                current = current.next;
+            }
+            current.next = node;
+        }
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        //considerations: empty list or invalid index
+        //invalid index
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        modCount++;
+
+        Node newNode = new Node();
+        newNode.data = value;
+
+        //index 0 (or an empty list) - the new node becomes the head
+        if (index == 0 || head == null)
+        {
+            newNode.next = head;
+            head = newNode;
+        }
+        else
+        {
+            //move through to the node just before index
+            Node previousNode = head;
+            for (int currentIndex = 1; currentIndex < index; currentIndex++)
+            {
+                previousNode = previousNode.next;
+            }
+
+            //shift everything over by reassigning
+            newNode.next = previousNode.next;
+            previousNode.next = newNode;
+        }
+        size++;
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        spliceAfter(lastNode(), Arrays.stream(values).iterator());
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+
+        //index 0 goes in front of the head, anything else goes after
+        //the node at index - 1
+        Node previous = null;
+        if (index > 0)
+        {
+            previous = nodeAt(index - 1);
+        }
+        spliceAfter(previous, Arrays.stream(values).iterator());
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        spliceAfter(lastNode(), other.intIterator());
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        Node current = head;
+        //consider: empty list
+        if (head == null)
+        {
+            throw new NoSuchElementException("The list is empty");
+        }
+        modCount++;
+        head = current.next;
+        size--;
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        //consider: empty list
+        if (head == null)
+        {
+            return;
+        }
+        modCount++;
+
+        if (head.next == null)
+        {
+            // only one node - the list is now empty
+            head = null;
+        }
+        else
+        {
+            //stop at the second to last node and cut the last one off
+            Node current = head;
+            while (current.next.next != null)
+            {
+                current = current.next;
+            }
+            current.next = null;
+        }
+        size--;
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        if (index < 0 || head == null)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+
+        Node current;
+        if (index == 0)
+        {
+            current = head;
+            head = current.next;
+        }
+        else
+        {
+            //unlink the node after previous
+            Node previous = nodeAt(index - 1);
+            current = previous.next;
+            if (current == null)
+            {
+                throw new IndexOutOfBoundsException("Index is out of range");
+            }
+            previous.next = current.next;
+        }
+        size--;
+        modCount++;
+        return current.data;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if the range is out of range
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        if (fromIndex == toIndex)
+        {
+            return;
+        }
+
+        //find the node just before the range (null if the range starts at the head)
+        //and the last node in the range, then cut the whole run out at once
+        Node previous = null;
+        if (fromIndex > 0)
+        {
+            previous = nodeAt(fromIndex - 1);
+        }
+        Node last = (previous == null) ? head : previous.next;
+        for (int i = fromIndex + 1; i < toIndex && last != null; i++)
+        {
+            last = last.next;
+        }
+        if (last == null)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+
+        if (previous == null)
+        {
+            head = last.next;
+        }
+        else
+        {
+            previous.next = last.next;
+        }
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        Node current = head;
+        int currentIndex = 0;
+
+        while (currentIndex != index && current.next != null)
+        {
+            current = current.next;
+            currentIndex++;
+        }
+        return current.data;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        Node current = head;
+        int currentIndex = 0;
+        while (current != null)
+        {
+            if (current.data == value)
+            {
+                return currentIndex;
+            }
+            current = current.next;
+            currentIndex++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return head == null;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear()
+    {
+        head = null;
+        size = 0;
+        modCount++;
+    }
+
+    //returns the node at the given index, walking from the head
+    private Node nodeAt(int index)
+    {
+        Node current = head;
+        for (int i = 0; i < index && current != null; i++)
+        {
+            current = current.next;
+        }
+        if (current == null)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        return current;
+    }
+
+    //returns the last node in the list, or null if the list is empty
+    private Node lastNode()
+    {
+        Node current = head;
+        if (current == null)
+        {
+            return null;
+        }
+        while (current.next != null)
+        {
+            current = current.next;
+        }
+        return current;
+    }
+
+    //builds a chain of new nodes holding the given values off to the side,
+    //then links the whole chain in right after previous (or at the front
+    //of the list if previous is null)
+    private void spliceAfter(Node previous, PrimitiveIterator.OfInt values)
+    {
+        Node first = null;
+        Node last = null;
+        int count = 0;
+        while (values.hasNext())
+        {
+            Node newNode = new Node();
+            newNode.data = values.nextInt();
+            if (first == null)
+            {
+                first = newNode;
+            }
+            else
+            {
+                last.next = newNode;
+            }
+            last = newNode;
+            count++;
+        }
+
+        //nothing to add
+        if (first == null)
+        {
+            return;
+        }
+
+        if (previous == null)
+        {
+            last.next = head;
+            head = first;
+        }
+        else
+        {
+            last.next = previous.next;
+            previous.next = first;
+        }
+        size += count;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        SinglyLinkedIterator theIterator = new SinglyLinkedIterator();
+        return theIterator;
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new SinglyLinkedIterator();
+    }
+
+    /**
+     * Returns an iterator that can walk this list in both directions and
+     * add, remove or replace values at its cursor, starting with the cursor
+     * in front of the given index. Edits at the cursor relink a node or two
+     * and take constant time; previousInt() has to walk from the head to
+     * find the node before the cursor, since the nodes only link forwards.
+     *
+     * @param index index of the first value to be returned by nextInt()
+     * @return a list iterator positioned at the index
+     * @throws IndexOutOfBoundsException if the index is not between 0 and size()
+     */
+    @Override
+    public IntListIterator listIterator(int index)
+    {
+        return new SinglyLinkedListIterator(index);
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. The nodes can't
+     * be split by index, so each split copies the next batch of values into
+     * an array (batches grow as the walk goes on) and hands that off instead.
+     * It knows exactly how many values are left, so it is SIZED.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return new LinkedIntSpliterator(intIterator(), size);
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+
+        //walk the nodes directly - no iterator object, no boxing
+        Node current = head;
+        while (current != null)
+        {
+            action.accept(current.data);
+            current = current.next;
+        }
+    }
+
+    /**
+     * Sorts the values in this list into ascending order. Equal values keep
+     * their order relative to each other. This is a bottom-up merge sort
+     * that relinks the existing nodes - runs of 1, then 2, 4, ... values
+     * are merged in passes over the list - so it needs no extra memory and
+     * allocates no new nodes.
+     */
+    @Override
+    public void sort()
+    {
+        //nothing to do with fewer than two values
+        if (head == null || head.next == null)
+        {
+            return;
+        }
+
+        int width = 1;
+        int merges;
+        do
+        {
+            Node remaining = head;
+            Node sortedHead = null;
+            Node sortedTail = null;
+            merges = 0;
+            while (remaining != null)
+            {
+                //cut the next two runs off the front of what is left
+                Node left = remaining;
+                Node right = cutAfter(left, width);
+                remaining = cutAfter(right, width);
+                merges++;
+
+                //merge them onto the back of the sorted part, taking from
+                //the left run on ties so equal values stay in order
+                while (left != null && right != null)
+                {
+                    Node smaller;
+                    if (left.data <= right.data)
+                    {
+                        smaller = left;
+                        left = left.next;
+                    }
+                    else
+                    {
+                        smaller = right;
+                        right = right.next;
+                    }
+
+                    if (sortedTail == null)
+                    {
+                        sortedHead = smaller;
+                    }
+                    else
+                    {
+                        sortedTail.next = smaller;
+                    }
+                    sortedTail = smaller;
+                }
+
+                //whichever run is left over is already in order
+                Node rest = (left != null) ? left : right;
+                if (sortedTail == null)
+                {
+                    sortedHead = rest;
+                    sortedTail = rest;
+                }
+                else
+                {
+                    sortedTail.next = rest;
+                }
+                while (sortedTail.next != null)
+                {
+                    sortedTail = sortedTail.next;
+                }
+            }
+            head = sortedHead;
+            width *= 2;
+        }
+        while (merges > 1);
+
+        modCount++;
+    }
+
+    //ends the run of up to count nodes starting at start, and returns the
+    //node that came after it (null if the list ran out)
+    private Node cutAfter(Node start, int count)
+    {
+        if (start == null)
+        {
+            return null;
+        }
+        for (int i = 1; i < count && start.next != null; i++)
+        {
+            start = start.next;
+        }
+        Node rest = start.next;
+        start.next = null;
+        return rest;
+    }
+
+    /**
+     * Sorts the values in this list into ascending order like {@link #sort()}.
+     * Nodes can't be split up between threads, so the values are copied into
+     * an array, sorted there in parallel and written back into the same
+     * nodes, in order - still without allocating any new nodes.
+     */
+    @Override
+    public void parallelSort()
+    {
+        int[] values = stream().toArray();
+        IntSorts.parallelSort(values, 0, values.length);
+
+        Node current = head;
+        for (int value : values)
+        {
+            current.data = value;
+            current = current.next;
+        }
+        modCount++;
+    }
+
+    //helper class/type that defines how the iterator works
+    private class SinglyLinkedIterator implements PrimitiveIterator.OfInt {
+
+        private Node current;
+
+        public SinglyLinkedIterator() {
+            current = head;
+        }
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext()
+        {
+            //return current != null; <----- another way to write this
+            if (current == null) {
+                return false;
+            }
+            else {
+                return true;
+            }
+        }
+
+        /**
+         * Returns the next element in the iteration as a primitive int.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt()
+        {
+            if (current == null)
+            {
+                throw new NoSuchElementException("There is no next one to go to!!");
+            }
+            int item = current.data;
+            current = current.next;
+            return item;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+    }
+
+    //list iterator that keeps hold of the nodes on either side of the
+    //cursor, plus the node before the last one returned, so it can unlink
+    //or insert without walking the list
+    private class SinglyLinkedListIterator implements IntListIterator {
+
+        private Node previous;          //node before the cursor, null at the front
+        private Node next;              //node after the cursor, null at the end
+        private int nextIndex;
+        private Node lastReturned;      //null if there is nothing to remove or set
+        private Node beforeLast;        //node before lastReturned, null if it is the head
+        private int expectedModCount;
+
+        public SinglyLinkedListIterator(int index) {
+            if (index < 0)
+            {
+                throw new IndexOutOfBoundsException("Index is out of range");
+            }
+            if (index > 0)
+            {
+                previous = nodeAt(index - 1);
+            }
+            next = (previous == null) ? head : previous.next;
+            nextIndex = index;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next != null;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            checkForComodification();
+            if (next == null)
+            {
+                throw new NoSuchElementException("There is no next one to go to!!");
+            }
+            beforeLast = previous;
+            lastReturned = next;
+            previous = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+
+        @Override
+        public boolean hasPrevious()
+        {
+            return previous != null;
+        }
+
+        @Override
+        public int previousInt()
+        {
+            checkForComodification();
+            if (previous == null)
+            {
+                throw new NoSuchElementException("There is no previous one to go to");
+            }
+            lastReturned = previous;
+            next = previous;
+            nextIndex--;
+
+            //the only way to find the node before is to walk from the head
+            previous = (nextIndex == 0) ? null : nodeAt(nextIndex - 1);
+            beforeLast = previous;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex()
+        {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex()
+        {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (lastReturned == null)
+            {
+                throw new IllegalStateException("There is no value to remove");
+            }
+            checkForComodification();
+
+            //unlink lastReturned from the node before it
+            if (beforeLast == null)
+            {
+                head = lastReturned.next;
+            }
+            else
+            {
+                beforeLast.next = lastReturned.next;
+            }
+
+            if (lastReturned == previous)
+            {
+                //came from nextInt - the cursor moves back one
+                previous = beforeLast;
+                nextIndex--;
+            }
+            else
+            {
+                //came from previousInt - the cursor stays put
+                next = lastReturned.next;
+            }
+            lastReturned = null;
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(int value)
+        {
+            if (lastReturned == null)
+            {
+                throw new IllegalStateException("There is no value to set");
+            }
+            checkForComodification();
+            lastReturned.data = value;
+        }
+
+        @Override
+        public void add(int value)
+        {
+            checkForComodification();
+            Node newNode = new Node();
+            newNode.data = value;
+            newNode.next = next;
+            if (previous == null)
+            {
+                head = newNode;
+            }
+            else
+            {
+                previous.next = newNode;
+            }
+            previous = newNode;
+            nextIndex++;
+            lastReturned = null;
+            size++;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification()
+        {
+            if (modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException("The list was changed outside the iterator");
+            }
+        }
+    }}
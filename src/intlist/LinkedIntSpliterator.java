@@ -0,0 +1,90 @@
+package intlist;
+
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * The Spliterator used by the linked lists. The nodes can't be split by
+ * index, so each split copies the next batch of values into an array
+ * (batches grow as the walk goes on) and hands that off instead. The walk
+ * itself goes through the list's own iterator.
+ *
+ * The list knows its size, so the count of values left is always exact:
+ * the spliterator is SIZED, and since the batches it splits off are arrays
+ * (and so sized too) it is SUBSIZED as well.
+ */
+final class LinkedIntSpliterator implements Spliterator.OfInt
+{
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+
+    private final PrimitiveIterator.OfInt iterator;
+    private int remaining;      //values the iterator still has to hand out
+    private int batch;          //size of the last batch that was split off
+
+    LinkedIntSpliterator(PrimitiveIterator.OfInt iterator, int size)
+    {
+        this.iterator = iterator;
+        this.remaining = size;
+        this.batch = 0;
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit()
+    {
+        if (remaining == 0)
+        {
+            return null;
+        }
+
+        //each batch is a bit bigger than the last one
+        int batchSize = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+        int[] values = new int[batchSize];
+        for (int i = 0; i < batchSize; i++)
+        {
+            values[i] = iterator.nextInt();
+        }
+        remaining -= batchSize;
+        batch = batchSize;
+        return Spliterators.spliterator(values, 0, batchSize, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        if (remaining == 0)
+        {
+            return false;
+        }
+        action.accept(iterator.nextInt());
+        remaining--;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        while (remaining > 0)
+        {
+            action.accept(iterator.nextInt());
+            remaining--;
+        }
+    }
+
+    @Override
+    public long estimateSize()
+    {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics()
+    {
+        return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
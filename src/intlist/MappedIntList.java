@@ -0,0 +1,726 @@
+package intlist;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * An IntList whose values live in a file that is memory-mapped with
+ * FileChannel.map. Reads and writes go straight to the mapping, so the
+ * list can be bigger than the heap, and reopening the file gives instant
+ * access to the values without reading them in first.
+ *
+ * A single mapping can't be bigger than 2 GB, so the file is mapped as a
+ * series of fixed-size regions. Appending past the last region maps
+ * another one, which also makes the file longer.
+ *
+ * File layout: a 16 byte header (magic number, format version, size)
+ * followed by the values as little-endian ints. Changes reach the disk
+ * when the operating system gets round to it; call {@link #force()} to
+ * write them out right away.
+ */
+public class MappedIntList implements IntList, Closeable
+{
+    //"ILST"
+    private static final int MAGIC = 0x494C5354;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int SIZE_OFFSET = 8;
+
+    //each region holds 2^24 ints (64 MB) unless the constructor says otherwise
+    private static final int DEFAULT_REGION_SHIFT = 24;
+    private static final int MIN_REGION_SHIFT = 10;
+    private static final int MAX_REGION_SHIFT = 28;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final ArrayList<MappedByteBuffer> regions;
+
+    //region number = index >>> regionShift, position in region = index & regionMask
+    private final int regionShift;
+    private final int regionMask;
+
+    private int size;
+
+    /**
+     * Opens the list stored in the given file, creating the file (as an
+     * empty list) if it doesn't exist yet.
+     *
+     * @param file the file that holds the list
+     * @throws IOException if the file can't be opened or isn't a list file
+     */
+    public MappedIntList(Path file) throws IOException
+    {
+        this(file, DEFAULT_REGION_SHIFT);
+    }
+
+    /**
+     * Opens the list stored in the given file, creating the file (as an
+     * empty list) if it doesn't exist yet, and maps it in regions of
+     * 2^regionShift values. The region size only affects how the file is
+     * mapped, so a file can be reopened with a different one.
+     *
+     * @param file the file that holds the list
+     * @param regionShift log2 of the number of values in each mapped region, from 10 to 28
+     * @throws IOException if the file can't be opened or isn't a list file
+     * @throws IllegalArgumentException if regionShift is out of range
+     */
+    public MappedIntList(Path file, int regionShift) throws IOException
+    {
+        if (regionShift < MIN_REGION_SHIFT || regionShift > MAX_REGION_SHIFT)
+        {
+            throw new IllegalArgumentException("Region shift must be between "
+                    + MIN_REGION_SHIFT + " and " + MAX_REGION_SHIFT);
+        }
+        this.regionShift = regionShift;
+        this.regionMask = (1 << regionShift) - 1;
+        this.regions = new ArrayList<>();
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try
+        {
+            boolean isNew = channel.size() == 0;
+            if (!isNew && channel.size() < HEADER_BYTES)
+            {
+                throw new IOException("Not an int list file");
+            }
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (isNew)
+            {
+                header.putInt(0, MAGIC);
+                header.putInt(4, VERSION);
+                header.putLong(SIZE_OFFSET, 0);
+                size = 0;
+            }
+            else
+            {
+                readHeader();
+            }
+
+            //map just enough regions to cover the values already in the file
+            while (capacity() < size)
+            {
+                mapRegion();
+            }
+        }
+        catch (IOException | RuntimeException e)
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    //checks the header of an existing file and reads the size out of it
+    private void readHeader() throws IOException
+    {
+        if (header.getInt(0) != MAGIC)
+        {
+            throw new IOException("Not an int list file");
+        }
+        if (header.getInt(4) != VERSION)
+        {
+            throw new IOException("Unsupported int list file version " + header.getInt(4));
+        }
+        long storedSize = header.getLong(SIZE_OFFSET);
+        if (storedSize < 0 || storedSize > Integer.MAX_VALUE
+                || HEADER_BYTES + storedSize * Integer.BYTES > channel.size())
+        {
+            throw new IOException("Int list file is corrupt");
+        }
+        size = (int) storedSize;
+    }
+
+    //maps one more region onto the end of the file (growing the file if needed)
+    private void mapRegion()
+    {
+        long regionBytes = (long) Integer.BYTES << regionShift;
+        long position = HEADER_BYTES + regions.size() * regionBytes;
+        try
+        {
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE, position, regionBytes);
+            region.order(ByteOrder.LITTLE_ENDIAN);
+            regions.add(region);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Could not grow the mapping", e);
+        }
+    }
+
+    //number of values the mapped regions can hold
+    private long capacity()
+    {
+        return (long) regions.size() << regionShift;
+    }
+
+    //makes sure the mapped regions can hold at least minCapacity values
+    private void ensureCapacity(long minCapacity)
+    {
+        if (minCapacity > Integer.MAX_VALUE)
+        {
+            throw new IllegalStateException("The list is too big to grow");
+        }
+        while (capacity() < minCapacity)
+        {
+            mapRegion();
+        }
+    }
+
+    //changes the size, and writes it to the header so a reopen sees it
+    private void setSize(int newSize)
+    {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    //reads the value at index straight out of its region
+    private int read(int index)
+    {
+        return regions.get(index >>> regionShift).getInt((index & regionMask) << 2);
+    }
+
+    //writes the value at index straight into its region
+    private void write(int index, int value)
+    {
+        regions.get(index >>> regionShift).putInt((index & regionMask) << 2, value);
+    }
+
+    //moves count values from index from to index to - the ranges may overlap.
+    //Copies whole spans at a time, cut wherever either side crosses into
+    //another region
+    private void move(int from, int to, int count)
+    {
+        if (to > from)
+        {
+            //moving right, so start at the end to avoid overwriting values
+            int remaining = count;
+            while (remaining > 0)
+            {
+                int sourceEnd = from + remaining;
+                int targetEnd = to + remaining;
+                int span = Math.min(remaining, Math.min(((sourceEnd - 1) & regionMask) + 1,
+                        ((targetEnd - 1) & regionMask) + 1));
+                copySpan(sourceEnd - span, targetEnd - span, span);
+                remaining -= span;
+            }
+        }
+        else
+        {
+            int copied = 0;
+            while (copied < count)
+            {
+                int span = Math.min(count - copied, Math.min(regionMask + 1 - ((from + copied) & regionMask),
+                        regionMask + 1 - ((to + copied) & regionMask)));
+                copySpan(from + copied, to + copied, span);
+                copied += span;
+            }
+        }
+    }
+
+    //copies count values that all sit in one region to a spot that fits in one
+    //region - MemorySegment.copy copes with the two overlapping
+    private void copySpan(int from, int to, int count)
+    {
+        MemorySegment source = MemorySegment.ofBuffer(regions.get(from >>> regionShift));
+        MemorySegment target = MemorySegment.ofBuffer(regions.get(to >>> regionShift));
+        MemorySegment.copy(source, (long) (from & regionMask) << 2,
+                target, (long) (to & regionMask) << 2, (long) count << 2);
+    }
+
+    //copies values into the list starting at index, one bulk put per region
+    private void writeAll(int index, int[] values)
+    {
+        int copied = 0;
+        while (copied < values.length)
+        {
+            int position = index + copied;
+            int inRegion = position & regionMask;
+            int count = Math.min(values.length - copied, regionMask + 1 - inRegion);
+
+            IntBuffer target = regions.get(position >>> regionShift).asIntBuffer();
+            target.position(inRegion);
+            target.put(values, copied, count);
+            copied += count;
+        }
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        ensureCapacity(size + 1L);
+        write(size, value);
+        setSize(size + 1);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        ensureCapacity(size + 1L);
+        move(index, index + 1, size - index);
+        write(index, value);
+        setSize(size + 1);
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        addAll(size, values);
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        ensureCapacity((long) size + values.length);
+        move(index, index + values.length, size - index);
+        writeAll(index, values);
+        setSize(size + values.length);
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        if (other == this)
+        {
+            //take a copy first, or we would keep reading what we just added
+            addAll(other.stream().toArray());
+            return;
+        }
+        ensureCapacity((long) size + other.size());
+        other.forEach((int value) -> addBack(value));
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (!isEmpty())
+        {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (!isEmpty())
+        {
+            setSize(size - 1);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        checkIndex(index);
+        int removedValue = read(index);
+        move(index + 1, index, size - index - 1);
+        setSize(size - 1);
+        return removedValue;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if the range is out of range
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        move(toIndex, fromIndex, size - toIndex);
+        setSize(size - (toIndex - fromIndex));
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        checkIndex(index);
+        return read(index);
+    }
+
+    /**
+     * Replaces the value at the specified position in the list, writing
+     * it straight into the mapped file.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void set(int index, int value)
+    {
+        checkIndex(index);
+        write(index, value);
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            if (read(i) == value)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns. The file keeps its
+     * length, so the space is reused as the list fills up again.
+     */
+    @Override
+    public void clear()
+    {
+        setSize(0);
+    }
+
+    /**
+     * Writes any changes to the list that are still only in memory out to
+     * the file, and waits until they are on the storage device.
+     */
+    public void force()
+    {
+        for (MappedByteBuffer region : regions)
+        {
+            region.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Writes all changes out to the file (see {@link #force()}) and closes
+     * it. The list can't be used afterwards. The mapped memory itself is
+     * released once the list is garbage collected.
+     *
+     * @throws IOException if the file can't be closed
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if (channel.isOpen())
+        {
+            force();
+            regions.clear();
+            channel.close();
+        }
+    }
+
+    //throws if index is not the index of a value in the list
+    private void checkIndex(int index)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new MappedIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new MappedIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < size; i++)
+        {
+            action.accept(read(i));
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. It splits by
+     * halving its index range, just like ArrayIntList.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return new MappedSpliterator(0, -1);
+    }
+
+    //helper iterator class
+    private class MappedIterator implements PrimitiveIterator.OfInt {
+        private int i;
+
+        public MappedIterator()
+        {
+            i = 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return i < size;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (i >= size)
+            {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            int currentValue = read(i);
+            i++;
+
+            return currentValue;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+    }
+
+    //helper class that lets streams walk (and split up) the mapped values
+    private class MappedSpliterator implements Spliterator.OfInt {
+        private int index;      //next index to hand out
+        private int fence;      //one past the last index, -1 until first used
+
+        public MappedSpliterator(int origin, int fence)
+        {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence()
+        {
+            if (fence < 0)
+            {
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit()
+        {
+            int low = index;
+            int middle = (low + getFence()) >>> 1;
+            if (low >= middle)
+            {
+                return null;
+            }
+            index = middle;
+            return new MappedSpliterator(low, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            if (index < getFence())
+            {
+                action.accept(read(index));
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            int end = getFence();
+            for (int i = index; i < end; i++)
+            {
+                action.accept(read(i));
+            }
+            index = end;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package intlist;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * A bounded, lock-free IntQueue for any number of producer threads calling
+ * offer and exactly one consumer thread (the only one that calls poll and
+ * drainTo). Any thread may call isEmpty, size and capacity.
+ *
+ * The values live in a ring buffer whose length is a power of two, with a
+ * sequence number next to each slot. A producer claims the slot at the
+ * tail with a compare-and-set, writes its value, then sets the slot's
+ * sequence number to say the value is ready. The consumer only takes a
+ * value once its slot says it is ready - a producer that has claimed a slot
+ * but not finished writing it looks to the consumer like the end of the
+ * queue - and then sets the sequence number to say the slot is free for
+ * the producers' next lap around the ring.
+ *
+ * As in {@link SpscArrayIntQueue}, the head and tail counters are kept two
+ * cache lines apart and the arrays have a cache line of padding at each
+ * end, so the consumer and the producers don't falsely share cache lines.
+ */
+public class MpscArrayIntQueue implements IntQueue
+{
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    //64 bytes - a cache line on most machines - of ints and of longs
+    private static final int PAD_INTS = 16;
+    private static final int PAD_LONGS = 8;
+
+    //where each counter lives in counters, two cache lines apart
+    private static final int HEAD = 2 * PAD_LONGS;          //written by the consumer
+    private static final int TAIL = HEAD + 2 * PAD_LONGS;   //claimed by producers
+    private static final int COUNTERS_LENGTH = TAIL + 2 * PAD_LONGS;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int[] buffer;         //the ring, with PAD_INTS unused ints at each end
+    private final long[] sequences;     //per slot: the tail count it is next free for,
+                                        //or that count + 1 once its value is ready
+    private final int mask;             //capacity - 1
+    private final long[] counters;      //head and tail count values ever taken and claimed
+
+    /**
+     * Creates an empty queue that can hold at least the given number of
+     * values. The capacity is rounded up to a power of two (at least 2).
+     *
+     * @param capacity the smallest number of values the queue should hold
+     * @throws IllegalArgumentException if capacity is less than 1 or too big
+     */
+    public MpscArrayIntQueue(int capacity)
+    {
+        if (capacity < 1 || capacity > MAX_CAPACITY)
+        {
+            throw new IllegalArgumentException("Capacity is out of range");
+        }
+
+        //initialize my fields - slot i is first free for the i'th value
+        int length = powerOfTwoAtLeast(capacity);
+        buffer = new int[length + 2 * PAD_INTS];
+        sequences = new long[length + 2 * PAD_LONGS];
+        for (int i = 0; i < length; i++)
+        {
+            sequences[PAD_LONGS + i] = i;
+        }
+        mask = length - 1;
+        counters = new long[COUNTERS_LENGTH];
+    }
+
+    //rounds n up to the next power of two (at least 2 - with one slot, a
+    //ready slot and a free one would have the same sequence number)
+    private static int powerOfTwoAtLeast(int n)
+    {
+        int capacity = 2;
+        while (capacity < n)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Adds the value to the back of the queue, if there is room for it.
+     * Safe to call from any number of threads at once.
+     *
+     * @param value value to be added
+     * @return true if the value was added, false if the queue was full
+     */
+    @Override
+    public boolean offer(int value)
+    {
+        while (true)
+        {
+            long tail = (long) LONGS.getAcquire(counters, TAIL);
+            int slot = (int) (tail & mask);
+            long sequence = (long) LONGS.getAcquire(sequences, PAD_LONGS + slot);
+            if (sequence == tail)
+            {
+                //the slot is free for this lap - try to claim it
+                if (LONGS.compareAndSet(counters, TAIL, tail, tail + 1))
+                {
+                    buffer[PAD_INTS + slot] = value;
+                    LONGS.setRelease(sequences, PAD_LONGS + slot, tail + 1);
+                    return true;
+                }
+            }
+            else if (sequence < tail)
+            {
+                //the consumer hasn't taken last lap's value out of it yet
+                return false;
+            }
+            //otherwise another producer claimed it first - go again
+        }
+    }
+
+    /**
+     * Removes the value at the front of the queue, if there is one, and
+     * hands it to the action. Must only be called from the consumer thread.
+     *
+     * @param action what to do with the value
+     * @return true if a value was taken, false if the queue was empty or the
+     * producer of the front value hasn't finished writing it yet
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public boolean poll(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        long head = counters[HEAD];
+        int slot = (int) (head & mask);
+        if ((long) LONGS.getAcquire(sequences, PAD_LONGS + slot) != head + 1)
+        {
+            return false;
+        }
+
+        int value = take(head, slot);
+        action.accept(value);
+        return true;
+    }
+
+    /**
+     * Removes the value at the front of the queue and returns it.
+     * Must only be called from the consumer thread.
+     *
+     * @return the value that was at the front of the queue
+     * @throws NoSuchElementException if the queue is empty, or the producer
+     * of the front value hasn't finished writing it yet
+     */
+    @Override
+    public int poll()
+    {
+        long head = counters[HEAD];
+        int slot = (int) (head & mask);
+        if ((long) LONGS.getAcquire(sequences, PAD_LONGS + slot) != head + 1)
+        {
+            throw new NoSuchElementException("The queue is empty");
+        }
+        return take(head, slot);
+    }
+
+    //reads the published value at head and hands the slot back for the next lap
+    private int take(long head, int slot)
+    {
+        int value = buffer[PAD_INTS + slot];
+        LONGS.setRelease(sequences, PAD_LONGS + slot, head + mask + 1);
+        LONGS.setRelease(counters, HEAD, head + 1);
+        return value;
+    }
+
+    /**
+     * Removes up to limit values from the front of the queue, in order, and
+     * hands each one to the action. Stops early at a slot whose producer
+     * hasn't finished writing it. Must only be called from the consumer thread.
+     *
+     * @param action what to do with each value
+     * @param limit the most values to take
+     * @return how many values were taken
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public int drainTo(IntConsumer action, int limit)
+    {
+        Objects.requireNonNull(action);
+        long head = counters[HEAD];
+        int taken = 0;
+        try
+        {
+            while (taken < limit)
+            {
+                long count = head + taken;
+                int slot = (int) (count & mask);
+                if ((long) LONGS.getAcquire(sequences, PAD_LONGS + slot) != count + 1)
+                {
+                    break;
+                }
+                int value = buffer[PAD_INTS + slot];
+                LONGS.setRelease(sequences, PAD_LONGS + slot, count + mask + 1);
+                taken++;
+                action.accept(value);
+            }
+        }
+        finally
+        {
+            //the producers only look at the sequences, so the head just has
+            //to be right for size() - once per batch is enough
+            LONGS.setRelease(counters, HEAD, head + taken);
+        }
+        return taken;
+    }
+
+    /**
+     * Returns true if there is no value ready to be polled.
+     *
+     * @return true if the queue is empty
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        long head = (long) LONGS.getAcquire(counters, HEAD);
+        int slot = (int) (head & mask);
+        return (long) LONGS.getAcquire(sequences, PAD_LONGS + slot) != head + 1;
+    }
+
+    /**
+     * Returns the number of values in the queue, counting values whose
+     * producers are still writing them. While other threads are using the
+     * queue this is only a snapshot.
+     *
+     * @return the number of values in the queue
+     */
+    @Override
+    public int size()
+    {
+        long head = (long) LONGS.getAcquire(counters, HEAD);
+        long tail = (long) LONGS.getAcquire(counters, TAIL);
+        return (int) Math.max(0, Math.min(tail - head, mask + 1));
+    }
+
+    /**
+     * Returns the most values the queue can hold at once.
+     *
+     * @return the capacity of the queue
+     */
+    @Override
+    public int capacity()
+    {
+        return mask + 1;
+    }
+}
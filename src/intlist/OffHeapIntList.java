@@ -0,0 +1,643 @@
+package intlist;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * An IntList that keeps its values in native memory instead of an int[] on
+ * the heap. It works like ArrayIntList, but the buffer is a MemorySegment,
+ * so the garbage collector never has to copy or scan it. The heap only
+ * holds this object, whatever the size of the list.
+ *
+ * The native memory is only given back when the list is closed, so use it
+ * in a try-with-resources block (or call close() when done with it).
+ * After that, any method that reads or writes the values throws an
+ * IllegalStateException.
+ */
+public class OffHeapIntList implements IntList, AutoCloseable
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+
+    private int size;
+    private int capacity;
+
+    //each buffer gets its own arena, so the old buffer can be freed as
+    //soon as the values have been copied into a bigger one. Shared arenas
+    //let parallel streams read the values from other threads.
+    private Arena arena;
+    private MemorySegment buffer;
+
+    private final GrowthPolicy growthPolicy;
+
+    public OffHeapIntList()
+    {
+        this(DEFAULT_CAPACITY, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Creates an empty list that can hold initialCapacity values before it
+     * has to grow.
+     *
+     * @param initialCapacity the starting capacity of the buffer
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public OffHeapIntList(int initialCapacity)
+    {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Creates an empty list that can hold initialCapacity values and grows
+     * according to the given policy when it runs out of room.
+     *
+     * @param initialCapacity the starting capacity of the buffer
+     * @param growthPolicy decides how big the buffer becomes when it grows
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public OffHeapIntList(int initialCapacity, GrowthPolicy growthPolicy)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+
+        //initialize my fields
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        size = 0;
+        arena = Arena.ofShared();
+        buffer = allocate(arena, initialCapacity);
+        capacity = initialCapacity;
+    }
+
+    //a brand new block of native memory for capacity values, in the given arena
+    private static MemorySegment allocate(Arena arena, int capacity)
+    {
+        return arena.allocate(capacity * (long) Integer.BYTES, Integer.BYTES);
+    }
+
+    //byte offset of the value at index
+    private static long offset(int index)
+    {
+        return index * (long) Integer.BYTES;
+    }
+
+    //moves count values from index from to index to - the ranges may overlap
+    private void move(int from, int to, int count)
+    {
+        MemorySegment.copy(buffer, offset(from), buffer, offset(to), offset(count));
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        if (size == capacity)
+        {
+            ensureCapacity(size + 1);
+        }
+        buffer.setAtIndex(INT, size, value);
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        ensureCapacity(size + 1);
+
+        //open up a slot at index by shifting the rest of the values right
+        move(index, index + 1, size - index);
+        buffer.setAtIndex(INT, index, value);
+        size++;
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        addAll(size, values);
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        ensureCapacity(size + values.length);
+
+        //one block move to open up the gap, one bulk copy from the heap to fill it
+        move(index, index + values.length, size - index);
+        MemorySegment.copy(values, 0, buffer, INT, offset(index), values.length);
+        size += values.length;
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        if (other instanceof OffHeapIntList)
+        {
+            //native to native copy
+            OffHeapIntList otherList = (OffHeapIntList) other;
+            int count = otherList.size;
+            ensureCapacity(size + count);
+            MemorySegment.copy(otherList.buffer, 0, buffer, offset(size), offset(count));
+            size += count;
+        }
+        else
+        {
+            ensureCapacity(size + other.size());
+            other.forEach((int value) -> addBack(value));
+        }
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (!isEmpty())
+        {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (!isEmpty())
+        {
+            size--;
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        checkIndex(index);
+        int removedValue = buffer.getAtIndex(INT, index);
+
+        //shift values to the left
+        move(index + 1, index, size - index - 1);
+        size--;
+
+        return removedValue;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if the range is out of range
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        move(toIndex, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        checkIndex(index);
+        return buffer.getAtIndex(INT, index);
+    }
+
+    /**
+     * Replaces the value at the specified position in the list.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void set(int index, int value)
+    {
+        checkIndex(index);
+        buffer.setAtIndex(INT, index, value);
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        MemorySegment values = buffer;
+        for (int i = 0; i < size; i++)
+        {
+            if (values.getAtIndex(INT, i) == value)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     * The native memory is kept for refilling the list - call trimToSize()
+     * afterwards to free it.
+     */
+    @Override
+    public void clear()
+    {
+        //no new arena - closing a shared one makes every thread stop and
+        //check in, which is far too slow to do on every clear
+        size = 0;
+    }
+
+    /**
+     * Makes sure the buffer can hold at least minCapacity values without
+     * growing again, growing it once (using the growth policy) if it can't.
+     *
+     * @param minCapacity the number of values the list should be able to hold
+     */
+    public void ensureCapacity(int minCapacity)
+    {
+        if (minCapacity > capacity)
+        {
+            int newCapacity = growthPolicy.newCapacity(capacity, minCapacity);
+
+            //the policy might not grow enough (or might overflow)
+            if (newCapacity < minCapacity)
+            {
+                newCapacity = minCapacity;
+            }
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the buffer so that it is exactly as big as the list,
+     * freeing the rest of the native memory.
+     */
+    public void trimToSize()
+    {
+        if (size < capacity)
+        {
+            resize(size);
+        }
+    }
+
+    /**
+     * Returns the number of values the list can hold before it has to grow.
+     *
+     * @return the capacity of the buffer
+     */
+    public int capacity()
+    {
+        return capacity;
+    }
+
+    //copies the values into a new block of native memory and frees the old one
+    private void resize(int newCapacity)
+    {
+        checkOpen();
+
+        //fill the new block before the fields point at it, so a failed copy
+        //leaves the list as it was (and doesn't leak the new arena)
+        Arena newArena = Arena.ofShared();
+        MemorySegment newBuffer;
+        try
+        {
+            newBuffer = allocate(newArena, newCapacity);
+            MemorySegment.copy(buffer, 0, newBuffer, 0, offset(Math.min(size, newCapacity)));
+        }
+        catch (Throwable e)
+        {
+            newArena.close();
+            throw e;
+        }
+
+        //unlike an old int[], the old native memory is freed right away
+        Arena oldArena = arena;
+        arena = newArena;
+        buffer = newBuffer;
+        capacity = newCapacity;
+        oldArena.close();
+    }
+
+    //throws once close() has freed the native memory
+    private void checkOpen()
+    {
+        if (!arena.scope().isAlive())
+        {
+            throw new IllegalStateException("The list has been closed");
+        }
+    }
+
+    /**
+     * Frees the native memory holding the values. Calling close() more than
+     * once has no effect.
+     */
+    @Override
+    public void close()
+    {
+        if (arena.scope().isAlive())
+        {
+            arena.close();
+        }
+    }
+
+    //throws if index is not the index of a value in the list
+    private void checkIndex(int index)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new OffHeapIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new OffHeapIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        MemorySegment values = buffer;
+        for (int i = 0; i < size; i++)
+        {
+            action.accept(values.getAtIndex(INT, i));
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. It splits by
+     * halving its index range, just like ArrayIntList.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return new OffHeapSpliterator(0, -1);
+    }
+
+    //helper iterator class
+    private class OffHeapIterator implements PrimitiveIterator.OfInt {
+        private int i;
+
+        public OffHeapIterator()
+        {
+            i = 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return i < size;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (i >= size)
+            {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            int currentValue = buffer.getAtIndex(INT, i);
+            i++;
+
+            return currentValue;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+    }
+
+    //helper class that lets streams walk (and split up) the native buffer
+    private class OffHeapSpliterator implements Spliterator.OfInt {
+        private int index;      //next index to hand out
+        private int fence;      //one past the last index, -1 until first used
+
+        public OffHeapSpliterator(int origin, int fence)
+        {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence()
+        {
+            if (fence < 0)
+            {
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit()
+        {
+            int low = index;
+            int middle = (low + getFence()) >>> 1;
+            if (low >= middle)
+            {
+                return null;
+            }
+            index = middle;
+            return new OffHeapSpliterator(low, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            if (index < getFence())
+            {
+                action.accept(buffer.getAtIndex(INT, index));
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            MemorySegment values = buffer;
+            int end = getFence();
+            for (int i = index; i < end; i++)
+            {
+                action.accept(values.getAtIndex(INT, i));
+            }
+            index = end;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
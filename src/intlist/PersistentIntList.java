@@ -0,0 +1,1133 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable IntList. Instead of being changed in place, it hands back a
+ * new version from {@link #with(int, int)}, {@link #plus(int)},
+ * {@link #concat(PersistentIntList)} and {@link #subList(int, int)}, and
+ * the old version stays exactly as it was. The IntList methods that would
+ * change the list throw an UnsupportedOperationException.
+ *
+ * The values live in a tree that branches 32 ways: leaves are int[]s of up
+ * to 32 values and every node above them has up to 32 children. A new
+ * version copies only the path from the root down to the leaf that changed
+ * - a handful of small arrays - and shares everything else with the old
+ * version, so keeping many versions of a big list costs little more than
+ * keeping one. The last (up to 32) values sit in a separate tail array, so
+ * plus usually just copies the tail.
+ *
+ * In a freshly built tree every leaf and node but the last on each level is
+ * full, so the path to an index is read straight from its bits. concat and
+ * subList leave some nodes part full; those nodes keep a running count of
+ * the values under each child to find their way (an RRB tree). concat
+ * merges the two trees down their touching edges and repacks the children
+ * there, so part-full nodes can't pile up, and subList cuts just the two
+ * edges of the range - both in O(log n) time.
+ *
+ * For building a big list in one go, {@link #builder()} fills leaves in
+ * place and adds them to the tree 32 at a time.
+ */
+public final class PersistentIntList implements IntList
+{
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;     //children per node, values per leaf
+
+    //how many more children than the fewest possible a level may end up
+    //with after concat before they get repacked
+    private static final int EXTRA = 2;
+
+    private static final int[] NO_VALUES = new int[0];
+    private static final Object[] NO_CHILDREN = new Object[0];
+    private static final PersistentIntList EMPTY = new PersistentIntList(null, BITS, NO_VALUES, 0);
+
+    private final Node root;    //null if every value is in the tail
+    private final int shift;    //BITS times the height of the root above the leaves
+    private final int[] tail;   //the last 0 to WIDTH values, not in the tree yet
+    private final int size;
+
+    private PersistentIntList(Node root, int shift, int[] tail, int size)
+    {
+        this.root = root;
+        this.shift = shift;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @return a list with no values
+     */
+    public static PersistentIntList empty()
+    {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list holding the given values, in order.
+     *
+     * @param values values to be in the list
+     * @return a list of the values
+     */
+    public static PersistentIntList of(int... values)
+    {
+        return builder().addAll(values).build();
+    }
+
+    /**
+     * Returns a builder that starts out empty.
+     *
+     * @return a new builder
+     */
+    public static Builder builder()
+    {
+        return new Builder(EMPTY);
+    }
+
+    /**
+     * Returns a builder that starts out holding the values of this list.
+     * This list is not changed by anything done to the builder.
+     *
+     * @return a new builder
+     */
+    public Builder toBuilder()
+    {
+        return new Builder(this);
+    }
+
+    //number of values in the tree, before the tail
+    private int treeSize()
+    {
+        return size - tail.length;
+    }
+
+    /**
+     * Returns a version of this list with the value at the specified
+     * position replaced. Copies one path through the tree.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @return the new version of the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersistentIntList with(int index, int value)
+    {
+        checkIndex(index);
+        int treeSize = treeSize();
+        if (index >= treeSize)
+        {
+            int[] newTail = tail.clone();
+            newTail[index - treeSize] = value;
+            return new PersistentIntList(root, shift, newTail, size);
+        }
+        return new PersistentIntList((Node) setIn(root, shift, index, value), shift, tail, size);
+    }
+
+    /**
+     * Returns a version of this list with the value appended to the back.
+     * Copies the tail, and once every 32 values adds the full tail to the
+     * tree as a new leaf.
+     *
+     * @param value value to be appended
+     * @return the new version of the list
+     */
+    public PersistentIntList plus(int value)
+    {
+        if (tail.length < WIDTH)
+        {
+            int[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentIntList(root, shift, newTail, size + 1);
+        }
+        return pushed(root, shift, tail, 0, new int[] {value}, size + 1);
+    }
+
+    /**
+     * Returns a list holding the values of this list followed by the values
+     * of the other list. Both trees are shared apart from the nodes along
+     * the edges where they are joined.
+     *
+     * @param other list whose values come after this list's
+     * @return the joined list
+     */
+    public PersistentIntList concat(PersistentIntList other)
+    {
+        if (other.size == 0)
+        {
+            return this;
+        }
+        if (size == 0)
+        {
+            return other;
+        }
+
+        if (other.root == null)
+        {
+            //the other list is all tail - it goes on the end of ours, or if
+            //they don't fit together, ours moves into the tree first
+            if (tail.length + other.tail.length <= WIDTH)
+            {
+                int[] newTail = Arrays.copyOf(tail, tail.length + other.tail.length);
+                System.arraycopy(other.tail, 0, newTail, tail.length, other.tail.length);
+                return new PersistentIntList(root, shift, newTail, size + other.size);
+            }
+            return pushed(root, shift, tail, 0, other.tail, size + other.size);
+        }
+
+        //our tail has to be in our tree before the trees can be merged
+        Node left = root;
+        int leftShift = shift;
+        if (tail.length > 0)
+        {
+            PersistentIntList withoutTail = pushed(root, shift, tail, 0, NO_VALUES, size);
+            left = withoutTail.root;
+            leftShift = withoutTail.shift;
+        }
+        Node merged = merge(left, leftShift, other.root, other.shift);
+        return trimmed(merged, Math.max(leftShift, other.shift) + BITS, other.tail, size + other.size);
+    }
+
+    /**
+     * Returns a list holding the values from fromIndex (inclusive) to
+     * toIndex (exclusive) of this list. Only the leaves and nodes along the
+     * two ends of the range are copied; everything between them is shared.
+     *
+     * @param fromIndex index of the first value to keep
+     * @param toIndex index after the last value to keep
+     * @return the part of the list in the range
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is
+     * greater than size(), or fromIndex is greater than toIndex
+     */
+    public PersistentIntList subList(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        if (fromIndex == 0 && toIndex == size)
+        {
+            return this;
+        }
+        if (fromIndex == toIndex)
+        {
+            return EMPTY;
+        }
+
+        int treeSize = treeSize();
+        int[] newTail = NO_VALUES;
+        if (toIndex > treeSize)
+        {
+            newTail = Arrays.copyOfRange(tail, Math.max(fromIndex - treeSize, 0), toIndex - treeSize);
+        }
+        if (fromIndex >= treeSize)
+        {
+            return new PersistentIntList(null, BITS, newTail, newTail.length);
+        }
+
+        Node sliced = (Node) slice(root, shift, fromIndex, Math.min(toIndex, treeSize));
+        return trimmed(sliced, shift, newTail, toIndex - fromIndex);
+    }
+
+    //drops single-child nodes off the top of a tree
+    private static PersistentIntList trimmed(Node root, int shift, int[] tail, int size)
+    {
+        while (shift > BITS && root.children.length == 1)
+        {
+            root = (Node) root.children[0];
+            shift -= BITS;
+        }
+        return new PersistentIntList(root, shift, tail, size);
+    }
+
+    //returns the list with the given tree, after adding subtree (a leaf if
+    //subtreeShift is 0, otherwise a node) to its right edge
+    private static PersistentIntList pushed(Node root, int shift, Object subtree, int subtreeShift,
+                                            int[] tail, int size)
+    {
+        if (root == null)
+        {
+            if (subtree instanceof Node node)
+            {
+                return new PersistentIntList(node, subtreeShift, tail, size);
+            }
+            return new PersistentIntList(node(new Object[] {subtree}, BITS), BITS, tail, size);
+        }
+
+        if (shift > subtreeShift)
+        {
+            Node appended = appendAt(root, shift, subtree, subtreeShift);
+            if (appended != null)
+            {
+                return new PersistentIntList(appended, shift, tail, size);
+            }
+        }
+
+        //the right edge is full (or no taller than the subtree) - start a
+        //new root with the old tree and the subtree side by side
+        int newShift = Math.max(shift, subtreeShift) + BITS;
+        Object[] children = {raised(root, shift, newShift - BITS), raised(subtree, subtreeShift, newShift - BITS)};
+        return new PersistentIntList(node(children, newShift), newShift, tail, size);
+    }
+
+    //adds subtree as the last child somewhere down the right edge of the
+    //node, or returns null if every node down that edge is full
+    private static Node appendAt(Node node, int level, Object subtree, int subtreeLevel)
+    {
+        Object[] children = node.children;
+        if (level == subtreeLevel + BITS)
+        {
+            return children.length < WIDTH ? node(appended(children, subtree), level) : null;
+        }
+
+        Node last = appendAt((Node) children[children.length - 1], level - BITS, subtree, subtreeLevel);
+        if (last != null)
+        {
+            Object[] newChildren = children.clone();
+            newChildren[children.length - 1] = last;
+            return node(newChildren, level);
+        }
+        if (children.length < WIDTH)
+        {
+            return node(appended(children, raised(subtree, subtreeLevel, level - BITS)), level);
+        }
+        return null;
+    }
+
+    //wraps the subtree in single-child nodes until it sits at the level
+    private static Object raised(Object subtree, int subtreeLevel, int level)
+    {
+        for (; subtreeLevel < level; subtreeLevel += BITS)
+        {
+            subtree = node(new Object[] {subtree}, subtreeLevel + BITS);
+        }
+        return subtree;
+    }
+
+    private static Object[] appended(Object[] children, Object child)
+    {
+        Object[] newChildren = Arrays.copyOf(children, children.length + 1);
+        newChildren[children.length] = child;
+        return newChildren;
+    }
+
+    //copies the path down to index, with the value replaced in a new leaf
+    private static Object setIn(Object current, int level, int index, int value)
+    {
+        if (level == 0)
+        {
+            int[] leaf = ((int[]) current).clone();
+            leaf[index] = value;
+            return leaf;
+        }
+        Node node = (Node) current;
+        int slot = slot(node, level, index);
+        Object[] children = node.children.clone();
+        children[slot] = setIn(children[slot], level - BITS, index - offset(node, level, slot), value);
+        return new Node(children, node.sizes, node.size);
+    }
+
+    //the part of the subtree from index from to index to, sharing every
+    //child that is wholly inside the range
+    private static Object slice(Object current, int level, int from, int to)
+    {
+        if (level == 0)
+        {
+            int[] leaf = (int[]) current;
+            return (from == 0 && to == leaf.length) ? leaf : Arrays.copyOfRange(leaf, from, to);
+        }
+        Node node = (Node) current;
+        if (from == 0 && to == node.size)
+        {
+            return node;
+        }
+
+        int first = slot(node, level, from);
+        int last = slot(node, level, to - 1);
+        int firstOffset = offset(node, level, first);
+        Object[] children = Arrays.copyOfRange(node.children, first, last + 1);
+        if (first == last)
+        {
+            children[0] = slice(children[0], level - BITS, from - firstOffset, to - firstOffset);
+        }
+        else
+        {
+            int lastOffset = offset(node, level, last);
+            children[0] = slice(children[0], level - BITS, from - firstOffset, count(children[0]));
+            children[children.length - 1] = slice(children[children.length - 1], level - BITS, 0, to - lastOffset);
+        }
+        return node(children, level);
+    }
+
+    //joins two trees into one node, BITS above the taller of them, by
+    //merging down the left tree's right edge and the right tree's left edge
+    private static Node merge(Object left, int leftShift, Object right, int rightShift)
+    {
+        if (leftShift > rightShift)
+        {
+            Node leftNode = (Node) left;
+            Node middle = merge(leftNode.children[leftNode.children.length - 1], leftShift - BITS, right, rightShift);
+            return rebalance(leftNode, middle, null, leftShift);
+        }
+        if (leftShift < rightShift)
+        {
+            Node rightNode = (Node) right;
+            Node middle = merge(left, leftShift, rightNode.children[0], rightShift - BITS);
+            return rebalance(null, middle, rightNode, rightShift);
+        }
+        if (leftShift == 0)
+        {
+            //two leaves - rebalancing a level up packs them if need be
+            return node(new Object[] {left, right}, BITS);
+        }
+        Node leftNode = (Node) left;
+        Node rightNode = (Node) right;
+        Node middle = merge(leftNode.children[leftNode.children.length - 1], leftShift - BITS,
+                rightNode.children[0], rightShift - BITS);
+        return rebalance(leftNode, middle, rightNode, leftShift);
+    }
+
+    //middle replaces the last child of left and the first child of right
+    //(either may be missing); all of their children are repacked and put
+    //under one or two nodes at level, and those under a node above them
+    private static Node rebalance(Node left, Node middle, Node right, int level)
+    {
+        Object[] leftChildren = left == null ? NO_CHILDREN
+                : Arrays.copyOf(left.children, left.children.length - 1);
+        Object[] rightChildren = right == null ? NO_CHILDREN
+                : Arrays.copyOfRange(right.children, 1, right.children.length);
+
+        Object[] items = new Object[leftChildren.length + middle.children.length + rightChildren.length];
+        System.arraycopy(leftChildren, 0, items, 0, leftChildren.length);
+        System.arraycopy(middle.children, 0, items, leftChildren.length, middle.children.length);
+        System.arraycopy(rightChildren, 0, items, leftChildren.length + middle.children.length,
+                rightChildren.length);
+        items = repacked(items, level - BITS);
+
+        //left and right had at most 31 children left each and middle at most
+        //2, so this never needs more than two nodes
+        if (items.length <= WIDTH)
+        {
+            return node(new Object[] {node(items, level)}, level + BITS);
+        }
+        Object[] children = {node(Arrays.copyOf(items, WIDTH), level),
+                node(Arrays.copyOfRange(items, WIDTH, items.length), level)};
+        return node(children, level + BITS);
+    }
+
+    //if the items (all at level) are spread over too many part-full leaves
+    //or nodes, moves their contents left into fewer of them. Items that
+    //come out the same are shared rather than copied
+    private static Object[] repacked(Object[] items, int level)
+    {
+        int n = items.length;
+        int[] plan = new int[n];
+        int total = 0;
+        for (int i = 0; i < n; i++)
+        {
+            plan[i] = slots(items[i]);
+            total += plan[i];
+        }
+        int fewest = (total + WIDTH - 1) / WIDTH;
+        if (n <= fewest + EXTRA)
+        {
+            return items;
+        }
+
+        //plan the new slot counts: find the first item with room, then pour
+        //its contents into the items after it until one of them is gone
+        int i = 0;
+        while (n > fewest + EXTRA)
+        {
+            while (plan[i] >= WIDTH)
+            {
+                i++;
+            }
+            int carried = plan[i];
+            while (carried > 0)
+            {
+                int filled = Math.min(carried + plan[i + 1], WIDTH);
+                carried = carried + plan[i + 1] - filled;
+                plan[i] = filled;
+                i++;
+            }
+            System.arraycopy(plan, i + 1, plan, i, n - i - 1);
+            n--;
+            i--;
+        }
+
+        //then fill the new items from the old ones, in order
+        Object[] result = new Object[n];
+        int from = 0;
+        int offset = 0;
+        for (int k = 0; k < n; k++)
+        {
+            int wanted = plan[k];
+            if (offset == 0 && slots(items[from]) == wanted)
+            {
+                result[k] = items[from++];
+                continue;
+            }
+
+            Object contents = level == 0 ? new int[wanted] : new Object[wanted];
+            int filled = 0;
+            while (filled < wanted)
+            {
+                int available = slots(items[from]) - offset;
+                int taken = Math.min(wanted - filled, available);
+                System.arraycopy(contentsOf(items[from]), offset, contents, filled, taken);
+                filled += taken;
+                offset += taken;
+                if (taken == available)
+                {
+                    from++;
+                    offset = 0;
+                }
+            }
+            result[k] = level == 0 ? contents : node((Object[]) contents, level);
+        }
+        return result;
+    }
+
+    //values in a leaf, or children of a node
+    private static int slots(Object item)
+    {
+        return item instanceof int[] leaf ? leaf.length : ((Node) item).children.length;
+    }
+
+    private static Object contentsOf(Object item)
+    {
+        return item instanceof int[] leaf ? leaf : ((Node) item).children;
+    }
+
+    //number of values under a leaf or node
+    private static int count(Object item)
+    {
+        return item instanceof int[] leaf ? leaf.length : ((Node) item).size;
+    }
+
+    //makes a node at level, working out whether it needs running counts
+    private static Node node(Object[] children, int level)
+    {
+        int[] sizes = new int[children.length];
+        int total = 0;
+        boolean full = true;
+        for (int i = 0; i < children.length; i++)
+        {
+            total += count(children[i]);
+            sizes[i] = total;
+
+            //every child before the last has to hold exactly 1 << level
+            //values for the path to be read from the index's bits
+            if (i < children.length - 1 && total != (long) (i + 1) << level)
+            {
+                full = false;
+            }
+        }
+        return new Node(children, full ? null : sizes, total);
+    }
+
+    //which child of the node holds the value at index
+    private static int slot(Node node, int level, int index)
+    {
+        //no child holds more than 1 << level values, so this is never too far
+        int slot = index >>> level;
+        if (node.sizes != null)
+        {
+            while (node.sizes[slot] <= index)
+            {
+                slot++;
+            }
+        }
+        return slot;
+    }
+
+    //index of the first value under the child in slot
+    private static int offset(Node node, int level, int slot)
+    {
+        if (slot == 0)
+        {
+            return 0;
+        }
+        return node.sizes == null ? slot << level : node.sizes[slot - 1];
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+    }
+
+    private static UnsupportedOperationException immutable()
+    {
+        return new UnsupportedOperationException("A persistent list cannot be changed - use with, plus, concat or subList");
+    }
+
+    /**
+     * Always throws - use {@link #concat(PersistentIntList)} instead.
+     *
+     * @param value value to be inserted
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addFront(int value)
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - use {@link #plus(int)} instead.
+     *
+     * @param value value to be inserted
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addBack(int value)
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - a persistent list cannot be changed.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - a persistent list cannot be changed.
+     *
+     * @param values values to be inserted
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - a persistent list cannot be changed.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - a persistent list cannot be changed.
+     *
+     * @param other list whose values are to be inserted
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - use {@link #subList(int, int)} instead.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeFront()
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - use {@link #subList(int, int)} instead.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeBack()
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - a persistent list cannot be changed.
+     *
+     * @param index the index of the value to be removed
+     * @return never returns
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public int remove(int index)
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - a persistent list cannot be changed.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void set(int index, int value)
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - a persistent list cannot be changed.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - use {@link #empty()} instead.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear()
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - a persistent list cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void sort()
+    {
+        throw immutable();
+    }
+
+    /**
+     * Always throws - a persistent list cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void parallelSort()
+    {
+        throw immutable();
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     * Walks one path down the tree - at most 7 levels for any int index.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        checkIndex(index);
+        int treeSize = treeSize();
+        if (index >= treeSize)
+        {
+            return tail[index - treeSize];
+        }
+
+        Object current = root;
+        for (int level = shift; level > 0; level -= BITS)
+        {
+            Node node = (Node) current;
+            int slot = slot(node, level, index);
+            index -= offset(node, level, slot);
+            current = node.children[slot];
+        }
+        return ((int[]) current)[index];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Searches a whole leaf at a time.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        if (root != null)
+        {
+            int found = indexIn(root, value, 0);
+            if (found != -1)
+            {
+                return found;
+            }
+        }
+        int inTail = IntScans.indexOf(tail, 0, tail.length, value);
+        return inTail == -1 ? -1 : treeSize() + inTail;
+    }
+
+    //index of the value in the subtree, counting from start, or -1
+    private static int indexIn(Object current, int value, int start)
+    {
+        if (current instanceof int[] leaf)
+        {
+            int found = IntScans.indexOf(leaf, 0, leaf.length, value);
+            return found == -1 ? -1 : start + found;
+        }
+        for (Object child : ((Node) current).children)
+        {
+            int found = indexIn(child, value, start);
+            if (found != -1)
+            {
+                return found;
+            }
+            start += count(child);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return intIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints. It walks down the tree once per
+     * leaf and then reads straight through the leaf.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new LeafIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        if (root != null)
+        {
+            forEachIn(root, action);
+        }
+        for (int value : tail)
+        {
+            action.accept(value);
+        }
+    }
+
+    private static void forEachIn(Object current, IntConsumer action)
+    {
+        if (current instanceof int[] leaf)
+        {
+            for (int value : leaf)
+            {
+                action.accept(value);
+            }
+            return;
+        }
+        for (Object child : ((Node) current).children)
+        {
+            forEachIn(child, action);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. The list never
+     * changes, so it is IMMUTABLE; splitting copies off batches of values.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return Spliterators.spliterator(intIterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE
+                | Spliterator.NONNULL);
+    }
+
+    //a node of the tree - never changed once made
+    private static final class Node
+    {
+        final Object[] children;    //int[] leaves right above the leaves, nodes higher up
+        final int[] sizes;          //values under children[0..i], or null if all but the last child are full
+        final int size;             //values under this node
+
+        Node(Object[] children, int[] sizes, int size)
+        {
+            this.children = children;
+            this.sizes = sizes;
+            this.size = size;
+        }
+    }
+
+    //helper iterator class - finds each leaf once, then walks along it
+    private class LeafIterator implements PrimitiveIterator.OfInt {
+        private int index;
+        private int[] leaf;
+        private int leafStart;      //index of leaf[0] in the list
+
+        public LeafIterator()
+        {
+            index = 0;
+            leaf = NO_VALUES;
+            leafStart = 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return index < size;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (index >= size)
+            {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            if (index - leafStart >= leaf.length)
+            {
+                findLeaf();
+            }
+            int currentValue = leaf[index - leafStart];
+            index++;
+
+            return currentValue;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+
+        //moves to the leaf holding index
+        private void findLeaf()
+        {
+            int treeSize = treeSize();
+            if (index >= treeSize)
+            {
+                leaf = tail;
+                leafStart = treeSize;
+                return;
+            }
+
+            Object current = root;
+            int remaining = index;
+            for (int level = shift; level > 0; level -= BITS)
+            {
+                Node node = (Node) current;
+                int slot = slot(node, level, remaining);
+                remaining -= offset(node, level, slot);
+                current = node.children[slot];
+            }
+            leaf = (int[]) current;
+            leafStart = index - remaining;
+        }
+    }
+
+    /**
+     * Builds a PersistentIntList by adding values to the back, without
+     * making a new version for every value. Values go straight into a leaf
+     * array the builder owns; each full leaf is kept back until there are
+     * 32 of them, and those go into the tree as one new node. build() can
+     * be called more than once - each list it returns is unaffected by
+     * values added afterwards.
+     */
+    public static final class Builder
+    {
+        private Node root;
+        private int shift;
+        private int treeSize;
+
+        //full leaves not in the tree yet
+        private final Object[] pending;
+        private int pendingCount;
+
+        private int[] tail;
+        private int tailLength;
+
+        private Builder(PersistentIntList start)
+        {
+            root = start.root;
+            shift = start.shift;
+            treeSize = start.treeSize();
+            pending = new Object[WIDTH];
+            pendingCount = 0;
+            tail = Arrays.copyOf(start.tail, WIDTH);
+            tailLength = start.tail.length;
+        }
+
+        /**
+         * Adds the value to the back of the list being built.
+         *
+         * @param value value to be added
+         * @return this builder
+         */
+        public Builder add(int value)
+        {
+            if (tailLength == WIDTH)
+            {
+                flushTail();
+            }
+            tail[tailLength] = value;
+            tailLength++;
+            return this;
+        }
+
+        /**
+         * Adds all of the values to the back of the list being built, in order.
+         *
+         * @param values values to be added
+         * @return this builder
+         */
+        public Builder addAll(int... values)
+        {
+            int added = 0;
+            while (added < values.length)
+            {
+                if (tailLength == WIDTH)
+                {
+                    flushTail();
+                }
+                int count = Math.min(values.length - added, WIDTH - tailLength);
+                System.arraycopy(values, added, tail, tailLength, count);
+                tailLength += count;
+                added += count;
+            }
+            return this;
+        }
+
+        /**
+         * Returns the number of values added so far, including the starting ones.
+         *
+         * @return the size of the list being built
+         */
+        public int size()
+        {
+            return treeSize + tailLength;
+        }
+
+        /**
+         * Returns a list of the values added so far.
+         *
+         * @return the built list
+         */
+        public PersistentIntList build()
+        {
+            Node builtRoot = root;
+            int builtShift = shift;
+            if (pendingCount > 0)
+            {
+                //the held back leaves go into the returned list's tree only -
+                //the builder keeps collecting until it has a full node
+                PersistentIntList pushed = pushed(root, shift, node(Arrays.copyOf(pending, pendingCount), BITS),
+                        BITS, NO_VALUES, 0);
+                builtRoot = pushed.root;
+                builtShift = pushed.shift;
+            }
+            return new PersistentIntList(builtRoot, builtShift, Arrays.copyOf(tail, tailLength), size());
+        }
+
+        //the tail is full - hold it back and start a new one
+        private void flushTail()
+        {
+            pending[pendingCount] = tail;
+            pendingCount++;
+            treeSize += WIDTH;
+            tail = new int[WIDTH];
+            tailLength = 0;
+
+            if (pendingCount == WIDTH)
+            {
+                PersistentIntList pushed = pushed(root, shift, node(pending.clone(), BITS), BITS, NO_VALUES, 0);
+                root = pushed.root;
+                shift = pushed.shift;
+                Arrays.fill(pending, null);
+                pendingCount = 0;
+            }
+        }
+    }
+}
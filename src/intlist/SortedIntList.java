@@ -0,0 +1,677 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * An IntList that keeps its values in ascending order, in an array.
+ * Because the values are sorted, contains, indexOf and the range queries
+ * (lowerBound, upperBound, countInRange) are binary searches instead of
+ * scans.
+ *
+ * addBack and the addAll methods that don't take an index put values wherever
+ * they belong in the order, so they are the normal way to add values. Batches
+ * are sorted and then merged in with a single pass over the list, rather than
+ * inserted one at a time. addFront, add(index, value) and addAll(index, values)
+ * only accept values that are already in order at that position, and throw
+ * an IllegalArgumentException otherwise.
+ */
+public class SortedIntList implements IntList
+{
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int size;
+    private int[] buffer;
+
+    public SortedIntList()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list that can hold initialCapacity values before it
+     * has to grow.
+     *
+     * @param initialCapacity the starting length of the buffer
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public SortedIntList(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+
+        //initialize my fields
+        size = 0;
+        buffer = new int[initialCapacity];
+    }
+
+    /**
+     * Inserts the value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     * @throws IllegalArgumentException if the value is bigger than the current first value
+     */
+    @Override
+    public void addFront(int value)
+    {
+        add(0, value);
+    }
+
+    /**
+     * Inserts the value into the list at the position that keeps the list
+     * sorted - after any values equal to it. Adding values that are already
+     * in increasing order appends them without shifting anything.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        insertAt(upperBound(value), value);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the value doesn't belong at that index
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        checkFits(index, value, value);
+        insertAt(index, value);
+    }
+
+    /**
+     * Inserts all of the specified values at the positions that keep the
+     * list sorted. The values are sorted, then merged with the list in one
+     * pass from the back, so each value already in the list moves at most once.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        merge(sorted, sorted.length);
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the values aren't sorted, or don't
+     * belong at that index
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        if (values.length == 0)
+        {
+            return;
+        }
+        for (int i = 1; i < values.length; i++)
+        {
+            if (values[i - 1] > values[i])
+            {
+                throw new IllegalArgumentException("Values are not in ascending order");
+            }
+        }
+        checkFits(index, values[0], values[values.length - 1]);
+
+        ensureCapacity(size + values.length);
+        System.arraycopy(buffer, index, buffer, index + values.length, size - index);
+        System.arraycopy(values, 0, buffer, index, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Inserts all of the values in the specified list at the positions that
+     * keep this list sorted. Another SortedIntList is merged in straight from
+     * its buffer, without sorting.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        if (other instanceof SortedIntList)
+        {
+            //already sorted - copy in case other is this list, then merge
+            SortedIntList otherList = (SortedIntList) other;
+            merge(Arrays.copyOf(otherList.buffer, otherList.size), otherList.size);
+        }
+        else
+        {
+            addAll(other.stream().toArray());
+        }
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (!isEmpty())
+        {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (!isEmpty())
+        {
+            buffer[size - 1] = 0;
+            size--;
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        checkIndex(index);
+        int value = buffer[index];
+        System.arraycopy(buffer, index + 1, buffer, index, size - index - 1);
+        buffer[size - 1] = 0;
+        size--;
+        return value;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is
+     * greater than size(), or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        int count = toIndex - fromIndex;
+        System.arraycopy(buffer, toIndex, buffer, fromIndex, size - toIndex);
+        Arrays.fill(buffer, size - count, size, 0);
+        size -= count;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        checkIndex(index);
+        return buffer[index];
+    }
+
+    /**
+     * Replaces the value at the specified position in the list. The new
+     * value has to keep the list sorted; if it doesn't, the list is left
+     * unchanged.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the value doesn't belong at that index
+     */
+    @Override
+    public void set(int index, int value)
+    {
+        checkIndex(index);
+        //check against the neighbours only, not the value being replaced
+        if ((index > 0 && buffer[index - 1] > value) || (index < size - 1 && buffer[index + 1] < value))
+        {
+            throw new IllegalArgumentException("Value does not belong at index " + index
+                    + " - the list must stay in ascending order");
+        }
+        buffer[index] = value;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     * Found by binary search.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Found by binary search.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        int index = lowerBound(value);
+        if (index < size && buffer[index] == value)
+        {
+            return index;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first value that is greater than or equal to
+     * the given value, or size() if there isn't one. This is where the value
+     * would go if it were inserted in front of any equal values.
+     *
+     * @param value value to search for
+     * @return the index of the first value not less than value
+     */
+    public int lowerBound(int value)
+    {
+        int low = 0;
+        int high = size;
+        while (low < high)
+        {
+            int middle = (low + high) >>> 1;
+            if (buffer[middle] < value)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first value that is strictly greater than the
+     * given value, or size() if there isn't one. This is where the value
+     * would go if it were inserted after any equal values.
+     *
+     * @param value value to search for
+     * @return the index of the first value greater than value
+     */
+    public int upperBound(int value)
+    {
+        int low = 0;
+        int high = size;
+        while (low < high)
+        {
+            int middle = (low + high) >>> 1;
+            if (buffer[middle] <= value)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns how many values in the list are between low and high, inclusive.
+     * Takes two binary searches, however many values are in the range.
+     *
+     * @param low smallest value to count
+     * @param high biggest value to count
+     * @return the number of values v with low <= v <= high, or 0 if low > high
+     */
+    public int countInRange(int low, int high)
+    {
+        if (low > high)
+        {
+            return 0;
+        }
+        return upperBound(high) - lowerBound(low);
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear()
+    {
+        Arrays.fill(buffer, 0, size, 0);
+        size = 0;
+    }
+
+    /**
+     * Does nothing - the values in this list are always in ascending order.
+     */
+    @Override
+    public void sort()
+    {
+    }
+
+    /**
+     * Does nothing - the values in this list are always in ascending order.
+     */
+    @Override
+    public void parallelSort()
+    {
+    }
+
+    /**
+     * Makes sure the buffer can hold at least minCapacity values without
+     * growing again, doubling it (or more) if it can't.
+     *
+     * @param minCapacity the number of values the list should be able to hold
+     */
+    public void ensureCapacity(int minCapacity)
+    {
+        if (minCapacity > buffer.length)
+        {
+            int newCapacity = GrowthPolicy.doubling().newCapacity(buffer.length, minCapacity);
+            buffer = Arrays.copyOf(buffer, Math.max(newCapacity, minCapacity));
+        }
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+    }
+
+    //throws unless values from first to last can sit at index without breaking the order
+    private void checkFits(int index, int first, int last)
+    {
+        if ((index > 0 && buffer[index - 1] > first) || (index < size && buffer[index] < last))
+        {
+            throw new IllegalArgumentException("Value does not belong at index " + index
+                    + " - the list must stay in ascending order");
+        }
+    }
+
+    private void insertAt(int index, int value)
+    {
+        ensureCapacity(size + 1);
+        System.arraycopy(buffer, index, buffer, index + 1, size - index);
+        buffer[index] = value;
+        size++;
+    }
+
+    //merges the first count values of a sorted array into the list. Works
+    //from the back, writing each value straight to its final slot
+    private void merge(int[] sorted, int count)
+    {
+        ensureCapacity(size + count);
+        int i = size - 1;           //last value of the list not yet placed
+        int j = count - 1;          //last new value not yet placed
+        int k = size + count - 1;   //next slot to fill
+
+        //once the new values run out, the rest of the list is already in place
+        while (j >= 0)
+        {
+            if (i >= 0 && buffer[i] > sorted[j])
+            {
+                buffer[k] = buffer[i];
+                i--;
+            }
+            else
+            {
+                buffer[k] = sorted[j];
+                j--;
+            }
+            k--;
+        }
+        size += count;
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new SortedIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in ascending order,
+     * that hands them out as primitive ints.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new SortedIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in ascending
+     * order, without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < size; i++)
+        {
+            action.accept(buffer[i]);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. It splits by
+     * halving its index range, just like ArrayIntList, and also reports
+     * that the values are SORTED.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return new SortedSpliterator(0, -1);
+    }
+
+    //helper iterator class - walks the buffer from the front
+    private class SortedIterator implements PrimitiveIterator.OfInt {
+        private int i;
+
+        public SortedIterator()
+        {
+            i = 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return i < size;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (i >= size)
+            {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            int currentValue = buffer[i];
+            i++;
+
+            return currentValue;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+    }
+
+    //helper class that lets streams walk (and split up) the buffer
+    private class SortedSpliterator implements Spliterator.OfInt {
+        private int index;      //next index to hand out
+        private int fence;      //one past the last index, -1 until first used
+
+        public SortedSpliterator(int origin, int fence)
+        {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence()
+        {
+            if (fence < 0)
+            {
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit()
+        {
+            int low = index;
+            int middle = (low + getFence()) >>> 1;
+            if (low >= middle)
+            {
+                return null;
+            }
+            index = middle;
+            return new SortedSpliterator(low, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            if (index < getFence())
+            {
+                action.accept(buffer[index]);
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            int end = getFence();
+            for (int i = index; i < end; i++)
+            {
+                action.accept(buffer[i]);
+            }
+            index = end;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return getFence() - index;
+        }
+
+        @Override
+        public Comparator<? super Integer> getComparator()
+        {
+            //null means natural order
+            return null;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SORTED | Spliterator.SIZED
+                    | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package intlist;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * A bounded, lock-free IntQueue for exactly one producer thread (the only
+ * one that calls offer) and one consumer thread (the only one that calls
+ * poll and drainTo). Any thread may call isEmpty, size and capacity.
+ *
+ * The values live in a ring buffer whose length is a power of two. The
+ * producer owns the tail counter and the consumer owns the head counter;
+ * each publishes its counter with a release write and reads the other's
+ * with an acquire read, so no locks or compare-and-sets are needed. Each
+ * side also keeps its own cached copy of the other side's counter and only
+ * re-reads the real one when the cache says the queue is full (or empty),
+ * which keeps the two threads from constantly pulling each other's cache
+ * lines over.
+ *
+ * The counters sit in a long[] spaced two cache lines apart, and the ring
+ * buffer has a cache line of padding at each end, so the producer's and
+ * the consumer's writes never land on the same cache line (false sharing).
+ */
+public class SpscArrayIntQueue implements IntQueue
+{
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    //64 bytes - a cache line on most machines - of ints and of longs
+    private static final int PAD_INTS = 16;
+    private static final int PAD_LONGS = 8;
+
+    //where each counter lives in counters. Some CPUs fetch cache lines in
+    //pairs, so each owner's counters get two lines to themselves
+    private static final int HEAD = 2 * PAD_LONGS;          //written by the consumer
+    private static final int TAIL_CACHE = HEAD + 1;         //consumer's copy of TAIL
+    private static final int TAIL = HEAD + 2 * PAD_LONGS;   //written by the producer
+    private static final int HEAD_CACHE = TAIL + 1;         //producer's copy of HEAD
+    private static final int COUNTERS_LENGTH = TAIL + 2 * PAD_LONGS;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int[] buffer;     //the ring, with PAD_INTS unused ints at each end
+    private final int mask;         //capacity - 1
+    private final long[] counters;  //head and tail count values ever taken and added
+
+    /**
+     * Creates an empty queue that can hold at least the given number of
+     * values. The capacity is rounded up to a power of two.
+     *
+     * @param capacity the smallest number of values the queue should hold
+     * @throws IllegalArgumentException if capacity is less than 1 or too big
+     */
+    public SpscArrayIntQueue(int capacity)
+    {
+        if (capacity < 1 || capacity > MAX_CAPACITY)
+        {
+            throw new IllegalArgumentException("Capacity is out of range");
+        }
+
+        //initialize my fields
+        int length = powerOfTwoAtLeast(capacity);
+        buffer = new int[length + 2 * PAD_INTS];
+        mask = length - 1;
+        counters = new long[COUNTERS_LENGTH];
+    }
+
+    //rounds n up to the next power of two (at least 2)
+    private static int powerOfTwoAtLeast(int n)
+    {
+        int capacity = 2;
+        while (capacity < n)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    //turns a head or tail count into a position in the buffer
+    private int slot(long count)
+    {
+        return PAD_INTS + (int) (count & mask);
+    }
+
+    /**
+     * Adds the value to the back of the queue, if there is room for it.
+     * Must only be called from the producer thread.
+     *
+     * @param value value to be added
+     * @return true if the value was added, false if the queue was full
+     */
+    @Override
+    public boolean offer(int value)
+    {
+        //the producer is the only writer of TAIL and HEAD_CACHE, so plain reads are fine
+        long tail = counters[TAIL];
+        if (tail - counters[HEAD_CACHE] > mask)
+        {
+            //looks full - see how far the consumer has really got
+            counters[HEAD_CACHE] = (long) LONGS.getAcquire(counters, HEAD);
+            if (tail - counters[HEAD_CACHE] > mask)
+            {
+                return false;
+            }
+        }
+
+        //write the value, then publish it by moving the tail past it
+        buffer[slot(tail)] = value;
+        LONGS.setRelease(counters, TAIL, tail + 1);
+        return true;
+    }
+
+    //true if the producer has published the value at head
+    private boolean published(long head)
+    {
+        if (head >= counters[TAIL_CACHE])
+        {
+            //looks empty - see how far the producer has really got
+            counters[TAIL_CACHE] = (long) LONGS.getAcquire(counters, TAIL);
+            return head < counters[TAIL_CACHE];
+        }
+        return true;
+    }
+
+    /**
+     * Removes the value at the front of the queue, if there is one, and
+     * hands it to the action. Must only be called from the consumer thread.
+     *
+     * @param action what to do with the value
+     * @return true if a value was taken, false if the queue was empty
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public boolean poll(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        long head = counters[HEAD];
+        if (!published(head))
+        {
+            return false;
+        }
+
+        //read the value, then hand its slot back by moving the head past it
+        int value = buffer[slot(head)];
+        LONGS.setRelease(counters, HEAD, head + 1);
+        action.accept(value);
+        return true;
+    }
+
+    /**
+     * Removes the value at the front of the queue and returns it.
+     * Must only be called from the consumer thread.
+     *
+     * @return the value that was at the front of the queue
+     * @throws NoSuchElementException if the queue is empty
+     */
+    @Override
+    public int poll()
+    {
+        long head = counters[HEAD];
+        if (!published(head))
+        {
+            throw new NoSuchElementException("The queue is empty");
+        }
+
+        //read the value, then hand its slot back by moving the head past it
+        int value = buffer[slot(head)];
+        LONGS.setRelease(counters, HEAD, head + 1);
+        return value;
+    }
+
+    /**
+     * Removes up to limit values from the front of the queue, in order, and
+     * hands each one to the action. The head only moves once, at the end.
+     * Must only be called from the consumer thread.
+     *
+     * @param action what to do with each value
+     * @param limit the most values to take
+     * @return how many values were taken
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public int drainTo(IntConsumer action, int limit)
+    {
+        Objects.requireNonNull(action);
+        long head = counters[HEAD];
+        if (counters[TAIL_CACHE] - head < limit)
+        {
+            counters[TAIL_CACHE] = (long) LONGS.getAcquire(counters, TAIL);
+        }
+        int count = (int) Math.min(counters[TAIL_CACHE] - head, Math.max(limit, 0));
+
+        int taken = 0;
+        try
+        {
+            while (taken < count)
+            {
+                action.accept(buffer[slot(head + taken)]);
+                taken++;
+            }
+        }
+        finally
+        {
+            //if the action throws, the values it already saw stay taken
+            LONGS.setRelease(counters, HEAD, head + taken);
+        }
+        return taken;
+    }
+
+    /**
+     * Returns true if there is no value ready to be polled.
+     *
+     * @return true if the queue is empty
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of values in the queue. While other threads are
+     * using the queue this is only a snapshot.
+     *
+     * @return the number of values in the queue
+     */
+    @Override
+    public int size()
+    {
+        //read the head first - the tail can only have moved further on since
+        long head = (long) LONGS.getAcquire(counters, HEAD);
+        long tail = (long) LONGS.getAcquire(counters, TAIL);
+        return (int) Math.max(0, Math.min(tail - head, mask + 1));
+    }
+
+    /**
+     * Returns the most values the queue can hold at once.
+     *
+     * @return the capacity of the queue
+     */
+    @Override
+    public int capacity()
+    {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,1033 @@
+package intlist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * A list kept in a B-tree (a rope): the values sit in order in leaves of up
+ * to 512 ints, and each branch above them holds up to 64 children along
+ * with the number of values under each one. Finding an index walks down
+ * one path, subtracting the counts of the children it skips, so get, add
+ * and remove at any index take O(log n) time - only the values in one leaf
+ * are shifted, and a few counts on the way down are updated.
+ *
+ * A node that grows past its limit is split in two, and one that drops
+ * below a quarter full is merged with a neighbour (or evened out against
+ * it, if they don't fit in one node together). Appending at the back fills
+ * the last leaf completely before starting a new one, so a list built with
+ * addBack has full leaves.
+ *
+ * {@link #split(int)} and {@link #concat(TreeIntList)} cut and join whole
+ * trees in O(log n), and the bulk operations - addAll, removeRange - are
+ * built on them, so moving a big block of values costs about as much as
+ * moving one.
+ */
+public class TreeIntList implements IntList
+{
+    private static final int LEAF_CAPACITY = 512;   //values per leaf
+    private static final int BRANCHING = 64;        //children per branch
+    private static final int FIRST_LEAF_CAPACITY = 16;
+
+    private Node root;
+    private int height;     //levels of branches above the leaves - 0 when the root is a leaf
+    private int size;
+
+    public TreeIntList()
+    {
+        //initialize my fields - an empty list is one empty leaf
+        root = new Leaf(FIRST_LEAF_CAPACITY);
+        height = 0;
+        size = 0;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        add(size, value);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right. Takes O(log n) time.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        boolean appending = (index == size);
+        insert(root, index, value, appending);
+        size++;
+        fixRoot(appending);
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        addAll(size, values);
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right. A big batch is built into a
+     * tree of its own and joined in, so the rest of the list isn't touched
+     * beyond the path to the index.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+
+        //a few values are cheaper to put in one at a time
+        if (values.length <= LEAF_CAPACITY)
+        {
+            for (int i = 0; i < values.length; i++)
+            {
+                add(index + i, values[i]);
+            }
+            return;
+        }
+
+        TreeIntList rest = split(index);
+        concat(built(values));
+        concat(rest);
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        //copy first - other might be this list
+        addAll(other.stream().toArray());
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (!isEmpty())
+        {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (!isEmpty())
+        {
+            remove(size - 1);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list. Takes O(log n) time.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        checkIndex(index);
+        int value = removeAt(root, index);
+        size--;
+        fixRoot(false);
+        return value;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left. The range is cut out of the
+     * tree whole, in O(log n) time however long it is.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is
+     * greater than size(), or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        if (fromIndex == toIndex)
+        {
+            return;
+        }
+
+        TreeIntList rest = split(toIndex);
+        split(fromIndex);
+        concat(rest);
+    }
+
+    /**
+     * Removes the values from index to the end of this list and returns them,
+     * in order, as a new TreeIntList. Only the nodes on the path to the index
+     * are cut in two - everything else moves across whole - so this takes
+     * O(log n) time however many values move.
+     *
+     * @param index index of the first value to move to the new list
+     * @return a list of the values that were at index and after
+     * @throws IndexOutOfBoundsException if the index is not between 0 and size()
+     */
+    public TreeIntList split(int index)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+
+        TreeIntList rest = new TreeIntList();
+        if (index == size)
+        {
+            return rest;
+        }
+        if (index == 0)
+        {
+            //everything moves
+            rest.root = root;
+            rest.height = height;
+            rest.size = size;
+            clear();
+            return rest;
+        }
+
+        rest.root = cut(root, index);
+        rest.height = height;
+        rest.size = size - index;
+        rest.fixRoot(false);
+        size = index;
+        fixRoot(false);
+        return rest;
+    }
+
+    /**
+     * Moves all of the values in the other list onto the back of this list,
+     * in order, leaving the other list empty. The shorter tree is hung off
+     * the edge of the taller one, so this takes O(log n) time however many
+     * values move.
+     *
+     * @param other list whose values are to be moved
+     * @throws IllegalArgumentException if other is this list
+     */
+    public void concat(TreeIntList other)
+    {
+        if (other == this)
+        {
+            throw new IllegalArgumentException("A list cannot be joined to itself");
+        }
+        if (other.size == 0)
+        {
+            return;
+        }
+
+        if (size == 0)
+        {
+            root = other.root;
+            height = other.height;
+        }
+        else if (height == other.height)
+        {
+            Branch newRoot = new Branch();
+            newRoot.insertChild(0, root);
+            newRoot.insertChild(1, other.root);
+            newRoot.fix(1, false);
+            newRoot.fix(0, false);
+            root = newRoot;
+            height++;
+        }
+        else if (height > other.height)
+        {
+            appendTree((Branch) root, height, other.root, other.height, other.size);
+        }
+        else
+        {
+            prependTree((Branch) other.root, other.height, root, height, size);
+            root = other.root;
+            height = other.height;
+        }
+        size += other.size;
+        fixRoot(false);
+        other.clear();
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     * Takes O(log n) time.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        checkIndex(index);
+        Node node = root;
+        for (int level = height; level > 0; level--)
+        {
+            Branch branch = (Branch) node;
+            int i = 0;
+            while (index >= branch.sizes[i])
+            {
+                index -= branch.sizes[i];
+                i++;
+            }
+            node = branch.children[i];
+        }
+        return ((Leaf) node).values[index];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Searches a whole leaf at a time.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        return indexIn(root, value, 0);
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear()
+    {
+        root = new Leaf(FIRST_LEAF_CAPACITY);
+        height = 0;
+        size = 0;
+    }
+
+    /**
+     * Sorts the values in this list into ascending order. Equal values keep
+     * their order relative to each other. The values are radix sorted in an
+     * array and built back into a tree with full leaves.
+     */
+    @Override
+    public void sort()
+    {
+        int[] values = stream().toArray();
+        IntSorts.sort(values, 0, values.length);
+        replaceWith(built(values));
+    }
+
+    /**
+     * Sorts the values in this list into ascending order like {@link #sort()},
+     * but splits the work across the common fork-join pool when the list is
+     * big enough for that to pay off.
+     */
+    @Override
+    public void parallelSort()
+    {
+        int[] values = stream().toArray();
+        IntSorts.parallelSort(values, 0, values.length);
+        replaceWith(built(values));
+    }
+
+    private void replaceWith(TreeIntList other)
+    {
+        root = other.root;
+        height = other.height;
+        size = other.size;
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+    }
+
+    //after a change: grows a new root above a root that got too big, and
+    //drops roots that are down to a single child
+    private void fixRoot(boolean appending)
+    {
+        if (root.slots() > root.maxSlots())
+        {
+            Branch newRoot = new Branch();
+            newRoot.insertChild(0, root);
+            newRoot.fix(0, appending);
+            root = newRoot;
+            height++;
+        }
+        while (height > 0 && root.slots() == 1)
+        {
+            root = ((Branch) root).children[0];
+            height--;
+        }
+    }
+
+    //builds a tree of the values with the leaves and branches as evenly full as they can be
+    private static TreeIntList built(int[] values)
+    {
+        TreeIntList list = new TreeIntList();
+        int n = values.length;
+        if (n == 0)
+        {
+            return list;
+        }
+
+        int leafCount = (n + LEAF_CAPACITY - 1) / LEAF_CAPACITY;
+        Node[] level = new Node[leafCount];
+        int from = 0;
+        for (int i = 0; i < leafCount; i++)
+        {
+            int to = (int) ((long) n * (i + 1) / leafCount);
+            Leaf leaf = new Leaf(to - from);
+            System.arraycopy(values, from, leaf.values, 0, to - from);
+            leaf.count = to - from;
+            level[i] = leaf;
+            from = to;
+        }
+
+        //then branches over them, a level at a time, until one is left
+        int height = 0;
+        while (level.length > 1)
+        {
+            int branchCount = (level.length + BRANCHING - 1) / BRANCHING;
+            Node[] above = new Node[branchCount];
+            from = 0;
+            for (int i = 0; i < branchCount; i++)
+            {
+                int to = level.length * (i + 1) / branchCount;
+                Branch branch = new Branch();
+                for (int j = from; j < to; j++)
+                {
+                    branch.insertChild(branch.count, level[j]);
+                }
+                above[i] = branch;
+                from = to;
+            }
+            level = above;
+            height++;
+        }
+
+        list.root = level[0];
+        list.height = height;
+        list.size = n;
+        return list;
+    }
+
+    private static void insert(Node node, int index, int value, boolean appending)
+    {
+        if (node instanceof Leaf leaf)
+        {
+            leaf.insert(index, value);
+            return;
+        }
+
+        //an index between two children goes on the end of the first one
+        Branch branch = (Branch) node;
+        int i = 0;
+        while (i < branch.count - 1 && index > branch.sizes[i])
+        {
+            index -= branch.sizes[i];
+            i++;
+        }
+        insert(branch.children[i], index, value, appending);
+        branch.sizes[i]++;
+        branch.size++;
+        branch.fix(i, appending);
+    }
+
+    private static int removeAt(Node node, int index)
+    {
+        if (node instanceof Leaf leaf)
+        {
+            return leaf.remove(index);
+        }
+
+        Branch branch = (Branch) node;
+        int i = 0;
+        while (index >= branch.sizes[i])
+        {
+            index -= branch.sizes[i];
+            i++;
+        }
+        int value = removeAt(branch.children[i], index);
+        branch.sizes[i]--;
+        branch.size--;
+        branch.fix(i, false);
+        return value;
+    }
+
+    //cuts the node in two at index (0 < index < size): the node keeps the
+    //values before index, and the rest come back as a new node at the same
+    //height. Either part may be left under-full for its parent to fix
+    private static Node cut(Node node, int index)
+    {
+        if (node instanceof Leaf leaf)
+        {
+            return leaf.splitOff(index);
+        }
+
+        Branch branch = (Branch) node;
+        int i = 0;
+        while (index >= branch.sizes[i])
+        {
+            index -= branch.sizes[i];
+            i++;
+        }
+
+        Branch right;
+        if (index == 0)
+        {
+            //the cut falls between two children
+            right = (Branch) branch.splitOff(i);
+        }
+        else
+        {
+            Node rightPart = cut(branch.children[i], index);
+            branch.sizes[i] -= rightPart.size();
+            branch.size -= rightPart.size();
+            right = (Branch) branch.splitOff(i + 1);
+            right.insertChild(0, rightPart);
+            right.fix(0, false);
+        }
+        branch.fix(branch.count - 1, false);
+        return right;
+    }
+
+    //hangs tree (treeLevel levels high, holding added values) off the right
+    //edge of node, which is level levels high
+    private static void appendTree(Branch node, int level, Node tree, int treeLevel, int added)
+    {
+        if (level == treeLevel + 1)
+        {
+            node.insertChild(node.count, tree);
+            node.fix(node.count - 1, false);
+            return;
+        }
+        int last = node.count - 1;
+        Branch child = (Branch) node.children[last];
+        appendTree(child, level - 1, tree, treeLevel, added);
+        node.sizes[last] += added;
+        node.size += added;
+        node.fix(last, false);
+    }
+
+    //hangs tree (treeLevel levels high, holding added values) off the left
+    //edge of node, which is level levels high
+    private static void prependTree(Branch node, int level, Node tree, int treeLevel, int added)
+    {
+        if (level == treeLevel + 1)
+        {
+            node.insertChild(0, tree);
+            node.fix(0, false);
+            return;
+        }
+        Branch child = (Branch) node.children[0];
+        prependTree(child, level - 1, tree, treeLevel, added);
+        node.sizes[0] += added;
+        node.size += added;
+        node.fix(0, false);
+    }
+
+    //index of the value under node, counting from start, or -1
+    private static int indexIn(Node node, int value, int start)
+    {
+        if (node instanceof Leaf leaf)
+        {
+            int found = IntScans.indexOf(leaf.values, 0, leaf.count, value);
+            return found == -1 ? -1 : start + found;
+        }
+        Branch branch = (Branch) node;
+        for (int i = 0; i < branch.count; i++)
+        {
+            int found = indexIn(branch.children[i], value, start);
+            if (found != -1)
+            {
+                return found;
+            }
+            start += branch.sizes[i];
+        }
+        return -1;
+    }
+
+    private static void forEachIn(Node node, IntConsumer action)
+    {
+        if (node instanceof Leaf leaf)
+        {
+            for (int i = 0; i < leaf.count; i++)
+            {
+                action.accept(leaf.values[i]);
+            }
+            return;
+        }
+        Branch branch = (Branch) node;
+        for (int i = 0; i < branch.count; i++)
+        {
+            forEachIn(branch.children[i], action);
+        }
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return intIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints. It walks down the tree once per
+     * leaf and then reads straight along the leaf.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new LeafIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+        forEachIn(root, action);
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. Splitting copies
+     * off batches of values read a leaf at a time.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return Spliterators.spliterator(intIterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    //a leaf or a branch
+    private abstract static class Node
+    {
+        //values under this node
+        abstract int size();
+
+        //values in a leaf, children in a branch
+        abstract int slots();
+
+        abstract int maxSlots();
+
+        //moves the slots from at on into a new node, which is returned
+        abstract Node splitOff(int at);
+
+        //moves all of the slots of right (the next node along) onto the end of this one
+        abstract void absorb(Node right);
+
+        //moves count slots from the end of this node to the front of right
+        //(the next node along), or -count from the front of right to the end of this
+        abstract void shiftTo(Node right, int count);
+    }
+
+    private static final class Leaf extends Node
+    {
+        int[] values;
+        int count;
+
+        Leaf(int capacity)
+        {
+            values = new int[capacity];
+            count = 0;
+        }
+
+        @Override
+        int size()
+        {
+            return count;
+        }
+
+        @Override
+        int slots()
+        {
+            return count;
+        }
+
+        @Override
+        int maxSlots()
+        {
+            return LEAF_CAPACITY;
+        }
+
+        //a leaf can hold one value too many for a moment, until it is split
+        void ensureRoom(int n)
+        {
+            if (n > values.length)
+            {
+                values = Arrays.copyOf(values, Math.max(n, Math.min(values.length * 2, LEAF_CAPACITY + 1)));
+            }
+        }
+
+        void insert(int index, int value)
+        {
+            ensureRoom(count + 1);
+            System.arraycopy(values, index, values, index + 1, count - index);
+            values[index] = value;
+            count++;
+        }
+
+        int remove(int index)
+        {
+            int value = values[index];
+            System.arraycopy(values, index + 1, values, index, count - index - 1);
+            count--;
+            return value;
+        }
+
+        @Override
+        Node splitOff(int at)
+        {
+            Leaf right = new Leaf(Math.max(count - at, FIRST_LEAF_CAPACITY));
+            System.arraycopy(values, at, right.values, 0, count - at);
+            right.count = count - at;
+            count = at;
+            return right;
+        }
+
+        @Override
+        void absorb(Node node)
+        {
+            Leaf right = (Leaf) node;
+            ensureRoom(count + right.count);
+            System.arraycopy(right.values, 0, values, count, right.count);
+            count += right.count;
+        }
+
+        @Override
+        void shiftTo(Node node, int moved)
+        {
+            Leaf right = (Leaf) node;
+            if (moved > 0)
+            {
+                right.ensureRoom(right.count + moved);
+                System.arraycopy(right.values, 0, right.values, moved, right.count);
+                System.arraycopy(values, count - moved, right.values, 0, moved);
+                count -= moved;
+                right.count += moved;
+            }
+            else
+            {
+                moved = -moved;
+                ensureRoom(count + moved);
+                System.arraycopy(right.values, 0, values, count, moved);
+                System.arraycopy(right.values, moved, right.values, 0, right.count - moved);
+                count += moved;
+                right.count -= moved;
+            }
+        }
+    }
+
+    private static final class Branch extends Node
+    {
+        //one spare slot, so a child that was just split fits until this is split too
+        final Node[] children = new Node[BRANCHING + 1];
+        final int[] sizes = new int[BRANCHING + 1];     //values under each child
+        int count;
+        int size;
+
+        @Override
+        int size()
+        {
+            return size;
+        }
+
+        @Override
+        int slots()
+        {
+            return count;
+        }
+
+        @Override
+        int maxSlots()
+        {
+            return BRANCHING;
+        }
+
+        void insertChild(int i, Node child)
+        {
+            System.arraycopy(children, i, children, i + 1, count - i);
+            System.arraycopy(sizes, i, sizes, i + 1, count - i);
+            children[i] = child;
+            sizes[i] = child.size();
+            count++;
+            size += sizes[i];
+        }
+
+        void removeChild(int i)
+        {
+            size -= sizes[i];
+            System.arraycopy(children, i + 1, children, i, count - i - 1);
+            System.arraycopy(sizes, i + 1, sizes, i, count - i - 1);
+            count--;
+            children[count] = null;
+        }
+
+        @Override
+        Node splitOff(int at)
+        {
+            Branch right = new Branch();
+            for (int i = at; i < count; i++)
+            {
+                right.insertChild(right.count, children[i]);
+                children[i] = null;
+            }
+            count = at;
+            size -= right.size;
+            return right;
+        }
+
+        @Override
+        void absorb(Node node)
+        {
+            Branch right = (Branch) node;
+            for (int i = 0; i < right.count; i++)
+            {
+                insertChild(count, right.children[i]);
+            }
+        }
+
+        @Override
+        void shiftTo(Node node, int moved)
+        {
+            Branch right = (Branch) node;
+            for (; moved > 0; moved--)
+            {
+                right.insertChild(0, children[count - 1]);
+                removeChild(count - 1);
+            }
+            for (; moved < 0; moved++)
+            {
+                insertChild(count, right.children[0]);
+                right.removeChild(0);
+            }
+        }
+
+        //tidies up child i after it changed: splits it if it got too big, and
+        //merges it into a neighbour (or evens the two out, if they won't fit
+        //in one node) if it got too small. When appending, a full child is
+        //left full and the new slot starts the next one
+        void fix(int i, boolean appending)
+        {
+            Node child = children[i];
+            int max = child.maxSlots();
+            int slots = child.slots();
+            if (slots > max)
+            {
+                Node right = child.splitOff(appending ? max : slots / 2);
+                size -= right.size();
+                sizes[i] = child.size();
+                insertChild(i + 1, right);
+            }
+            else if (slots < max / 4 && count > 1)
+            {
+                int left = (i > 0) ? i - 1 : i;
+                Node leftChild = children[left];
+                Node rightChild = children[left + 1];
+                int total = leftChild.slots() + rightChild.slots();
+                if (total <= max)
+                {
+                    //the values stay under this branch, they just move child
+                    int moved = sizes[left + 1];
+                    leftChild.absorb(rightChild);
+                    removeChild(left + 1);
+                    size += moved;
+                }
+                else
+                {
+                    leftChild.shiftTo(rightChild, leftChild.slots() - total / 2);
+                }
+                sizes[left] = leftChild.size();
+                if (left + 1 < count)
+                {
+                    sizes[left + 1] = children[left + 1].size();
+                }
+            }
+        }
+    }
+
+    //helper iterator class - finds each leaf once, then walks along it
+    private class LeafIterator implements PrimitiveIterator.OfInt {
+        private int index;
+        private Leaf leaf;
+        private int leafStart;      //index of the leaf's first value in the list
+
+        public LeafIterator()
+        {
+            index = 0;
+            leaf = null;
+            leafStart = 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return index < size;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (index >= size)
+            {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            if (leaf == null || index - leafStart >= leaf.count)
+            {
+                findLeaf();
+            }
+            int currentValue = leaf.values[index - leafStart];
+            index++;
+
+            return currentValue;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+
+        //moves to the leaf holding index
+        private void findLeaf()
+        {
+            Node node = root;
+            int remaining = index;
+            for (int level = height; level > 0; level--)
+            {
+                Branch branch = (Branch) node;
+                int i = 0;
+                while (remaining >= branch.sizes[i])
+                {
+                    remaining -= branch.sizes[i];
+                    i++;
+                }
+                node = branch.children[i];
+            }
+            leaf = (Leaf) node;
+            leafStart = index - remaining;
+        }
+    }
+}
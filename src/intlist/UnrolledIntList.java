@@ -0,0 +1,796 @@
+package intlist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * A linked list whose nodes each hold a small array (a chunk) of values
+ * instead of a single one. Scanning the list reads whole arrays at a time,
+ * and there is one node object per chunk rather than one per value, so it
+ * is far kinder to the cache and the garbage collector than LinkedIntList.
+ * This is the linked structure to reach for once a list has more than a few
+ * thousand values.
+ *
+ * Inserting into the middle only shifts values inside one chunk. A full
+ * chunk is split in two, and a chunk that falls below half full after a
+ * removal is merged with a neighbour when they fit in one chunk together.
+ * Finding an index walks the chunks from whichever of the front, the back
+ * or the last chunk used is nearest, so walking a list with get(i) doesn't
+ * start from the front every time.
+ */
+public class UnrolledIntList implements IntList
+{
+    private static final int DEFAULT_CHUNK_CAPACITY = 64;
+    private static final int MIN_CHUNK_CAPACITY = 4;
+
+    // define what a node is - a run of values in an array
+    private static class Node {
+        final int[] values;
+        int count;
+        Node prev;
+        Node next;
+
+        Node(int capacity)
+        {
+            values = new int[capacity];
+        }
+    }
+
+    private final int chunkCapacity;
+    private Node head;
+    private Node tail;
+    private int size;
+
+    //the last node found by locate(), and the index of its first value -
+    //null when a change may have moved where the nodes start
+    private Node cursor;
+    private int cursorStart;
+
+    public UnrolledIntList()
+    {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list whose chunks each hold up to chunkCapacity
+     * values. Bigger chunks scan faster and use less memory per value;
+     * smaller ones make inserts and removals in the middle cheaper.
+     *
+     * @param chunkCapacity the number of values each node can hold
+     * @throws IllegalArgumentException if chunkCapacity is less than 4
+     */
+    public UnrolledIntList(int chunkCapacity)
+    {
+        if (chunkCapacity < MIN_CHUNK_CAPACITY)
+        {
+            throw new IllegalArgumentException("Chunk capacity must be at least " + MIN_CHUNK_CAPACITY);
+        }
+
+        //initialize my fields
+        this.chunkCapacity = chunkCapacity;
+        head = null;
+        tail = null;
+        size = 0;
+        cursor = null;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value)
+    {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value)
+    {
+        //start a new chunk when the last one is full - filled all the way,
+        //since values added at the back are usually followed by more
+        if (tail == null || tail.count == chunkCapacity)
+        {
+            linkAfter(tail, new Node(chunkCapacity));
+        }
+        tail.values[tail.count] = value;
+        tail.count++;
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        if (index == size)
+        {
+            addBack(value);
+            return;
+        }
+
+        Node node = locate(index);
+        int offset = index - cursorStart;
+
+        //a full chunk is split in half first, making room in both halves
+        if (node.count == chunkCapacity)
+        {
+            Node second = split(node, chunkCapacity / 2);
+            if (offset > node.count)
+            {
+                //the value goes in the second half, which starts later
+                offset -= node.count;
+                cursorStart += node.count;
+                node = second;
+                cursor = second;
+            }
+        }
+
+        //shift the rest of this chunk along one and drop the value in
+        System.arraycopy(node.values, offset, node.values, offset + 1, node.count - offset);
+        node.values[offset] = value;
+        node.count++;
+        size++;
+    }
+
+    /**
+     * Appends all of the specified values to the back of the list, in order.
+     * Fills the last chunk, then copies the rest in a chunk at a time.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values)
+    {
+        int copied = 0;
+        while (copied < values.length)
+        {
+            if (tail == null || tail.count == chunkCapacity)
+            {
+                linkAfter(tail, new Node(chunkCapacity));
+            }
+            int count = Math.min(chunkCapacity - tail.count, values.length - copied);
+            System.arraycopy(values, copied, tail.values, tail.count, count);
+            tail.count += count;
+            copied += count;
+        }
+        size += values.length;
+    }
+
+    /**
+     * Inserts all of the specified values at the specified position in this
+     * list, in order. Shifts the value currently at that position (if any)
+     * and any subsequent values to the right.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void addAll(int index, int[] values)
+    {
+        if (index < 0 || index > size)
+        {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        if (index == size)
+        {
+            addAll(values);
+            return;
+        }
+        if (values.length == 0)
+        {
+            return;
+        }
+
+        //cut the chunk at index, so the new values can go in between the two halves
+        Node node = locate(index);
+        int offset = index - cursorStart;
+        Node before = node;
+        if (offset == 0)
+        {
+            before = node.prev;
+        }
+        else if (offset < node.count)
+        {
+            split(node, offset);
+        }
+
+        //then link in full chunks of the new values
+        int copied = 0;
+        while (copied < values.length)
+        {
+            Node chunk = new Node(chunkCapacity);
+            chunk.count = Math.min(chunkCapacity, values.length - copied);
+            System.arraycopy(values, copied, chunk.values, 0, chunk.count);
+            linkAfter(before, chunk);
+            before = chunk;
+            copied += chunk.count;
+        }
+        size += values.length;
+        cursor = null;
+    }
+
+    /**
+     * Appends all of the values in the specified list to the back of this
+     * list, in the order they appear in that list.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other)
+    {
+        if (other == this)
+        {
+            //take a copy first, or we would keep reading what we just added
+            addAll(other.stream().toArray());
+            return;
+        }
+        other.forEach((int value) -> addBack(value));
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront()
+    {
+        if (!isEmpty())
+        {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack()
+    {
+        if (!isEmpty())
+        {
+            tail.count--;
+            size--;
+            if (tail.count == 0)
+            {
+                unlink(tail);
+            }
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index)
+    {
+        checkIndex(index);
+        Node node = locate(index);
+        int offset = index - cursorStart;
+
+        int value = node.values[offset];
+        System.arraycopy(node.values, offset + 1, node.values, offset, node.count - offset - 1);
+        node.count--;
+        size--;
+        tidy(node);
+
+        return value;
+    }
+
+    /**
+     * Removes the values from fromIndex (inclusive) to toIndex (exclusive).
+     * Shifts any subsequent values to the left.
+     *
+     * @param fromIndex index of the first value to be removed
+     * @param toIndex index after the last value to be removed
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is
+     * greater than size(), or fromIndex is greater than toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        if (fromIndex == toIndex)
+        {
+            return;
+        }
+
+        Node node = locate(fromIndex);
+        int offset = fromIndex - cursorStart;
+        int remaining = toIndex - fromIndex;
+        size -= remaining;
+
+        //cut the values out a chunk at a time, dropping chunks that empty out
+        while (remaining > 0)
+        {
+            int count = Math.min(node.count - offset, remaining);
+            System.arraycopy(node.values, offset + count, node.values, offset, node.count - offset - count);
+            node.count -= count;
+            remaining -= count;
+
+            Node next = node.next;
+            if (node.count == 0)
+            {
+                unlink(node);
+            }
+            node = next;
+            offset = 0;
+        }
+
+        //the chunks either side of the cut may now be small enough to merge
+        cursor = null;
+        if (fromIndex < size)
+        {
+            tidy(locate(fromIndex));
+        }
+        if (fromIndex > 0)
+        {
+            tidy(locate(fromIndex - 1));
+        }
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index)
+    {
+        checkIndex(index);
+        Node node = locate(index);
+        return node.values[index - cursorStart];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value)
+    {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value)
+    {
+        int start = 0;
+        for (Node node = head; node != null; node = node.next)
+        {
+            int[] values = node.values;
+            for (int i = 0; i < node.count; i++)
+            {
+                if (values[i] == value)
+                {
+                    return start + i;
+                }
+            }
+            start += node.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear()
+    {
+        head = null;
+        tail = null;
+        size = 0;
+        cursor = null;
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0)
+        {
+            throw new IndexOutOfBoundsException("Index cannot be negative");
+        }
+        else if (index >= size)
+        {
+            throw new IndexOutOfBoundsException("Index is higher than size");
+        }
+    }
+
+    //finds the node holding index (0 <= index < size), and leaves it in
+    //cursor with the index of its first value in cursorStart
+    private Node locate(int index)
+    {
+        Node node;
+        int start;
+
+        //start from whichever of the front, the back and the cursor is closest
+        int fromBack = size - index;
+        if (cursor != null && Math.abs(index - cursorStart) < Math.min(index, fromBack))
+        {
+            node = cursor;
+            start = cursorStart;
+        }
+        else if (index < fromBack)
+        {
+            node = head;
+            start = 0;
+        }
+        else
+        {
+            node = tail;
+            start = size - tail.count;
+        }
+
+        while (index < start)
+        {
+            node = node.prev;
+            start -= node.count;
+        }
+        while (index >= start + node.count)
+        {
+            start += node.count;
+            node = node.next;
+        }
+
+        cursor = node;
+        cursorStart = start;
+        return node;
+    }
+
+    //moves the values of node from offset on into a new node linked in after it
+    private Node split(Node node, int offset)
+    {
+        Node second = new Node(chunkCapacity);
+        second.count = node.count - offset;
+        System.arraycopy(node.values, offset, second.values, 0, second.count);
+        node.count = offset;
+        linkAfter(node, second);
+        return second;
+    }
+
+    //after a removal - drops the node if it is empty, or merges it with a
+    //neighbour if it is under half full and they fit in one chunk together
+    private void tidy(Node node)
+    {
+        if (node.count == 0)
+        {
+            unlink(node);
+        }
+        else if (node.count < chunkCapacity / 2)
+        {
+            if (node.next != null && node.count + node.next.count <= chunkCapacity)
+            {
+                mergeNext(node);
+            }
+            else if (node.prev != null && node.prev.count + node.count <= chunkCapacity)
+            {
+                mergeNext(node.prev);
+            }
+        }
+    }
+
+    //copies the next node's values onto the end of node, then unlinks the next node
+    private void mergeNext(Node node)
+    {
+        Node next = node.next;
+        System.arraycopy(next.values, 0, node.values, node.count, next.count);
+        node.count += next.count;
+        unlink(next);
+    }
+
+    //links node in after previous, or at the front if previous is null
+    private void linkAfter(Node previous, Node node)
+    {
+        Node next = previous == null ? head : previous.next;
+        node.prev = previous;
+        node.next = next;
+        if (previous == null)
+        {
+            head = node;
+        }
+        else
+        {
+            previous.next = node;
+        }
+        if (next == null)
+        {
+            tail = node;
+        }
+        else
+        {
+            next.prev = node;
+        }
+    }
+
+    private void unlink(Node node)
+    {
+        if (node.prev == null)
+        {
+            head = node.next;
+        }
+        else
+        {
+            node.prev.next = node.next;
+        }
+        if (node.next == null)
+        {
+            tail = node.prev;
+        }
+        else
+        {
+            node.next.prev = node.prev;
+        }
+
+        //nodes after this one now start somewhere else
+        cursor = null;
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code T}.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new UnrolledIterator();
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order, that
+     * hands them out as primitive ints.
+     *
+     * @return a primitive iterator over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator()
+    {
+        return new UnrolledIterator();
+    }
+
+    /**
+     * Performs the given action for each value in this list, in order,
+     * without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is null
+     */
+    @Override
+    public void forEach(IntConsumer action)
+    {
+        Objects.requireNonNull(action);
+
+        //a plain array loop over each chunk in turn
+        for (Node node = head; node != null; node = node.next)
+        {
+            int[] values = node.values;
+            for (int i = 0; i < node.count; i++)
+            {
+                action.accept(values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. It splits off
+     * growing batches of values copied a chunk at a time into an array,
+     * and unlike the other linked lists it knows how many values are left.
+     *
+     * @return a Spliterator.OfInt over the values in this list
+     */
+    @Override
+    public Spliterator.OfInt spliterator()
+    {
+        return new UnrolledSpliterator();
+    }
+
+    //helper iterator class - walks each chunk's array, then moves to the next node
+    private class UnrolledIterator implements PrimitiveIterator.OfInt {
+        private Node node;
+        private int offset;
+
+        public UnrolledIterator()
+        {
+            node = head;
+            offset = 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return node != null && offset < node.count;
+        }
+
+        @Override
+        public int nextInt()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException("There are no more values");
+            }
+            int currentValue = node.values[offset];
+            offset++;
+            if (offset == node.count)
+            {
+                node = node.next;
+                offset = 0;
+            }
+
+            return currentValue;
+        }
+
+        @Override
+        public Integer next()
+        {
+            //boxed version for for-each loops
+            return nextInt();
+        }
+    }
+
+    //helper class that lets streams walk (and split up) the chunks
+    private class UnrolledSpliterator implements Spliterator.OfInt {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node node;
+        private int offset;
+        private int remaining;
+        private int batch;      //size of the last batch that was split off
+
+        public UnrolledSpliterator()
+        {
+            node = head;
+            offset = 0;
+            remaining = size;
+            batch = 0;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit()
+        {
+            if (remaining <= 1)
+            {
+                return null;
+            }
+
+            //each batch is a bit bigger than the last one
+            int batchSize = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            int[] values = new int[batchSize];
+            int count = 0;
+            while (count < batchSize)
+            {
+                int take = Math.min(node.count - offset, batchSize - count);
+                System.arraycopy(node.values, offset, values, count, take);
+                count += take;
+                offset += take;
+                if (offset == node.count)
+                {
+                    node = node.next;
+                    offset = 0;
+                }
+            }
+            remaining -= count;
+            batch = count;
+            return Spliterators.spliterator(values, 0, count, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            if (remaining == 0)
+            {
+                return false;
+            }
+            action.accept(node.values[offset]);
+            offset++;
+            remaining--;
+            if (offset == node.count)
+            {
+                node = node.next;
+                offset = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action)
+        {
+            Objects.requireNonNull(action);
+            while (remaining > 0)
+            {
+                int[] values = node.values;
+                int end = Math.min(node.count, offset + remaining);
+                for (int i = offset; i < end; i++)
+                {
+                    action.accept(values[i]);
+                }
+                remaining -= end - offset;
+                node = node.next;
+                offset = 0;
+            }
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package intlist;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The SIMD versions of the scans in {@link IntScans}, written with the
+ * incubating Vector API. Each step loads a whole register of ints (8 with
+ * AVX2, 16 with AVX-512) and compares or combines them in one instruction;
+ * the few values left over at the end of the range are done one at a time.
+ *
+ * Only ever loaded through IntScans, after it has checked that the
+ * jdk.incubator.vector module is there.
+ */
+final class VectorIntScans
+{
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    //longs in a register the same size as INTS - each int register
+    //widens into INTS.length() / LONGS.length() of these
+    private static final VectorSpecies<Long> LONGS = VectorSpecies.of(long.class, INTS.vectorShape());
+
+    private VectorIntScans()
+    {
+    }
+
+    static int indexOf(int[] values, int from, int to, int value)
+    {
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        for (; i < bound; i += INTS.length())
+        {
+            VectorMask<Integer> hits = IntVector.fromArray(INTS, values, i).eq(value);
+            if (hits.anyTrue())
+            {
+                return i + hits.firstTrue();
+            }
+        }
+        return IntScans.scalarIndexOf(values, i, to, value);
+    }
+
+    static int lastIndexOf(int[] values, int from, int to, int value)
+    {
+        //whole registers from the back, then whatever is left at the front
+        int i = to;
+        while (i - from >= INTS.length())
+        {
+            i -= INTS.length();
+            VectorMask<Integer> hits = IntVector.fromArray(INTS, values, i).eq(value);
+            if (hits.anyTrue())
+            {
+                return i + hits.lastTrue();
+            }
+        }
+        return IntScans.scalarLastIndexOf(values, from, i, value);
+    }
+
+    static int count(int[] values, int from, int to, int value)
+    {
+        int count = 0;
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        for (; i < bound; i += INTS.length())
+        {
+            count += IntVector.fromArray(INTS, values, i).eq(value).trueCount();
+        }
+        return count + IntScans.scalarCount(values, i, to, value);
+    }
+
+    static long sum(int[] values, int from, int to)
+    {
+        //int lanes would overflow, so each register is widened to longs and
+        //added into long lanes
+        int parts = INTS.length() / LONGS.length();
+        LongVector sums = LongVector.zero(LONGS);
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        for (; i < bound; i += INTS.length())
+        {
+            IntVector vector = IntVector.fromArray(INTS, values, i);
+            for (int part = 0; part < parts; part++)
+            {
+                sums = sums.add((LongVector) vector.convertShape(VectorOperators.I2L, LONGS, part));
+            }
+        }
+        return sums.reduceLanes(VectorOperators.ADD) + IntScans.scalarSum(values, i, to);
+    }
+
+    static int min(int[] values, int from, int to)
+    {
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        int min = values[from];
+        if (i < bound)
+        {
+            IntVector mins = IntVector.fromArray(INTS, values, i);
+            for (i += INTS.length(); i < bound; i += INTS.length())
+            {
+                mins = mins.min(IntVector.fromArray(INTS, values, i));
+            }
+            min = mins.reduceLanes(VectorOperators.MIN);
+        }
+        for (; i < to; i++)
+        {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    static int max(int[] values, int from, int to)
+    {
+        int i = from;
+        int bound = from + INTS.loopBound(to - from);
+        int max = values[from];
+        if (i < bound)
+        {
+            IntVector maxes = IntVector.fromArray(INTS, values, i);
+            for (i += INTS.length(); i < bound; i += INTS.length())
+            {
+                maxes = maxes.max(IntVector.fromArray(INTS, values, i));
+            }
+            max = maxes.reduceLanes(VectorOperators.MAX);
+        }
+        for (; i < to; i++)
+        {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+}
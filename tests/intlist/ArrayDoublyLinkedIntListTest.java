@@ -0,0 +1,188 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayDoublyLinkedIntListTest
+{
+    public ArrayDoublyLinkedIntList createList()
+    {
+        //1, 2, 3, 4, 5
+        ArrayDoublyLinkedIntList list = new ArrayDoublyLinkedIntList();
+        for (int i = 1; i <= 5; i++)
+        {
+            list.addBack(i);
+        }
+        return list;
+    }
+
+    @Test
+    void addFrontAndBack()
+    {
+        ArrayDoublyLinkedIntList list = new ArrayDoublyLinkedIntList(0);
+        list.addFront(2);
+        list.addBack(3);
+        list.addFront(1);
+        assertArrayEquals(new int[] {1, 2, 3}, list.stream().toArray());
+        assertEquals(1, list.peekFront());
+        assertEquals(3, list.peekBack());
+    }
+
+    @Test
+    void add()
+    {
+        ArrayDoublyLinkedIntList list = createList();
+        list.add(2, 9);
+        list.add(0, 8);
+        list.add(7, 7);
+        assertArrayEquals(new int[] {8, 1, 2, 9, 3, 4, 5, 7}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(9, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, 0));
+    }
+
+    @Test
+    void addAll()
+    {
+        ArrayDoublyLinkedIntList list = createList();
+        list.addAll(new int[] {6, 7});
+        list.addAll(1, new int[] {-1, -2});
+        assertArrayEquals(new int[] {1, -1, -2, 2, 3, 4, 5, 6, 7}, list.stream().toArray());
+        list.addAll(list);
+        assertEquals(18, list.size());
+        assertEquals(1, list.get(9));
+    }
+
+    @Test
+    void remove()
+    {
+        ArrayDoublyLinkedIntList list = createList();
+        assertEquals(3, list.remove(2));
+        assertEquals(5, list.popBack());
+        assertEquals(1, list.popFront());
+        assertArrayEquals(new int[] {2, 4}, list.stream().toArray());
+        list.removeFront();
+        list.removeBack();
+        assertTrue(list.isEmpty());
+        list.removeBack();
+        assertThrows(NoSuchElementException.class, () -> list.popFront());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+    }
+
+    @Test
+    void removeRange()
+    {
+        ArrayDoublyLinkedIntList list = createList();
+        list.removeRange(1, 4);
+        assertArrayEquals(new int[] {1, 5}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(1, 3));
+    }
+
+    @Test
+    void reusesFreedSlots()
+    {
+        //a queue that stays the same size never needs more room
+        ArrayDoublyLinkedIntList list = new ArrayDoublyLinkedIntList(8);
+        for (int i = 0; i < 8; i++)
+        {
+            list.addBack(i);
+        }
+        for (int i = 8; i < 10000; i++)
+        {
+            assertEquals(i - 8, list.popFront());
+            list.addBack(i);
+        }
+        assertEquals(8, list.capacity());
+        assertArrayEquals(new int[] {9992, 9993, 9994, 9995, 9996, 9997, 9998, 9999}, list.stream().toArray());
+    }
+
+    @Test
+    void iteratorRemove()
+    {
+        ArrayDoublyLinkedIntList list = createList();
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext())
+        {
+            if (iterator.nextInt() % 2 == 1)
+            {
+                iterator.remove();
+            }
+        }
+        assertArrayEquals(new int[] {2, 4}, list.stream().toArray());
+        assertEquals(2, list.size());
+        assertEquals(4, list.peekBack());
+    }
+
+    @Test
+    void compact()
+    {
+        Random random = new Random(9);
+        ArrayDoublyLinkedIntList list = new ArrayDoublyLinkedIntList();
+        ArrayIntList expected = new ArrayIntList();
+        for (int i = 0; i < 2000; i++)
+        {
+            int index = random.nextInt(expected.size() + 1);
+            list.add(index, i);
+            expected.add(index, i);
+            if (i % 3 == 0)
+            {
+                int removed = random.nextInt(expected.size());
+                assertEquals(expected.remove(removed), list.remove(removed));
+            }
+        }
+        list.compact();
+        assertEquals(expected.size(), list.capacity());
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+        assertEquals(expected.get(100), list.get(100));
+
+        //still works as a list afterwards
+        list.addFront(-1);
+        list.addBack(-2);
+        assertEquals(-1, list.get(0));
+        assertEquals(-2, list.get(list.size() - 1));
+
+        list.clear();
+        list.compact();
+        assertTrue(list.isEmpty());
+        list.addBack(1);
+        assertEquals(1, list.peekFront());
+    }
+
+    @Test
+    void indexOf()
+    {
+        ArrayDoublyLinkedIntList list = createList();
+        assertEquals(3, list.indexOf(4));
+        assertEquals(-1, list.indexOf(9));
+        assertTrue(list.contains(5));
+        assertFalse(list.contains(0));
+    }
+
+    @Test
+    void iterators()
+    {
+        ArrayDoublyLinkedIntList list = new ArrayDoublyLinkedIntList();
+        for (int i = 0; i < 10000; i++)
+        {
+            list.addFront(i);
+        }
+        long[] total = {0};
+        list.forEach((int value) -> total[0] += value);
+        assertEquals(49995000L, total[0]);
+        assertEquals(49995000L, list.parallelStream().asLongStream().sum());
+        assertEquals(10000, list.spliterator().estimateSize());
+
+        int count = 0;
+        for (int value : list)
+        {
+            assertEquals(9999 - count, value);
+            count++;
+        }
+        assertEquals(10000, count);
+    }
+}
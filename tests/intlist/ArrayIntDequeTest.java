@@ -0,0 +1,160 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayIntDequeTest
+{
+    public ArrayIntDeque createDeque()
+    {
+        //start part way through the buffer so the values wrap around the end
+        ArrayIntDeque deque = new ArrayIntDeque(8);
+        deque.addBack(3);
+        deque.addBack(4);
+        deque.addBack(5);
+        deque.addFront(2);
+        deque.addFront(1);
+        return deque;
+    }
+
+    @Test
+    void addFrontAndBack()
+    {
+        ArrayIntDeque deque = createDeque();
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, deque.stream().toArray());
+        assertEquals(1, deque.peekFront());
+        assertEquals(5, deque.peekBack());
+        assertEquals(5, deque.size());
+    }
+
+    @Test
+    void grows()
+    {
+        ArrayIntDeque deque = createDeque();
+        for (int i = 6; i <= 20; i++)
+        {
+            deque.addBack(i);
+        }
+        deque.addFront(0);
+        for (int i = 0; i <= 20; i++)
+        {
+            assertEquals(i, deque.get(i));
+        }
+    }
+
+    @Test
+    void popFrontAndBack()
+    {
+        ArrayIntDeque deque = createDeque();
+        assertEquals(1, deque.popFront());
+        assertEquals(5, deque.popBack());
+        assertEquals(2, deque.popFront());
+        assertEquals(4, deque.popBack());
+        assertEquals(3, deque.popFront());
+        assertEquals(true, deque.isEmpty());
+        assertThrows(NoSuchElementException.class, deque::popFront);
+        assertThrows(NoSuchElementException.class, deque::peekBack);
+    }
+
+    @Test
+    void queue()
+    {
+        //addBack on one end, popFront on the other, far more values than the buffer holds
+        ArrayIntDeque deque = new ArrayIntDeque(4);
+        for (int i = 0; i < 1000; i++)
+        {
+            deque.addBack(i);
+            deque.addBack(i);
+            assertEquals(i / 2, deque.popFront());
+        }
+        assertEquals(1000, deque.size());
+        assertEquals(500, deque.peekFront());
+    }
+
+    @Test
+    void add()
+    {
+        ArrayIntDeque deque = createDeque();
+        deque.add(1, 10);
+        deque.add(5, 11);
+        deque.add(0, 12);
+        deque.add(8, 13);
+        assertArrayEquals(new int[] {12, 1, 10, 2, 3, 4, 11, 5, 13}, deque.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.add(10, 1));
+    }
+
+    @Test
+    void remove()
+    {
+        ArrayIntDeque deque = createDeque();
+        assertEquals(2, deque.remove(1));
+        assertEquals(4, deque.remove(2));
+        assertArrayEquals(new int[] {1, 3, 5}, deque.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.remove(3));
+    }
+
+    @Test
+    void addAll()
+    {
+        ArrayIntDeque deque = createDeque();
+        deque.addAll(1, new int[] {7, 8});
+        deque.addAll(5, new int[] {9});
+        deque.addAll(new int[] {10, 11});
+        deque.addAll(deque);
+        assertArrayEquals(new int[] {1, 7, 8, 2, 3, 9, 4, 5, 10, 11, 1, 7, 8, 2, 3, 9, 4, 5, 10, 11},
+                deque.stream().toArray());
+    }
+
+    @Test
+    void removeRange()
+    {
+        ArrayIntDeque deque = createDeque();
+        deque.removeRange(0, 2);
+        assertArrayEquals(new int[] {3, 4, 5}, deque.stream().toArray());
+
+        deque = createDeque();
+        deque.removeRange(3, 5);
+        assertArrayEquals(new int[] {1, 2, 3}, deque.stream().toArray());
+
+        deque = createDeque();
+        deque.removeRange(1, 4);
+        assertArrayEquals(new int[] {1, 5}, deque.stream().toArray());
+    }
+
+    @Test
+    void indexOf()
+    {
+        ArrayIntDeque deque = createDeque();
+        assertEquals(0, deque.indexOf(1));
+        assertEquals(4, deque.indexOf(5));
+        assertEquals(-1, deque.indexOf(6));
+        assertEquals(true, deque.contains(3));
+        assertEquals(false, deque.contains(0));
+    }
+
+    @Test
+    void clear()
+    {
+        ArrayIntDeque deque = createDeque();
+        deque.clear();
+        assertEquals(true, deque.isEmpty());
+        deque.addFront(1);
+        assertEquals(1, deque.get(0));
+    }
+
+    @Test
+    void parallelStream()
+    {
+        ArrayIntDeque deque = new ArrayIntDeque();
+        long expected = 0;
+        for (int i = 0; i < 50000; i++)
+        {
+            deque.addFront(i);
+            expected += i;
+        }
+        assertEquals(expected, deque.parallelStream().asLongStream().sum());
+    }
+}
@@ -0,0 +1,523 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayIntListTest
+{
+    public ArrayIntList createList()
+    {
+        //1, 2, 3, 4, 5
+        ArrayIntList list = new ArrayIntList();
+        for (int i = 1; i <= 5; i++)
+        {
+            list.addBack(i);
+        }
+        return list;
+    }
+
+    @Test
+    void addFront()
+    {
+        ArrayIntList list = createList();
+        list.addFront(0);
+        assertEquals(0, list.get(0));
+        assertEquals(1, list.get(1));
+        assertEquals(6, list.size());
+    }
+
+    @Test
+    void add()
+    {
+        ArrayIntList list = createList();
+        list.add(2, 9);
+        assertArrayEquals(new int[] {1, 2, 9, 3, 4, 5}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(7, 9));
+    }
+
+    @Test
+    void removeFront()
+    {
+        ArrayIntList list = createList();
+        list.removeFront();
+        assertArrayEquals(new int[] {2, 3, 4, 5}, list.stream().toArray());
+    }
+
+    @Test
+    void remove()
+    {
+        ArrayIntList list = createList();
+        assertEquals(3, list.remove(2));
+        assertArrayEquals(new int[] {1, 2, 4, 5}, list.stream().toArray());
+    }
+
+    @Test
+    void growsPastInitialCapacity()
+    {
+        ArrayIntList list = new ArrayIntList();
+        for (int i = 0; i < 25; i++)
+        {
+            list.addFront(i);
+        }
+        assertEquals(25, list.size());
+        assertEquals(24, list.get(0));
+        assertEquals(0, list.get(24));
+    }
+
+    @Test
+    void intIterator()
+    {
+        ArrayIntList list = createList();
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        for (int i = 1; i <= 5; i++)
+        {
+            assertEquals(i, iterator.nextInt());
+        }
+        assertEquals(false, iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    void parallelStream()
+    {
+        ArrayIntList list = new ArrayIntList();
+        long expected = 0;
+        for (int i = 0; i < 100000; i++)
+        {
+            list.addBack(i);
+            expected += i;
+        }
+        assertEquals(expected, list.parallelStream().asLongStream().sum());
+        assertEquals(100000, list.stream().count());
+    }
+
+    @Test
+    void addAll()
+    {
+        ArrayIntList list = createList();
+        list.addAll(new int[] {6, 7});
+        list.addAll(2, new int[] {20, 21, 22});
+        assertArrayEquals(new int[] {1, 2, 20, 21, 22, 3, 4, 5, 6, 7}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(11, new int[] {1}));
+    }
+
+    @Test
+    void addAllLargeBatch()
+    {
+        ArrayIntList list = createList();
+        int[] batch = new int[100000];
+        for (int i = 0; i < batch.length; i++)
+        {
+            batch[i] = -i;
+        }
+        list.addAll(3, batch);
+        assertEquals(100005, list.size());
+        assertEquals(3, list.get(2));
+        assertEquals(0, list.get(3));
+        assertEquals(-99999, list.get(100002));
+        assertEquals(4, list.get(100003));
+    }
+
+    @Test
+    void addAllList()
+    {
+        ArrayIntList list = createList();
+        LinkedIntList linked = new LinkedIntList();
+        linked.addFront(7);
+        linked.addFront(6);
+
+        list.addAll(linked);
+        list.addAll(list);
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6, 7, 1, 2, 3, 4, 5, 6, 7}, list.stream().toArray());
+    }
+
+    @Test
+    void removeRange()
+    {
+        ArrayIntList list = createList();
+        list.removeRange(1, 3);
+        assertArrayEquals(new int[] {1, 4, 5}, list.stream().toArray());
+        list.removeRange(0, 0);
+        assertEquals(3, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 1));
+    }
+
+    @Test
+    void initialCapacity()
+    {
+        ArrayIntList list = new ArrayIntList(100);
+        assertEquals(100, list.capacity());
+        for (int i = 0; i < 100; i++)
+        {
+            list.addBack(i);
+        }
+        assertEquals(100, list.capacity());
+
+        ArrayIntList emptyBuffer = new ArrayIntList(0);
+        emptyBuffer.addBack(1);
+        emptyBuffer.addFront(0);
+        assertArrayEquals(new int[] {0, 1}, emptyBuffer.stream().toArray());
+        assertThrows(IllegalArgumentException.class, () -> new ArrayIntList(-1));
+    }
+
+    @Test
+    void growthPolicy()
+    {
+        ArrayIntList doubling = new ArrayIntList(10, GrowthPolicy.doubling());
+        ArrayIntList oneAndAHalf = new ArrayIntList(10, GrowthPolicy.oneAndAHalf());
+        ArrayIntList fixed = new ArrayIntList(10, GrowthPolicy.fixedIncrement(4));
+        ArrayIntList capped = new ArrayIntList(10, GrowthPolicy.capped(6));
+        for (int i = 0; i < 11; i++)
+        {
+            doubling.addBack(i);
+            oneAndAHalf.addBack(i);
+            fixed.addBack(i);
+            capped.addBack(i);
+        }
+
+        assertEquals(20, doubling.capacity());
+        assertEquals(15, oneAndAHalf.capacity());
+        assertEquals(14, fixed.capacity());
+        assertEquals(16, capped.capacity());
+        assertEquals(10, capped.get(10));
+    }
+
+    @Test
+    void ensureCapacity()
+    {
+        ArrayIntList list = createList();
+        list.ensureCapacity(1000);
+        assertEquals(1000, list.capacity());
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, list.stream().toArray());
+
+        //already big enough, so nothing changes
+        list.ensureCapacity(50);
+        assertEquals(1000, list.capacity());
+    }
+
+    @Test
+    void trimToSize()
+    {
+        ArrayIntList list = createList();
+        list.trimToSize();
+        assertEquals(5, list.capacity());
+        list.addBack(6);
+        assertEquals(6, list.get(5));
+
+        ArrayIntList empty = new ArrayIntList();
+        empty.trimToSize();
+        assertEquals(0, empty.capacity());
+        empty.addBack(1);
+        assertEquals(1, empty.get(0));
+    }
+
+    @Test
+    void shrinkThreshold()
+    {
+        ArrayIntList list = new ArrayIntList(10);
+        list.setShrinkThreshold(0.25);
+        for (int i = 0; i < 80; i++)
+        {
+            list.addBack(i);
+        }
+        assertEquals(80, list.capacity());
+
+        list.removeRange(10, 80);
+        assertEquals(40, list.capacity());
+        while (list.size() > 1)
+        {
+            list.removeBack();
+        }
+        assertEquals(10, list.capacity());
+        assertEquals(0, list.get(0));
+        assertThrows(IllegalArgumentException.class, () -> list.setShrinkThreshold(0.75));
+    }
+
+    @Test
+    void clear()
+    {
+        ArrayIntList list = new ArrayIntList(10);
+        for (int i = 0; i < 1000; i++)
+        {
+            list.addBack(i);
+        }
+        int capacity = list.capacity();
+        list.clear();
+        assertEquals(true, list.isEmpty());
+        assertEquals(capacity, list.capacity());
+
+        //a reservation survives clearing, so refilling doesn't grow the buffer
+        list.ensureCapacity(5000);
+        list.clear();
+        list.addAll(new int[5000]);
+        assertEquals(5000, list.capacity());
+
+        //trimToSize is how to give the memory back
+        list.clear();
+        list.trimToSize();
+        assertEquals(0, list.capacity());
+    }
+
+    @Test
+    void valueIndex()
+    {
+        ArrayIntList list = createList();
+        assertEquals(0, list.valueIndexMemoryUsage());
+        list.enableValueIndex();
+        assertEquals(2, list.indexOf(3));
+        assertTrue(list.valueIndexMemoryUsage() > 0);
+
+        //kept up to date at the back
+        list.addBack(3);
+        list.addBack(6);
+        assertEquals(2, list.indexOf(3));
+        assertEquals(6, list.indexOf(6));
+        list.removeBack();
+        assertEquals(-1, list.indexOf(6));
+        assertFalse(list.contains(6));
+        list.addAll(new int[] {8, 9});
+        assertEquals(7, list.indexOf(9));
+
+        //rebuilt after shifting
+        list.addFront(9);
+        assertEquals(0, list.indexOf(9));
+        assertEquals(3, list.indexOf(3));
+        list.remove(0);
+        list.removeRange(0, 3);
+        assertEquals(2, list.indexOf(3));
+        assertEquals(-1, list.indexOf(1));
+
+        list.clear();
+        assertFalse(list.contains(3));
+        list.addBack(3);
+        assertEquals(0, list.indexOf(3));
+
+        list.disableValueIndex();
+        assertEquals(0, list.valueIndexMemoryUsage());
+        assertEquals(0, list.indexOf(3));
+    }
+
+    @Test
+    void set()
+    {
+        ArrayIntList list = createList();
+        list.enableValueIndex();
+        assertEquals(2, list.indexOf(3));
+
+        //overwritten in place, and the value index notices
+        list.set(2, 30);
+        assertEquals(30, list.get(2));
+        assertEquals(-1, list.indexOf(3));
+        assertEquals(2, list.indexOf(30));
+        assertEquals(5, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(5, 0));
+    }
+
+    @Test
+    void valueIndexMatchesScan()
+    {
+        //lots of duplicates and removals at the back, checked against a plain list
+        Random random = new Random(11);
+        ArrayIntList indexed = new ArrayIntList();
+        ArrayIntList plain = new ArrayIntList();
+        indexed.enableValueIndex();
+        for (int i = 0; i < 5000; i++)
+        {
+            if (random.nextInt(3) == 0)
+            {
+                indexed.removeBack();
+                plain.removeBack();
+            }
+            else
+            {
+                int value = random.nextInt(500) * 1024;
+                indexed.addBack(value);
+                plain.addBack(value);
+            }
+            int probe = random.nextInt(500) * 1024;
+            assertEquals(plain.indexOf(probe), indexed.indexOf(probe));
+        }
+    }
+
+    @Test
+    void listIterator()
+    {
+        ArrayIntList list = new ArrayIntList();
+        list.addAll(new int[] {1, 2, 3, 4, 5, 6});
+
+        //drop the even values, double the odd ones, and put a 0 after the 3
+        IntListIterator iterator = list.listIterator();
+        while (iterator.hasNext())
+        {
+            int value = iterator.nextInt();
+            if (value % 2 == 0)
+            {
+                iterator.remove();
+            }
+            else
+            {
+                iterator.set(value * 2);
+                if (value == 3)
+                {
+                    iterator.add(0);
+                }
+            }
+        }
+        assertArrayEquals(new int[] {2, 6, 0, 10}, list.stream().toArray());
+        assertEquals(4, iterator.nextIndex());
+
+        //and back again
+        assertEquals(10, iterator.previousInt());
+        assertEquals(0, iterator.previousInt());
+        iterator.remove();
+        assertEquals(6, iterator.previousInt());
+        assertEquals(0, iterator.previousIndex());
+        iterator.add(4);
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(4, iterator.previousInt());
+        assertArrayEquals(new int[] {2, 4, 6, 10}, list.stream().toArray());
+
+        IntListIterator fromMiddle = list.listIterator(2);
+        assertEquals(6, fromMiddle.nextInt());
+        assertEquals(6, fromMiddle.previousInt());
+        assertEquals(4, fromMiddle.previousInt());
+        assertEquals(false, list.listIterator(list.size()).hasNext());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(-1));
+    }
+
+    @Test
+    void listIteratorFailsFast()
+    {
+        ArrayIntList list = new ArrayIntList();
+        list.addAll(new int[] {1, 2, 3});
+
+        IntListIterator iterator = list.listIterator();
+        iterator.nextInt();
+        list.addAll(new int[] {4});
+        assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+        assertThrows(ConcurrentModificationException.class, () -> iterator.add(5));
+
+        //two iterators - an edit through one breaks the other
+        IntListIterator first = list.listIterator();
+        IntListIterator second = list.listIterator();
+        first.nextInt();
+        first.remove();
+        assertThrows(ConcurrentModificationException.class, second::nextInt);
+    }
+
+    @Test
+    void scans()
+    {
+        //the tests run with the Vector API, so these go through VectorIntScans -
+        //check them against the plain loops, on lengths that leave a tail
+        assertEquals(true, IntScans.VECTORIZED);
+        Random random = new Random(20);
+        for (int length : new int[] {1, 7, 8, 9, 31, 64, 1000, 4099})
+        {
+            ArrayIntList list = new ArrayIntList();
+            int[] values = random.ints(length, -50, 50).toArray();
+            list.addAll(values);
+
+            for (int value = -51; value <= 50; value += 3)
+            {
+                assertEquals(IntScans.scalarIndexOf(values, 0, length, value), list.indexOf(value));
+                assertEquals(IntScans.scalarLastIndexOf(values, 0, length, value), list.lastIndexOf(value));
+                assertEquals(IntScans.scalarCount(values, 0, length, value), list.count(value));
+                assertEquals(IntScans.scalarIndexOf(values, 0, length, value) != -1, list.contains(value));
+            }
+            assertEquals(IntScans.scalarSum(values, 0, length), list.sum());
+            assertEquals(IntScans.scalarMin(values, 0, length), list.min());
+            assertEquals(IntScans.scalarMax(values, 0, length), list.max());
+        }
+
+        //values past size() in the buffer must be ignored
+        ArrayIntList list = new ArrayIntList(100);
+        list.addAll(new int[] {Integer.MAX_VALUE, Integer.MAX_VALUE, 3, 9, 9, 1, 2, 3, 4, 5, 6, 7});
+        list.removeBack();
+        assertEquals(4294967294L + 42, list.sum());
+        assertEquals(1, list.min());
+        assertEquals(Integer.MAX_VALUE, list.max());
+        assertEquals(7, list.lastIndexOf(3));
+        assertEquals(-1, list.indexOf(7));
+        assertEquals(2, list.count(9));
+        assertEquals(0, new ArrayIntList().sum());
+        assertThrows(NoSuchElementException.class, () -> new ArrayIntList().min());
+    }
+
+    @Test
+    void equalsAndHashCode()
+    {
+        ArrayIntList list = new ArrayIntList(2);
+        list.addAll(new int[] {1, 2, 3});
+        ArrayIntList same = new ArrayIntList(50);
+        same.addAll(new int[] {1, 2, 3, 4});
+        same.removeBack();
+
+        assertEquals(list, same);
+        assertEquals(list.hashCode(), same.hashCode());
+        same.addBack(4);
+        assertNotEquals(list, same);
+        assertNotEquals(list, new int[] {1, 2, 3});
+    }
+
+    @Test
+    void sort()
+    {
+        //short lists, and long enough ones to take the radix sort
+        for (int length : new int[] {0, 1, 5, 1000, 100_000})
+        {
+            int[] values = new Random(length).ints(length).toArray();
+            ArrayIntList list = new ArrayIntList();
+            list.addAll(values);
+            list.sort();
+            Arrays.sort(values);
+            assertArrayEquals(values, list.stream().toArray());
+        }
+
+        //negatives go in front, and values past size() are left alone
+        ArrayIntList list = new ArrayIntList(2000);
+        for (int i = 0; i < 1000; i++)
+        {
+            list.addBack(500 - i);
+        }
+        list.addAll(new int[] {Integer.MIN_VALUE, Integer.MAX_VALUE, 0});
+        list.removeBack();
+        list.sort();
+        assertEquals(Integer.MIN_VALUE, list.get(0));
+        assertEquals(-499, list.get(1));
+        assertEquals(Integer.MAX_VALUE, list.get(list.size() - 1));
+        assertEquals(1002, list.size());
+    }
+
+    @Test
+    void sortKeepsValueIndexRight()
+    {
+        ArrayIntList list = new ArrayIntList();
+        list.enableValueIndex();
+        list.addAll(new int[] {9, 3, 7, 3, 1});
+        assertEquals(0, list.indexOf(9));
+        list.sort();
+        assertEquals(4, list.indexOf(9));
+        assertEquals(1, list.indexOf(3));
+    }
+
+    @Test
+    void parallelSort()
+    {
+        int[] values = new Random(21).ints(300_000, -1000, 1000).toArray();
+        ArrayIntList list = new ArrayIntList();
+        list.addAll(values);
+        list.parallelSort();
+        Arrays.sort(values);
+        assertArrayEquals(values, list.stream().toArray());
+    }
+}
@@ -0,0 +1,191 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedIntListTest
+{
+    public CompressedIntList createList(int count)
+    {
+        //1000, 1001, 1002, ... - increasing ids, spanning several blocks
+        CompressedIntList list = new CompressedIntList();
+        for (int i = 0; i < count; i++)
+        {
+            list.addBack(1000 + i);
+        }
+        return list;
+    }
+
+    //the same values in an ArrayIntList, to check against
+    private static ArrayIntList expected(int count)
+    {
+        ArrayIntList list = new ArrayIntList();
+        for (int i = 0; i < count; i++)
+        {
+            list.addBack(1000 + i);
+        }
+        return list;
+    }
+
+    @Test
+    void get()
+    {
+        CompressedIntList list = createList(1000);
+        assertEquals(1000, list.size());
+        assertEquals(1000, list.get(0));
+        assertEquals(1127, list.get(127));
+        assertEquals(1128, list.get(128));
+        assertEquals(1999, list.get(999));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1000));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void addFrontAndRemoveFront()
+    {
+        CompressedIntList list = createList(300);
+        ArrayIntList expected = expected(300);
+        list.addFront(-5);
+        expected.addFront(-5);
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+
+        list.removeFront();
+        list.removeFront();
+        expected.removeFront();
+        expected.removeFront();
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+    }
+
+    @Test
+    void addAndRemoveMiddle()
+    {
+        CompressedIntList list = createList(500);
+        ArrayIntList expected = expected(500);
+        list.add(130, 7);
+        expected.add(130, 7);
+        list.addAll(256, new int[] {1, 2, 3});
+        expected.addAll(256, new int[] {1, 2, 3});
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+
+        assertEquals(expected.remove(40), list.remove(40));
+        list.removeRange(100, 400);
+        expected.removeRange(100, 400);
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(list.size() + 1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(5, 2));
+    }
+
+    @Test
+    void removeBackAcrossBlocks()
+    {
+        CompressedIntList list = createList(257);
+        for (int i = 256; i >= 0; i--)
+        {
+            assertEquals(1000 + i, list.get(list.size() - 1));
+            list.removeBack();
+        }
+        assertTrue(list.isEmpty());
+        list.removeBack();
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void awkwardValues()
+    {
+        //deltas that overflow an int, plus outliers that force the varint fallback
+        Random random = new Random(7);
+        int[] values = new int[2000];
+        for (int i = 0; i < values.length; i++)
+        {
+            if (i % 3 == 0)
+            {
+                values[i] = i % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            }
+            else if (i % 100 == 1)
+            {
+                values[i] = random.nextInt();
+            }
+            else
+            {
+                values[i] = i - random.nextInt(5);
+            }
+        }
+        CompressedIntList list = new CompressedIntList();
+        list.addAll(values);
+        assertArrayEquals(values, list.stream().toArray());
+
+        int[] outliers = new int[1000];
+        for (int i = 0; i < outliers.length; i++)
+        {
+            outliers[i] = i % 50 == 0 ? random.nextInt() : i * 3;
+        }
+        CompressedIntList other = new CompressedIntList();
+        other.addAll(outliers);
+        assertArrayEquals(outliers, other.stream().toArray());
+        assertEquals(outliers[777], other.get(777));
+    }
+
+    @Test
+    void compressesIds()
+    {
+        CompressedIntList list = createList(100000);
+        list.trimToSize();
+        assertTrue(list.memoryUsage() * 8 < 100000L * Integer.BYTES);
+    }
+
+    @Test
+    void indexOf()
+    {
+        CompressedIntList list = createList(1000);
+        assertEquals(0, list.indexOf(1000));
+        assertEquals(500, list.indexOf(1500));
+        assertEquals(999, list.indexOf(1999));
+        assertEquals(-1, list.indexOf(5));
+        assertTrue(list.contains(1130));
+        assertFalse(list.contains(2000));
+    }
+
+    @Test
+    void iterators()
+    {
+        CompressedIntList list = createList(1000);
+        long sum = 0;
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        while (iterator.hasNext())
+        {
+            sum += iterator.nextInt();
+        }
+        assertEquals(1499500L, sum);
+
+        long[] total = {0};
+        list.forEach((int value) -> total[0] += value);
+        assertEquals(1499500L, total[0]);
+
+        int count = 0;
+        for (int value : list)
+        {
+            assertEquals(1000 + count, value);
+            count++;
+        }
+        assertEquals(1000, count);
+        assertEquals(1499500L, list.parallelStream().asLongStream().sum());
+    }
+
+    @Test
+    void addAllSelfAndClear()
+    {
+        CompressedIntList list = createList(200);
+        list.addAll(list);
+        assertEquals(400, list.size());
+        assertEquals(1000, list.get(200));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.addBack(3);
+        assertEquals(3, list.get(0));
+    }
+}
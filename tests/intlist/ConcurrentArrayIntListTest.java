@@ -0,0 +1,172 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentArrayIntListTest
+{
+    public ConcurrentArrayIntList createList()
+    {
+        //1, 2, 3, 4, 5 in a buffer that has to grow along the way
+        ConcurrentArrayIntList list = new ConcurrentArrayIntList(2);
+        list.addAll(new int[] {1, 2, 3, 4, 5});
+        return list;
+    }
+
+    @Test
+    void addAndRemove()
+    {
+        ConcurrentArrayIntList list = createList();
+        list.addFront(0);
+        list.addBack(6);
+        list.add(3, 9);
+        assertArrayEquals(new int[] {0, 1, 2, 9, 3, 4, 5, 6}, list.toArray());
+        assertEquals(9, list.remove(3));
+        list.removeFront();
+        list.removeBack();
+        list.removeRange(1, 3);
+        assertArrayEquals(new int[] {1, 4, 5}, list.toArray());
+        list.addAll(1, new int[] {2, 3});
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(6, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 6));
+
+        list.clear();
+        assertEquals(true, list.isEmpty());
+        list.removeFront();
+        list.removeBack();
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void lookups()
+    {
+        ConcurrentArrayIntList list = createList();
+        assertEquals(1, list.get(0));
+        assertEquals(5, list.get(4));
+        assertEquals(2, list.indexOf(3));
+        assertEquals(-1, list.indexOf(6));
+        assertEquals(true, list.contains(5));
+        assertEquals(false, list.contains(0));
+        assertEquals(5, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void iterationUsesSnapshot()
+    {
+        ConcurrentArrayIntList list = createList();
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        list.clear();
+
+        //the iterator still sees the values from when it was made
+        int sum = 0;
+        while (iterator.hasNext())
+        {
+            sum += iterator.nextInt();
+        }
+        assertEquals(15, sum);
+
+        //forEach can change the list it is walking
+        list.addAll(new int[] {1, 2, 3});
+        list.forEach((int value) -> list.addBack(value * 10));
+        assertArrayEquals(new int[] {1, 2, 3, 10, 20, 30}, list.stream().toArray());
+    }
+
+    @Test
+    void addAllList()
+    {
+        ConcurrentArrayIntList list = createList();
+        list.addAll(list);
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 1, 2, 3, 4, 5}, list.toArray());
+    }
+
+    @Test
+    void readersDuringWrites()
+    {
+        //one writer appends 0, 1, 2, ... (growing the buffer many times) while
+        //readers check that every value they can see is where it should be
+        ConcurrentArrayIntList list = new ConcurrentArrayIntList(1);
+        int count = 200000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < count; i++)
+            {
+                list.addBack(i);
+            }
+        });
+        Thread[] readers = new Thread[3];
+        for (int r = 0; r < readers.length; r++)
+        {
+            readers[r] = new Thread(() -> {
+                try
+                {
+                    int seen = 0;
+                    while (seen < count)
+                    {
+                        seen = list.size();
+                        if (seen > 0)
+                        {
+                            int index = seen - 1;
+                            assertEquals(index, list.get(index));
+                            assertEquals(index / 2, list.get(index / 2));
+                            assertEquals(true, list.contains(index));
+                        }
+                    }
+                    int[] snapshot = list.toArray();
+                    for (int i = 0; i < snapshot.length; i++)
+                    {
+                        assertEquals(i, snapshot[i]);
+                    }
+                }
+                catch (Throwable e)
+                {
+                    failure.set(e);
+                }
+            });
+        }
+
+        writer.start();
+        for (Thread reader : readers)
+        {
+            reader.start();
+        }
+        assertDoesNotThrow(() -> {
+            writer.join();
+            for (Thread reader : readers)
+            {
+                reader.join();
+            }
+        });
+        assertNull(failure.get());
+        assertEquals(count, list.size());
+    }
+
+    @Test
+    void sort()
+    {
+        ConcurrentArrayIntList list = new ConcurrentArrayIntList();
+        int[] values = new Random(17).ints(5000).toArray();
+        list.addAll(values);
+        list.sort();
+        Arrays.sort(values);
+        assertArrayEquals(values, list.toArray());
+
+        list.addAll(new int[] {3, -3});
+        list.parallelSort();
+        int[] more = Arrays.copyOf(values, values.length + 2);
+        more[values.length] = 3;
+        more[values.length + 1] = -3;
+        Arrays.sort(more);
+        assertArrayEquals(more, list.toArray());
+    }
+}
@@ -0,0 +1,193 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyOnWriteIntListTest
+{
+    public CopyOnWriteIntList createList()
+    {
+        //1, 2, 3, 4, 5
+        CopyOnWriteIntList list = new CopyOnWriteIntList();
+        list.addAll(new int[] {1, 2, 3, 4, 5});
+        return list;
+    }
+
+    @Test
+    void addAndRemove()
+    {
+        CopyOnWriteIntList list = createList();
+        list.addFront(0);
+        list.addBack(6);
+        list.add(3, 9);
+        assertArrayEquals(new int[] {0, 1, 2, 9, 3, 4, 5, 6}, list.stream().toArray());
+        assertEquals(9, list.remove(3));
+        list.removeFront();
+        list.removeBack();
+        list.removeRange(1, 3);
+        assertArrayEquals(new int[] {1, 4, 5}, list.stream().toArray());
+        list.addAll(1, new int[] {2, 3});
+        list.addAll(5, new int[] {6});
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6}, list.stream().toArray());
+        assertEquals(3, list.indexOf(4));
+        assertEquals(false, list.contains(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(7, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 7));
+
+        list.clear();
+        assertEquals(true, list.isEmpty());
+        list.removeFront();
+        list.removeBack();
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void snapshotDoesNotChange()
+    {
+        CopyOnWriteIntList list = createList();
+        IntList before = list.snapshot();
+
+        //appends fill in spare slots of the same array, and removeBack just
+        //shrinks the size - neither may show up in the snapshot
+        list.addBack(6);
+        list.removeBack();
+        list.removeBack();
+        list.addBack(7);
+        list.addBack(8);
+        list.addBack(0);
+
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, before.stream().toArray());
+        assertArrayEquals(new int[] {1, 2, 3, 4, 7, 8, 0}, list.stream().toArray());
+        assertThrows(UnsupportedOperationException.class, () -> before.addBack(1));
+        assertThrows(UnsupportedOperationException.class, before::clear);
+    }
+
+    @Test
+    void iterationUsesSnapshot()
+    {
+        CopyOnWriteIntList list = createList();
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        list.clear();
+        list.addBack(100);
+
+        int sum = 0;
+        while (iterator.hasNext())
+        {
+            sum += iterator.nextInt();
+        }
+        assertEquals(15, sum);
+
+        //forEach can change the list it is walking
+        list.forEach((int value) -> list.addBack(value + 1));
+        assertArrayEquals(new int[] {100, 101}, list.stream().toArray());
+    }
+
+    @Test
+    void addAllList()
+    {
+        CopyOnWriteIntList list = createList();
+        list.addAll(list);
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 1, 2, 3, 4, 5}, list.stream().toArray());
+    }
+
+    @Test
+    void readersDuringWrites()
+    {
+        //one writer appends 0, 1, 2, ... and sometimes takes the last value off
+        //again, while readers check that every snapshot they get is in order
+        CopyOnWriteIntList list = new CopyOnWriteIntList();
+        int count = 20000;
+        AtomicBoolean done = new AtomicBoolean(false);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread writer = new Thread(() -> {
+            try
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    list.addBack(i);
+                    if (i % 100 == 0)
+                    {
+                        list.removeBack();
+                        list.addBack(i);
+                    }
+                }
+            }
+            catch (Throwable e)
+            {
+                failure.set(e);
+            }
+            finally
+            {
+                done.set(true);
+            }
+        });
+        Thread[] readers = new Thread[3];
+        for (int r = 0; r < readers.length; r++)
+        {
+            readers[r] = new Thread(() -> {
+                try
+                {
+                    while (!done.get())
+                    {
+                        IntList snapshot = list.snapshot();
+                        int expected = 0;
+                        PrimitiveIterator.OfInt values = snapshot.intIterator();
+                        while (values.hasNext())
+                        {
+                            assertEquals(expected, values.nextInt());
+                            expected++;
+                        }
+                        assertEquals(snapshot.size(), expected);
+
+                        //give the writer a turn on small machines
+                        Thread.yield();
+                    }
+                }
+                catch (Throwable e)
+                {
+                    failure.set(e);
+                }
+            });
+        }
+
+        writer.start();
+        for (Thread reader : readers)
+        {
+            reader.start();
+        }
+        assertDoesNotThrow(() -> {
+            writer.join();
+            for (Thread reader : readers)
+            {
+                reader.join();
+            }
+        });
+        assertNull(failure.get());
+        assertEquals(count, list.size());
+    }
+
+    @Test
+    void sort()
+    {
+        CopyOnWriteIntList list = new CopyOnWriteIntList();
+        list.addAll(new int[] {4, 1, 3, 2});
+        IntList before = list.snapshot();
+        list.sort();
+        assertArrayEquals(new int[] {1, 2, 3, 4}, list.stream().toArray());
+
+        //a snapshot taken before the sort still has the old order
+        assertArrayEquals(new int[] {4, 1, 3, 2}, before.stream().toArray());
+        assertThrows(UnsupportedOperationException.class, before::sort);
+
+        list.addBack(0);
+        list.parallelSort();
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, list.stream().toArray());
+    }
+}
@@ -0,0 +1,587 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoublyLinkedIntListTest
+{
+    private DoublyLinkedIntList emptyList;
+    private DoublyLinkedIntList fullList;
+    private DoublyLinkedIntList oneItemList;
+    private DoublyLinkedIntList twoItemList;
+
+    public void createLists()
+    {
+        //empty list
+        emptyList = new DoublyLinkedIntList();
+
+        //full list
+        fullList = new DoublyLinkedIntList();
+        fullList.addFront(5);
+        fullList.add(1, 10);
+        fullList.add(2, 15);
+        fullList.add(3, 20);
+        fullList.addBack(25);
+
+        //one item list
+        oneItemList = new DoublyLinkedIntList();
+        oneItemList.addFront(5);
+
+        //two items
+        twoItemList = new DoublyLinkedIntList();
+        twoItemList.addFront(5);
+        twoItemList.addBack(25);
+    }
+
+    @Test
+    void addFront()
+    {
+        createLists();
+        emptyList.addFront(7);
+        fullList.addFront(7);
+        oneItemList.addFront(7);
+        twoItemList.addFront(7);
+
+        assertEquals(7, emptyList.get(0));
+        assertEquals(7, fullList.get(0));
+        assertEquals(7, oneItemList.get(0));
+        assertEquals(7, twoItemList.get(0));
+//        DoublyLinkedIntList list = createList();
+//        list.addFront(50);
+//        assertEquals(50, list.get(0));
+    }
+
+    @Test
+    void addBack()
+    {
+        createLists();
+        emptyList.addBack(1);
+        fullList.addBack(1);
+        oneItemList.addBack(1);
+        twoItemList.addBack(1);
+
+        assertEquals(1, emptyList.get(emptyList.size() - 1));
+        assertEquals(1, fullList.get(fullList.size() - 1));
+        assertEquals(1, oneItemList.get(oneItemList.size() - 1));
+        assertEquals(1, twoItemList.get(twoItemList.size() - 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> fullList.get(fullList.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> emptyList.get(-1));
+
+//        DoublyLinkedIntList list = createList();
+//        list.addBack(30);
+//        assertEquals(30, list.get(list.size));
+    }
+
+    @Test
+    void add()
+    {
+        createLists();
+
+//        emptyList.add(1, 3); -> throws IndexOutOfBoundException
+        fullList.add(1, 3);
+        oneItemList.add(1, 3);
+        twoItemList.add(1, 3);
+
+        assertEquals(3, fullList.get(1));
+        assertEquals(3, oneItemList.get(1));
+        assertEquals(3, twoItemList.get(1));
+
+//        DoublyLinkedIntList list = createList();
+//        list.add(5, 21);
+//        assertEquals(21, list.get(5));
+    }
+
+    @Test
+    void removeFront()
+    {
+        createLists();
+
+        int removedElementOne = fullList.get(0);
+        int removedElementTwo = oneItemList.get(0);
+        int removedElementThree = twoItemList.get(0);
+        int removedElement = 5;
+
+//        assertEquals(emptyList); -> Throws exception
+        fullList.removeFront();
+        oneItemList.removeFront();
+        twoItemList.removeFront();
+
+        assertEquals(removedElement, removedElementOne);
+        assertEquals(removedElement, removedElementTwo);
+        assertEquals(removedElement, removedElementThree);
+
+//        DoublyLinkedIntList list = createList();
+//        int newHead = list.get(1);
+//        list.removeFront();
+//        assertEquals(newHead, list.get(0));
+    }
+
+    @Test
+    void removeBack()
+    {
+        createLists();
+
+//        emptyList.removeFront();
+        fullList.removeBack();
+        oneItemList.removeBack();
+        twoItemList.removeBack();
+
+//        assertEquals();
+//        DoublyLinkedIntList list = createList();
+//        int newTail = list.get(list.size - 1);
+//        list.removeBack();
+//        assertEquals(newTail, list.get(list.size));
+    }
+
+    @Test
+    void remove()
+    {
+        createLists();
+
+        assertEquals(5, fullList.remove(0));
+        assertEquals(5, oneItemList.remove(0));
+        assertEquals(5, twoItemList.remove(0));
+//        DoublyLinkedIntList list = createList();
+//        assertEquals(list.get(2), list.remove(2));
+    }
+
+    @Test
+    void get()
+    {
+        createLists();
+
+//        assertEquals(5, fullList.indexOf(0));
+        assertEquals(5, fullList.get(0));
+        assertEquals(5, oneItemList.get(0));
+        assertEquals(5, twoItemList.get(0));
+    }
+//
+    @Test
+    void contains()
+    {
+        createLists();
+
+        assertEquals(true, fullList.contains(5));
+        assertEquals(true, oneItemList.contains(5));
+        assertEquals(true, twoItemList.contains(5));
+
+
+//        DoublyLinkedIntList list = createList();
+//        assertEquals(true, list.contains(20));
+    }
+
+    @Test
+    void indexOf()
+    {
+        createLists();
+
+//        assertEquals(1, emptyList);
+        //0 isn't in any of the lists
+        assertEquals(-1, fullList.indexOf(0));
+        assertEquals(-1, oneItemList.indexOf(0));
+        assertEquals(-1, twoItemList.indexOf(0));
+        assertEquals(0, fullList.indexOf(5));
+        assertEquals(4, fullList.indexOf(25));
+        assertEquals(1, twoItemList.indexOf(25));
+
+//        DoublyLinkedIntList list = createList();
+//        assertEquals(4, list.indexOf(25));
+    }
+
+    @Test
+    void containsAndIndexOfMissing()
+    {
+        createLists();
+
+        assertEquals(false, emptyList.contains(5));
+        assertEquals(-1, emptyList.indexOf(5));
+        assertEquals(false, fullList.contains(30));
+        assertEquals(-1, fullList.indexOf(30));
+        assertEquals(false, oneItemList.contains(25));
+        assertEquals(-1, oneItemList.indexOf(25));
+    }
+
+    @Test
+    void isEmpty()
+    {
+        createLists();
+
+        assertEquals(true, emptyList);
+        assertEquals(false, fullList);
+        assertEquals(false, oneItemList);
+        assertEquals(false, twoItemList);
+//        DoublyLinkedIntList list = createList();
+//        assertEquals(false, list.isEmpty());
+    }
+
+    @Test
+    void size()
+    {
+        createLists();
+
+        assertEquals(0, emptyList.size());
+        assertEquals(5, fullList.size());
+        assertEquals(1, oneItemList.size());
+        assertEquals(2, twoItemList.size());
+//        DoublyLinkedIntList list = createList();
+//        assertEquals(5, list.size());
+    }
+
+    @Test
+    void clear()
+    {
+        createLists();
+
+        emptyList.clear();
+        fullList.clear();
+        oneItemList.clear();
+        twoItemList.clear();
+
+        assertEquals(true, emptyList.isEmpty());
+        assertEquals(true, emptyList.isEmpty());
+        assertEquals(true, emptyList.isEmpty());
+        assertEquals(true, emptyList.isEmpty());
+
+    }
+
+    @Test
+    void intIterator()
+    {
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        list.addFront(15);
+        list.addFront(10);
+        list.addFront(5);
+
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        assertEquals(5, iterator.nextInt());
+        assertEquals(10, iterator.nextInt());
+        assertEquals(15, iterator.nextInt());
+        assertEquals(false, iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    void forEach()
+    {
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        list.addFront(15);
+        list.addFront(10);
+        list.addFront(5);
+
+        int[] sum = new int[1];
+        list.forEach((int value) -> sum[0] += value);
+        assertEquals(30, sum[0]);
+    }
+
+    @Test
+    void stream()
+    {
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        list.addFront(3);
+        list.addFront(2);
+        list.addFront(1);
+
+        assertArrayEquals(new int[] {1, 2, 3}, list.stream().toArray());
+        assertEquals(6, list.stream().sum());
+    }
+
+    @Test
+    void parallelStream()
+    {
+        //big enough that the spliterator has to split off several batches
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        long expected = 0;
+        for (int i = 5000; i > 0; i--)
+        {
+            list.addFront(i);
+            expected += i;
+        }
+
+        assertEquals(expected, list.parallelStream().asLongStream().sum());
+        assertEquals(1, list.parallelStream().findFirst().getAsInt());
+    }
+
+    @Test
+    void spliteratorIsSized()
+    {
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        for (int i = 5000; i > 0; i--)
+        {
+            list.addFront(i);
+        }
+
+        Spliterator.OfInt spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(5000, spliterator.estimateSize());
+        Spliterator.OfInt batch = spliterator.trySplit();
+        assertEquals(5000, batch.estimateSize() + spliterator.estimateSize());
+        assertTrue(batch.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.tryAdvance((int value) -> assertEquals(batch.estimateSize() + 1, value)));
+        assertEquals(5000 - batch.estimateSize() - 1, spliterator.getExactSizeIfKnown());
+        assertEquals(5000, list.stream().count());
+    }
+
+    @Test
+    void addAll()
+    {
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        list.addFront(1);
+        list.addAll(new int[] {2, 3});
+        list.addAll(1, new int[] {7, 8});
+        list.addAll(0, new int[] {0});
+
+        assertArrayEquals(new int[] {0, 1, 7, 8, 2, 3}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(-1, new int[] {4}));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(10, new int[] {4}));
+    }
+
+    @Test
+    void addAllList()
+    {
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        list.addFront(1);
+        DoublyLinkedIntList other = new DoublyLinkedIntList();
+        other.addFront(3);
+        other.addFront(2);
+
+        list.addAll(other);
+        list.addAll(list);
+        assertArrayEquals(new int[] {1, 2, 3, 1, 2, 3}, list.stream().toArray());
+    }
+
+    @Test
+    void removeRange()
+    {
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        list.addFront(1);
+        list.addAll(new int[] {2, 3, 4, 5});
+
+        list.removeRange(1, 3);
+        assertArrayEquals(new int[] {1, 4, 5}, list.stream().toArray());
+        list.removeRange(0, 1);
+        assertArrayEquals(new int[] {4, 5}, list.stream().toArray());
+        list.removeRange(1, 2);
+        assertArrayEquals(new int[] {4}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(0, 2));
+    }
+
+    @Test
+    void deque()
+    {
+        IntDeque deque = new DoublyLinkedIntList();
+        deque.addBack(2);
+        deque.addFront(1);
+        deque.addBack(3);
+
+        assertEquals(1, deque.peekFront());
+        assertEquals(3, deque.peekBack());
+        assertEquals(3, deque.popBack());
+        assertEquals(1, deque.popFront());
+        assertEquals(2, deque.popBack());
+        assertEquals(0, deque.size());
+        assertThrows(NoSuchElementException.class, deque::popFront);
+        assertThrows(NoSuchElementException.class, deque::peekBack);
+    }
+
+    @Test
+    void set()
+    {
+        createLists();
+        fullList.set(0, 1);
+        fullList.set(4, 2);
+        fullList.set(2, 3);
+        assertArrayEquals(new int[] {1, 10, 3, 20, 2}, fullList.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> fullList.set(5, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> emptyList.set(0, 0));
+    }
+
+    @Test
+    void indexedLoop()
+    {
+        //walks up and back down with get(i) - each call starts from the last one
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        list.addAll(IntStream.range(0, 100000).toArray());
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++)
+        {
+            sum += list.get(i);
+        }
+        for (int i = list.size() - 1; i >= 0; i--)
+        {
+            sum -= list.get(i);
+        }
+        assertEquals(0, sum);
+        assertEquals(99999, list.get(99999));
+        assertEquals(50000, list.get(50000));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void indexedEdits()
+    {
+        //random inserts, removals and lookups, checked against an ArrayIntList
+        Random random = new Random(15);
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        ArrayIntList expected = new ArrayIntList();
+        for (int i = 0; i < 4000; i++)
+        {
+            int choice = random.nextInt(6);
+            if (choice < 2 || expected.size() == 0)
+            {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            }
+            else if (choice == 2)
+            {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+            else if (choice == 3)
+            {
+                list.addFront(i);
+                expected.addFront(i);
+            }
+            else if (choice == 4)
+            {
+                list.removeFront();
+                expected.removeFront();
+            }
+            else
+            {
+                list.removeBack();
+                expected.removeBack();
+            }
+            assertEquals(expected.size(), list.size());
+            if (expected.size() > 0)
+            {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(list.size() + 1, 0));
+    }
+
+    @Test
+    void listIterator()
+    {
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        list.addAll(new int[] {1, 2, 3, 4, 5, 6});
+
+        //drop the even values, double the odd ones, and put a 0 after the 3
+        IntListIterator iterator = list.listIterator();
+        while (iterator.hasNext())
+        {
+            int value = iterator.nextInt();
+            if (value % 2 == 0)
+            {
+                iterator.remove();
+            }
+            else
+            {
+                iterator.set(value * 2);
+                if (value == 3)
+                {
+                    iterator.add(0);
+                }
+            }
+        }
+        assertArrayEquals(new int[] {2, 6, 0, 10}, list.stream().toArray());
+        assertEquals(4, iterator.nextIndex());
+
+        //and back again
+        assertEquals(10, iterator.previousInt());
+        assertEquals(0, iterator.previousInt());
+        iterator.remove();
+        assertEquals(6, iterator.previousInt());
+        assertEquals(0, iterator.previousIndex());
+        iterator.add(4);
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(4, iterator.previousInt());
+        assertArrayEquals(new int[] {2, 4, 6, 10}, list.stream().toArray());
+
+        IntListIterator fromMiddle = list.listIterator(2);
+        assertEquals(6, fromMiddle.nextInt());
+        assertEquals(6, fromMiddle.previousInt());
+        assertEquals(4, fromMiddle.previousInt());
+        assertEquals(false, list.listIterator(list.size()).hasNext());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(-1));
+    }
+
+    @Test
+    void listIteratorFailsFast()
+    {
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        list.addAll(new int[] {1, 2, 3});
+
+        IntListIterator iterator = list.listIterator();
+        iterator.nextInt();
+        list.addAll(new int[] {4});
+        assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+        assertThrows(ConcurrentModificationException.class, () -> iterator.add(5));
+
+        //two iterators - an edit through one breaks the other
+        IntListIterator first = list.listIterator();
+        IntListIterator second = list.listIterator();
+        first.nextInt();
+        first.remove();
+        assertThrows(ConcurrentModificationException.class, second::nextInt);
+    }
+
+    @Test
+    void sort()
+    {
+        //odd lengths leave a short run at the end of some passes
+        for (int length : new int[] {0, 1, 2, 7, 1000})
+        {
+            int[] values = new Random(length).ints(length, -50, 50).toArray();
+            DoublyLinkedIntList list = new DoublyLinkedIntList();
+            list.addAll(values);
+            list.sort();
+            Arrays.sort(values);
+            assertArrayEquals(values, list.stream().toArray());
+            assertEquals(length, list.size());
+        }
+
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        int[] values = {5, -1, 3, 3, 0, 8, -7};
+        list.addAll(values);
+        list.sort();
+        Arrays.sort(values);
+        assertArrayEquals(values, list.stream().toArray());
+
+        //the back links and the tail have to match the new order too
+        IntListIterator backwards = list.listIterator(list.size());
+        for (int i = values.length - 1; i >= 0; i--)
+        {
+            assertEquals(values[i], backwards.previousInt());
+        }
+        assertEquals(values[values.length - 1], list.get(list.size() - 1));
+
+        //a sort is a change, so open iterators fail
+        IntListIterator iterator = list.listIterator();
+        list.sort();
+        assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+    }
+
+    @Test
+    void parallelSort()
+    {
+        int[] values = new Random(21).ints(100_000).toArray();
+        DoublyLinkedIntList list = new DoublyLinkedIntList();
+        list.addAll(values);
+        list.parallelSort();
+        Arrays.sort(values);
+        assertArrayEquals(values, list.stream().toArray());
+    }
+}
@@ -0,0 +1,200 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GapIntListTest
+{
+    public GapIntList createList()
+    {
+        //1, 2, 3, 4, 5
+        GapIntList list = new GapIntList();
+        for (int i = 1; i <= 5; i++)
+        {
+            list.addBack(i);
+        }
+        return list;
+    }
+
+    @Test
+    void addAndRemove()
+    {
+        GapIntList list = createList();
+        list.addFront(0);
+        list.add(3, 9);
+        assertArrayEquals(new int[] {0, 1, 2, 9, 3, 4, 5}, list.stream().toArray());
+        assertEquals(9, list.remove(3));
+        list.removeFront();
+        list.removeBack();
+        assertArrayEquals(new int[] {1, 2, 3, 4}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> new GapIntList(-1));
+
+        //removing from an empty list does nothing
+        GapIntList empty = new GapIntList(0);
+        empty.removeFront();
+        empty.removeBack();
+        assertTrue(empty.isEmpty());
+        empty.addFront(3);
+        assertEquals(3, empty.get(0));
+    }
+
+    @Test
+    void editsAtTheCursorDontMoveTheGap()
+    {
+        GapIntList list = new GapIntList();
+        list.addAll(IntStream.range(0, 1000).toArray());
+        list.add(500, -1);
+        list.resetGapStats();
+
+        //type, backspace and delete forwards around index 501
+        for (int i = 0; i < 100; i++)
+        {
+            list.add(501 + i, i);
+        }
+        assertEquals(99, list.remove(600));
+        assertEquals(500, list.remove(600));
+        assertEquals(0, list.gapMoveCount());
+        assertEquals(0, list.gapMoveDistance());
+        assertEquals(600, list.gapPosition());
+
+        //moving somewhere else costs the distance moved (the gap ends up
+        //just after each value added)
+        list.add(590, 7);
+        assertEquals(1, list.gapMoveCount());
+        assertEquals(10, list.gapMoveDistance());
+        list.add(620, 8);
+        assertEquals(2, list.gapMoveCount());
+        assertEquals(39, list.gapMoveDistance());
+
+        list.resetGapStats();
+        assertEquals(0, list.gapMoveCount());
+        assertEquals(1101, list.size());
+    }
+
+    @Test
+    void randomEditsMatchArrayIntList()
+    {
+        //mostly near a wandering cursor, sometimes anywhere
+        Random random = new Random(25);
+        GapIntList list = new GapIntList();
+        ArrayIntList expected = new ArrayIntList();
+        int cursor = 0;
+        for (int i = 0; i < 50_000; i++)
+        {
+            cursor = random.nextInt(10) == 0 ? random.nextInt(expected.size() + 1)
+                    : Math.max(0, Math.min(expected.size(), cursor + random.nextInt(5) - 2));
+            int choice = random.nextInt(10);
+            if (choice < 6 || expected.isEmpty())
+            {
+                list.add(cursor, i);
+                expected.add(cursor, i);
+            }
+            else if (choice < 9)
+            {
+                int index = Math.min(cursor, expected.size() - 1);
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+            else
+            {
+                int to = Math.min(expected.size(), cursor + random.nextInt(20));
+                int from = Math.max(0, to - random.nextInt(40));
+                list.removeRange(from, to);
+                expected.removeRange(from, to);
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+        for (int i = 0; i < expected.size(); i++)
+        {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertTrue(list.gapMoveDistance() >= list.gapMoveCount());
+    }
+
+    @Test
+    void bulkOperations()
+    {
+        GapIntList list = new GapIntList();
+        list.addAll(IntStream.range(0, 10_000).toArray());
+        list.addAll(5000, IntStream.range(-3000, 0).toArray());
+        assertEquals(13_000, list.size());
+        assertEquals(4999, list.get(4999));
+        assertEquals(-3000, list.get(5000));
+        assertEquals(5000, list.get(8000));
+
+        //a range on either side of the gap, and one around it
+        list.removeRange(5000, 8000);
+        assertArrayEquals(IntStream.range(0, 10_000).toArray(), list.stream().toArray());
+        list.removeRange(9000, 10_000);
+        list.removeRange(0, 1000);
+        list.add(4000, -1);
+        list.removeRange(3000, 6000);
+        int[] expected = IntStream.concat(IntStream.range(1000, 4000), IntStream.range(6999, 9000)).toArray();
+        assertArrayEquals(expected, list.stream().toArray());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(0, 1));
+        list.addAll(new int[] {1, 2});
+        list.addAll(list);
+        assertArrayEquals(new int[] {1, 2, 1, 2}, list.stream().toArray());
+    }
+
+    @Test
+    void searchAndIterate()
+    {
+        GapIntList list = new GapIntList();
+        list.addAll(IntStream.range(0, 3000).toArray());
+        list.add(2500, 7);
+        list.add(1000, -5);
+        assertEquals(7, list.indexOf(7));
+        assertEquals(1000, list.indexOf(-5));
+        assertEquals(3001, list.indexOf(2999));
+        assertEquals(-1, list.indexOf(3000));
+        assertTrue(list.contains(0));
+
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            iterator.nextInt();
+            count++;
+        }
+        assertEquals(3002, count);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+
+        long[] sum = {0};
+        list.forEach((int value) -> sum[0] += value);
+        assertEquals(list.stream().asLongStream().sum(), sum[0]);
+        assertEquals(sum[0], list.parallelStream().asLongStream().sum());
+
+        //gap at the very front
+        list.add(0, 1);
+        assertEquals(1, list.intIterator().nextInt());
+    }
+
+    @Test
+    void sort()
+    {
+        int[] values = new Random(3).ints(50_000).toArray();
+        GapIntList list = new GapIntList();
+        list.addAll(values);
+        list.add(100, Integer.MIN_VALUE);
+        list.sort();
+        int[] expected = IntStream.concat(IntStream.of(Integer.MIN_VALUE), Arrays.stream(values)).sorted().toArray();
+        assertArrayEquals(expected, list.stream().toArray());
+        list.add(0, Integer.MAX_VALUE);
+        list.parallelSort();
+        assertEquals(Integer.MAX_VALUE, list.get(list.size() - 1));
+    }
+}
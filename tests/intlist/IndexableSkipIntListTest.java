@@ -0,0 +1,186 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexableSkipIntListTest
+{
+    public IndexableSkipIntList createList()
+    {
+        //1, 2, 3, 4, 5
+        IndexableSkipIntList list = new IndexableSkipIntList();
+        for (int i = 1; i <= 5; i++)
+        {
+            list.addBack(i);
+        }
+        return list;
+    }
+
+    @Test
+    void addAndRemove()
+    {
+        IndexableSkipIntList list = createList();
+        list.addFront(0);
+        list.add(3, 9);
+        assertArrayEquals(new int[] {0, 1, 2, 9, 3, 4, 5}, list.stream().toArray());
+        assertEquals(9, list.remove(3));
+        list.removeFront();
+        list.removeBack();
+        assertArrayEquals(new int[] {1, 2, 3, 4}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+
+        //removing from an empty list does nothing
+        IndexableSkipIntList empty = new IndexableSkipIntList();
+        empty.removeFront();
+        empty.removeBack();
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    void randomEditsMatchArrayIntList()
+    {
+        Random random = new Random(24);
+        IndexableSkipIntList list = new IndexableSkipIntList();
+        ArrayIntList expected = new ArrayIntList();
+        int[] start = random.ints(50_000).toArray();
+        list.addAll(start);
+        expected.addAll(start);
+
+        for (int i = 0; i < 40_000; i++)
+        {
+            int choice = random.nextInt(10);
+            if (choice < 5 || expected.isEmpty())
+            {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            }
+            else if (choice < 9)
+            {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+            else
+            {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+        for (int i = 0; i < expected.size(); i += 7)
+        {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    void shrinkToEmptyAndGrowAgain()
+    {
+        IndexableSkipIntList list = new IndexableSkipIntList();
+        list.addAll(IntStream.range(0, 20_000).toArray());
+        while (!list.isEmpty())
+        {
+            list.remove(list.size() / 2);
+        }
+        for (int i = 0; i < 1000; i++)
+        {
+            list.addFront(i);
+        }
+        assertEquals(999, list.get(0));
+        assertEquals(0, list.get(999));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.addBack(3);
+        assertEquals(3, list.get(0));
+    }
+
+    @Test
+    void bulkOperations()
+    {
+        IndexableSkipIntList list = new IndexableSkipIntList();
+        list.addAll(IntStream.range(0, 10_000).toArray());
+        list.addAll(5000, IntStream.range(-3000, 0).toArray());
+        assertEquals(13_000, list.size());
+        assertEquals(4999, list.get(4999));
+        assertEquals(-3000, list.get(5000));
+        assertEquals(5000, list.get(8000));
+
+        list.removeRange(5000, 8000);
+        assertArrayEquals(IntStream.range(0, 10_000).toArray(), list.stream().toArray());
+        for (int i = 0; i < 10_000; i += 13)
+        {
+            assertEquals(i, list.get(i));
+        }
+        list.removeRange(0, 10_000);
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(0, 1));
+
+        list.addAll(new int[] {1, 2});
+        list.addAll(list);
+        assertArrayEquals(new int[] {1, 2, 1, 2}, list.stream().toArray());
+    }
+
+    @Test
+    void randomRangesMatchArrayIntList()
+    {
+        Random random = new Random(7);
+        IndexableSkipIntList list = new IndexableSkipIntList();
+        ArrayIntList expected = new ArrayIntList();
+        for (int round = 0; round < 300; round++)
+        {
+            int[] values = random.ints(random.nextInt(200)).toArray();
+            int index = random.nextInt(expected.size() + 1);
+            list.addAll(index, values);
+            expected.addAll(index, values);
+
+            int from = random.nextInt(expected.size() + 1);
+            int to = from + random.nextInt(Math.min(150, expected.size() - from) + 1);
+            list.removeRange(from, to);
+            expected.removeRange(from, to);
+
+            if (!expected.isEmpty())
+            {
+                int at = random.nextInt(expected.size());
+                assertEquals(expected.get(at), list.get(at));
+            }
+        }
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+    }
+
+    @Test
+    void searchAndIterate()
+    {
+        IndexableSkipIntList list = new IndexableSkipIntList();
+        list.addAll(IntStream.range(0, 3000).toArray());
+        list.add(2500, 7);
+        assertEquals(7, list.indexOf(7));
+        assertEquals(2999, list.indexOf(2998));
+        assertEquals(-1, list.indexOf(3000));
+        assertTrue(list.contains(0));
+
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            iterator.nextInt();
+            count++;
+        }
+        assertEquals(3001, count);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+
+        long[] sum = {0};
+        list.forEach((int value) -> sum[0] += value);
+        assertEquals(list.stream().asLongStream().sum(), sum[0]);
+        assertEquals(sum[0], list.parallelStream().asLongStream().sum());
+    }
+}
@@ -0,0 +1,214 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntListFormatTest
+{
+    public ArrayIntList createList(int count)
+    {
+        //0, 1, 2, ... count - 1
+        ArrayIntList list = new ArrayIntList();
+        for (int i = 0; i < count; i++)
+        {
+            list.addBack(i);
+        }
+        return list;
+    }
+
+    //writes the list out and hands back the bytes
+    private static byte[] write(IntList list) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private static void read(IntList list, byte[] bytes) throws IOException
+    {
+        list.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void layout() throws IOException
+    {
+        byte[] bytes = write(createList(3));
+        assertEquals(IntListFormat.HEADER_BYTES + 3 * Integer.BYTES, bytes.length);
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals('I', buffer.get(0));
+        assertEquals('N', buffer.get(1));
+        assertEquals('T', buffer.get(2));
+        assertEquals('S', buffer.get(3));
+        assertEquals(1, buffer.getShort(4));
+        assertEquals(1, buffer.get(6));
+        assertEquals(3L, buffer.getLong(8));
+        assertEquals(0, buffer.getInt(24));
+        assertEquals(1, buffer.getInt(28));
+        assertEquals(2, buffer.getInt(32));
+    }
+
+    @Test
+    void roundTripArrayIntList() throws IOException
+    {
+        //bigger than one chunk, so the reads and writes are split up
+        ArrayIntList list = createList(3_000_000);
+        ArrayIntList copy = new ArrayIntList();
+        read(copy, write(list));
+        assertEquals(3_000_000, copy.size());
+        assertArrayEquals(list.stream().toArray(), copy.stream().toArray());
+    }
+
+    @Test
+    void roundTripEmpty() throws IOException
+    {
+        ArrayIntList copy = new ArrayIntList();
+        read(copy, write(new ArrayIntList()));
+        assertTrue(copy.isEmpty());
+    }
+
+    @Test
+    void readAppends() throws IOException
+    {
+        ArrayIntList list = createList(2);
+        read(list, write(createList(3)));
+        assertArrayEquals(new int[] {0, 1, 0, 1, 2}, list.stream().toArray());
+    }
+
+    @Test
+    void acrossImplementations() throws IOException
+    {
+        //the default methods on IntList write the same format as ArrayIntList
+        ArrayIntDeque deque = new ArrayIntDeque();
+        deque.addAll(new int[] {5, -6, 7});
+        byte[] bytes = write(deque);
+        ArrayIntList expected = new ArrayIntList();
+        expected.addAll(new int[] {5, -6, 7});
+        assertArrayEquals(write(expected), bytes);
+
+        LinkedIntList linked = new LinkedIntList();
+        read(linked, bytes);
+        assertArrayEquals(new int[] {5, -6, 7}, linked.stream().toArray());
+
+        ArrayIntList array = new ArrayIntList();
+        read(array, write(linked));
+        assertArrayEquals(new int[] {5, -6, 7}, array.stream().toArray());
+    }
+
+    @Test
+    void bigEndianValues() throws IOException
+    {
+        //a list written with big-endian values by some other tool
+        int[] values = {1, -2, 300000};
+        ByteBuffer payload = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.BIG_ENDIAN);
+        payload.asIntBuffer().put(values);
+        CRC32C checksum = new CRC32C();
+        checksum.update(payload.array());
+
+        ByteBuffer bytes = ByteBuffer.allocate(IntListFormat.HEADER_BYTES + payload.capacity())
+                .order(ByteOrder.LITTLE_ENDIAN);
+        bytes.put(new byte[] {'I', 'N', 'T', 'S'});
+        bytes.putShort((short) 1);
+        bytes.put((byte) 2);
+        bytes.put((byte) 0);
+        bytes.putLong(values.length);
+        bytes.putInt((int) checksum.getValue());
+        bytes.putInt(0);
+        bytes.put(payload.array());
+
+        ArrayIntList list = new ArrayIntList();
+        read(list, bytes.array());
+        assertArrayEquals(values, list.stream().toArray());
+    }
+
+    @Test
+    void badChecksum() throws IOException
+    {
+        byte[] bytes = write(createList(100));
+        bytes[bytes.length - 1] ^= 1;
+
+        ArrayIntList list = createList(2);
+        assertThrows(IOException.class, () -> read(list, bytes));
+        assertArrayEquals(new int[] {0, 1}, list.stream().toArray());
+
+        LinkedIntList linked = new LinkedIntList();
+        assertThrows(IOException.class, () -> read(linked, bytes));
+        assertEquals(0, linked.stream().count());
+    }
+
+    @Test
+    void truncated() throws IOException
+    {
+        byte[] bytes = write(createList(100));
+
+        ArrayIntList list = createList(2);
+        assertThrows(EOFException.class, () -> read(list, Arrays.copyOf(bytes, bytes.length - 4)));
+        assertThrows(EOFException.class, () -> read(list, Arrays.copyOf(bytes, 10)));
+        assertArrayEquals(new int[] {0, 1}, list.stream().toArray());
+    }
+
+    @Test
+    void countBiggerThanTheData(@TempDir Path dir) throws IOException
+    {
+        //a header claiming about 2^31 values in front of just 3 - the count
+        //isn't covered by the checksum, so it mustn't decide how much to allocate
+        byte[] bytes = write(createList(3));
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putLong(8, Integer.MAX_VALUE - 10);
+
+        ArrayIntList list = createList(2);
+        int capacity = list.capacity();
+        assertThrows(EOFException.class, () -> read(list, bytes));
+        assertArrayEquals(new int[] {0, 1}, list.stream().toArray());
+        assertEquals(capacity, list.capacity());
+
+        LinkedIntList linked = new LinkedIntList();
+        assertThrows(EOFException.class, () -> read(linked, bytes));
+        assertTrue(linked.isEmpty());
+
+        //a file knows its length, so the count is caught before any values are read
+        Path file = dir.resolve("list.bin");
+        Files.write(file, bytes);
+        try (FileChannel channel = FileChannel.open(file))
+        {
+            assertThrows(EOFException.class, () -> list.readFrom(channel));
+            assertEquals(IntListFormat.HEADER_BYTES, channel.position());
+        }
+        assertEquals(capacity, list.capacity());
+
+        //and a good file still reads
+        Files.write(file, write(createList(1000)));
+        try (FileChannel channel = FileChannel.open(file))
+        {
+            list.readFrom(channel);
+        }
+        assertEquals(1002, list.size());
+        assertEquals(999, list.get(1001));
+    }
+
+    @Test
+    void notAList() throws IOException
+    {
+        byte[] bytes = write(createList(10));
+        bytes[0] = 'X';
+        assertThrows(IOException.class, () -> read(new ArrayIntList(), bytes));
+
+        byte[] version = write(createList(10));
+        version[4] = 9;
+        assertThrows(IOException.class, () -> read(new ArrayIntList(), version));
+    }
+}
@@ -0,0 +1,68 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntSortsTest
+{
+    //sorts the middle of a copy with the chunked path and checks it against Arrays.sort
+    private void checkChunkedSort(int[] values, int chunks)
+    {
+        int from = Math.min(3, values.length);
+        int to = Math.max(from, values.length - 2);
+        int[] expected = values.clone();
+        Arrays.sort(expected, from, to);
+        int[] actual = values.clone();
+        IntSorts.parallelSort(actual, from, to, chunks);
+        assertArrayEquals(expected, actual, values.length + " values in " + chunks + " chunks");
+    }
+
+    @Test
+    void chunkedSortMatchesArraysSort()
+    {
+        //the common pool may have only one thread, so parallelSort(values,
+        //from, to) would never take the chunked path on its own
+        Random random = new Random(21);
+        IntUnaryOperator[] ranges = {
+                i -> random.nextInt(),                  //every byte in play
+                i -> random.nextInt(256),               //only the lowest byte differs
+                i -> -random.nextInt(1 << 20),          //negative values
+                i -> random.nextBoolean() ? Integer.MIN_VALUE : Integer.MAX_VALUE,
+                i -> 7                                  //nothing to do on any pass
+        };
+        for (int length : new int[] {0, 1, 5, 300, 10_000, 100_003})
+        {
+            for (IntUnaryOperator range : ranges)
+            {
+                int[] values = new int[length];
+                Arrays.setAll(values, range::applyAsInt);
+                for (int chunks : new int[] {1, 2, 3, 7, 64})
+                {
+                    checkChunkedSort(values, chunks);
+                }
+            }
+        }
+    }
+
+    @Test
+    void moreChunksThanValues()
+    {
+        checkChunkedSort(new int[] {9, 8, 7, 6, 5, 4, 3, 2, 1}, 100);
+        assertThrows(IllegalArgumentException.class, () -> IntSorts.parallelSort(new int[4], 0, 4, 0));
+    }
+
+    @Test
+    void parallelSortMatchesSort()
+    {
+        int[] values = new Random(5).ints(200_000).toArray();
+        int[] sequential = values.clone();
+        IntSorts.sort(sequential, 0, sequential.length);
+        IntSorts.parallelSort(values, 0, values.length);
+        assertArrayEquals(sequential, values);
+    }
+}
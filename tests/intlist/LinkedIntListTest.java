@@ -0,0 +1,450 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkedIntListTest
+{
+    public LinkedIntList createList()
+    {
+        int sizeOfList = 5;
+        LinkedIntList list = new LinkedIntList();
+        list.addFront(1);
+
+        for (int i = 2; i < sizeOfList; i++)
+        {
+            Random rand = new Random();
+            int randomNum = rand.nextInt(100);
+            list.add(i - 1, randomNum);
+        }
+        return list;
+    }
+
+    @Test
+    void addFront()
+    {
+       LinkedIntList linkedList = createList();
+       linkedList.addFront(1);
+       assertEquals(1, linkedList.get(0));
+    }
+
+    @Test
+    void addBack()
+    {
+        LinkedIntList linkedIntList = createList();
+        linkedIntList.addBack(2);
+        assertEquals(2, linkedIntList.get(linkedIntList.size()));
+    }
+
+    @Test
+    void add()
+    {
+        LinkedIntList linkedIntList = createList();
+        linkedIntList.add(3, 5);
+        assertEquals(5, linkedIntList.get(3));
+    }
+
+    @Test
+    void addPastTheEnd()
+    {
+        LinkedIntList linkedIntList = createList();
+        assertThrows(IndexOutOfBoundsException.class, () -> linkedIntList.add(linkedIntList.size() + 1, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> new LinkedIntList().add(1, 5));
+        assertEquals(4, linkedIntList.size());
+        linkedIntList.add(linkedIntList.size(), 5);
+        assertEquals(5, linkedIntList.get(4));
+    }
+
+    @Test
+    void removeFront()
+    {
+        LinkedIntList linkedIntList = createList();
+        int newFront = linkedIntList.get(1);
+        linkedIntList.removeFront();
+        assertEquals(linkedIntList.get(0), newFront);
+    }
+
+    @Test
+    void removeBack()
+    {
+        LinkedIntList linkedIntList = createList();
+        int newLastNode = linkedIntList.get(linkedIntList.size() - 2);
+        linkedIntList.removeBack();
+        assertEquals(linkedIntList.get(linkedIntList.size() - 1), newLastNode);
+    }
+
+    @Test
+    void remove()
+    {
+        LinkedIntList linkedIntList = createList();
+        int removedNode = linkedIntList.get(2);
+        assertEquals(removedNode, linkedIntList.remove(2));
+    }
+
+    @Test
+    void get()
+    {
+        LinkedIntList linkedIntList = createList();
+        int retrievedData = linkedIntList.get(3);
+        assertEquals(retrievedData, linkedIntList.get(3));
+    }
+
+    @Test
+    void contains()
+    {
+        LinkedIntList linkedIntList = createList();
+        linkedIntList.add(linkedIntList.size(), 3);
+        assertEquals(true, linkedIntList.contains(3));
+    }
+
+    @Test
+    void indexOf()
+    {
+        LinkedIntList fixedList = new LinkedIntList();
+        fixedList.add(0, 1);
+        fixedList.add(1, 2);
+        fixedList.add(2, 3);
+
+        fixedList.addBack(6);
+        assertEquals(fixedList.size() - 1, fixedList.indexOf(6));
+    }
+
+    @Test
+    void isEmpty()
+    {
+        LinkedIntList emptyList = new LinkedIntList();
+        assertEquals(true, emptyList.isEmpty());
+    }
+
+    @Test
+    void size()
+    {
+        LinkedIntList linkedIntList = createList();
+        assertEquals(4, linkedIntList.size());
+    }
+
+    @Test
+    void clear()
+    {
+        LinkedIntList linkedIntList = createList();
+        int size = linkedIntList.size();
+        linkedIntList.clear();
+        assertEquals(true, linkedIntList.isEmpty());
+    }
+
+    @Test
+    void addThenRemoveLeavesTheListAsItWas()
+    {
+        LinkedIntList list = new LinkedIntList();
+        list.addBack(1);
+        list.addBack(2);
+        list.addBack(3);
+        assertArrayEquals(new int[] {1, 2, 3}, list.stream().toArray());
+
+        //the benchmarks rely on each pair undoing itself
+        for (int i = 0; i < 5; i++)
+        {
+            list.addBack(-1);
+            list.removeBack();
+            list.add(1, -2);
+            assertEquals(-2, list.remove(1));
+        }
+        assertArrayEquals(new int[] {1, 2, 3}, list.stream().toArray());
+        assertEquals(3, list.size());
+
+        assertEquals(3, list.remove(2));
+        assertEquals(1, list.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(1));
+        list.removeBack();
+        assertEquals(true, list.isEmpty());
+        list.removeBack();
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+    }
+
+    @Test
+    void sizeKeptUpToDate()
+    {
+        //every kind of edit, checked against ArrayIntList
+        Random random = new Random(16);
+        LinkedIntList list = new LinkedIntList();
+        ArrayIntList expected = new ArrayIntList();
+        for (int i = 0; i < 2000; i++)
+        {
+            switch (expected.isEmpty() ? random.nextInt(3) : random.nextInt(7))
+            {
+                case 0 -> { list.addFront(i); expected.addFront(i); }
+                case 1 -> { list.addBack(i); expected.addBack(i); }
+                case 2 ->
+                {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, i);
+                    expected.add(index, i);
+                }
+                case 3 -> { list.removeFront(); expected.removeFront(); }
+                case 4 -> { list.removeBack(); expected.removeBack(); }
+                case 5 ->
+                {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.remove(index));
+                }
+                default ->
+                {
+                    int from = random.nextInt(expected.size());
+                    int to = from + random.nextInt(Math.min(5, expected.size() - from) + 1);
+                    list.removeRange(from, to);
+                    expected.removeRange(from, to);
+                }
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+    }
+
+    @Test
+    void containsMissing()
+    {
+        LinkedIntList list = new LinkedIntList();
+        assertEquals(false, list.contains(1));
+        assertEquals(-1, list.indexOf(1));
+
+        list.addAll(new int[] {1, 2, 3});
+        assertEquals(false, list.contains(4));
+        assertEquals(-1, list.indexOf(4));
+        assertEquals(2, list.indexOf(3));
+    }
+
+    @Test
+    void intIterator()
+    {
+        LinkedIntList linkedIntList = new LinkedIntList();
+        linkedIntList.addFront(3);
+        linkedIntList.addFront(2);
+        linkedIntList.addFront(1);
+
+        PrimitiveIterator.OfInt iterator = linkedIntList.intIterator();
+        assertEquals(1, iterator.nextInt());
+        assertEquals(2, iterator.nextInt());
+        assertEquals(3, iterator.nextInt());
+        assertEquals(false, iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    void forEach()
+    {
+        LinkedIntList linkedIntList = new LinkedIntList();
+        linkedIntList.addFront(3);
+        linkedIntList.addFront(2);
+        linkedIntList.addFront(1);
+
+        int[] sum = new int[1];
+        linkedIntList.forEach((int value) -> sum[0] += value);
+        assertEquals(6, sum[0]);
+    }
+
+    @Test
+    void stream()
+    {
+        LinkedIntList list = new LinkedIntList();
+        list.addFront(3);
+        list.addFront(2);
+        list.addFront(1);
+
+        assertArrayEquals(new int[] {1, 2, 3}, list.stream().toArray());
+        assertEquals(6, list.stream().sum());
+    }
+
+    @Test
+    void parallelStream()
+    {
+        //big enough that the spliterator has to split off several batches
+        LinkedIntList list = new LinkedIntList();
+        long expected = 0;
+        for (int i = 5000; i > 0; i--)
+        {
+            list.addFront(i);
+            expected += i;
+        }
+
+        assertEquals(expected, list.parallelStream().asLongStream().sum());
+        assertEquals(1, list.parallelStream().findFirst().getAsInt());
+    }
+
+    @Test
+    void spliteratorIsSized()
+    {
+        LinkedIntList list = new LinkedIntList();
+        for (int i = 5000; i > 0; i--)
+        {
+            list.addFront(i);
+        }
+
+        Spliterator.OfInt spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(5000, spliterator.estimateSize());
+        Spliterator.OfInt batch = spliterator.trySplit();
+        assertEquals(5000, batch.estimateSize() + spliterator.estimateSize());
+        assertTrue(batch.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.tryAdvance((int value) -> assertEquals(batch.estimateSize() + 1, value)));
+        assertEquals(5000 - batch.estimateSize() - 1, spliterator.getExactSizeIfKnown());
+        assertEquals(5000, list.stream().count());
+    }
+
+    @Test
+    void addAll()
+    {
+        LinkedIntList list = new LinkedIntList();
+        list.addFront(1);
+        list.addAll(new int[] {2, 3});
+        list.addAll(1, new int[] {7, 8});
+        list.addAll(0, new int[] {0});
+
+        assertArrayEquals(new int[] {0, 1, 7, 8, 2, 3}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(-1, new int[] {4}));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(10, new int[] {4}));
+    }
+
+    @Test
+    void addAllList()
+    {
+        LinkedIntList list = new LinkedIntList();
+        list.addFront(1);
+        LinkedIntList other = new LinkedIntList();
+        other.addFront(3);
+        other.addFront(2);
+
+        list.addAll(other);
+        list.addAll(list);
+        assertArrayEquals(new int[] {1, 2, 3, 1, 2, 3}, list.stream().toArray());
+    }
+
+    @Test
+    void removeRange()
+    {
+        LinkedIntList list = new LinkedIntList();
+        list.addFront(1);
+        list.addAll(new int[] {2, 3, 4, 5});
+
+        list.removeRange(1, 3);
+        assertArrayEquals(new int[] {1, 4, 5}, list.stream().toArray());
+        list.removeRange(0, 1);
+        assertArrayEquals(new int[] {4, 5}, list.stream().toArray());
+        list.removeRange(1, 2);
+        assertArrayEquals(new int[] {4}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(0, 2));
+    }
+
+    @Test
+    void listIterator()
+    {
+        LinkedIntList list = new LinkedIntList();
+        list.addAll(new int[] {1, 2, 3, 4, 5, 6});
+
+        //drop the even values, double the odd ones, and put a 0 after the 3
+        IntListIterator iterator = list.listIterator();
+        while (iterator.hasNext())
+        {
+            int value = iterator.nextInt();
+            if (value % 2 == 0)
+            {
+                iterator.remove();
+            }
+            else
+            {
+                iterator.set(value * 2);
+                if (value == 3)
+                {
+                    iterator.add(0);
+                }
+            }
+        }
+        assertArrayEquals(new int[] {2, 6, 0, 10}, list.stream().toArray());
+        assertEquals(4, iterator.nextIndex());
+
+        //and back again
+        assertEquals(10, iterator.previousInt());
+        assertEquals(0, iterator.previousInt());
+        iterator.remove();
+        assertEquals(6, iterator.previousInt());
+        assertEquals(0, iterator.previousIndex());
+        iterator.add(4);
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(4, iterator.previousInt());
+        assertArrayEquals(new int[] {2, 4, 6, 10}, list.stream().toArray());
+
+        IntListIterator fromMiddle = list.listIterator(2);
+        assertEquals(6, fromMiddle.nextInt());
+        assertEquals(6, fromMiddle.previousInt());
+        assertEquals(4, fromMiddle.previousInt());
+        assertEquals(false, list.listIterator(list.size()).hasNext());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(-1));
+    }
+
+    @Test
+    void listIteratorFailsFast()
+    {
+        LinkedIntList list = new LinkedIntList();
+        list.addAll(new int[] {1, 2, 3});
+
+        IntListIterator iterator = list.listIterator();
+        iterator.nextInt();
+        list.addAll(new int[] {4});
+        assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+        assertThrows(ConcurrentModificationException.class, () -> iterator.add(5));
+
+        //two iterators - an edit through one breaks the other
+        IntListIterator first = list.listIterator();
+        IntListIterator second = list.listIterator();
+        first.nextInt();
+        first.remove();
+        assertThrows(ConcurrentModificationException.class, second::nextInt);
+    }
+
+    @Test
+    void sort()
+    {
+        //odd lengths leave a short run at the end of some passes
+        for (int length : new int[] {0, 1, 2, 7, 1000})
+        {
+            int[] values = new Random(length).ints(length, -50, 50).toArray();
+            LinkedIntList list = new LinkedIntList();
+            list.addAll(values);
+            list.sort();
+            Arrays.sort(values);
+            assertArrayEquals(values, list.stream().toArray());
+            assertEquals(length, list.size());
+        }
+
+        LinkedIntList list = new LinkedIntList();
+        int[] values = {5, -1, 3, 3, 0, 8, -7};
+        list.addAll(values);
+        list.sort();
+        Arrays.sort(values);
+        assertArrayEquals(values, list.stream().toArray());
+
+        //a sort is a change, so open iterators fail
+        IntListIterator iterator = list.listIterator();
+        list.sort();
+        assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+    }
+
+    @Test
+    void parallelSort()
+    {
+        int[] values = new Random(21).ints(100_000).toArray();
+        LinkedIntList list = new LinkedIntList();
+        list.addAll(values);
+        list.parallelSort();
+        Arrays.sort(values);
+        assertArrayEquals(values, list.stream().toArray());
+    }
+}
@@ -0,0 +1,162 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedIntListTest
+{
+    @TempDir
+    Path folder;
+
+    //small regions, so a few thousand values already span several of them
+    public MappedIntList createList(String name) throws IOException
+    {
+        return new MappedIntList(folder.resolve(name), 10);
+    }
+
+    @Test
+    void addBackAcrossRegions() throws IOException
+    {
+        try (MappedIntList list = createList("add.ints"))
+        {
+            for (int i = 0; i < 5000; i++)
+            {
+                list.addBack(i);
+            }
+            assertEquals(5000, list.size());
+            assertEquals(0, list.get(0));
+            assertEquals(1024, list.get(1024));
+            assertEquals(4999, list.get(4999));
+            assertEquals(12497500L, list.stream().asLongStream().sum());
+        }
+    }
+
+    @Test
+    void reopen() throws IOException
+    {
+        Path file = folder.resolve("reopen.ints");
+        try (MappedIntList list = new MappedIntList(file, 10))
+        {
+            int[] values = new int[3000];
+            for (int i = 0; i < values.length; i++)
+            {
+                values[i] = i * 2;
+            }
+            list.addAll(values);
+            list.set(5, -5);
+            list.force();
+        }
+
+        //a different region size is fine - it only changes how the file is mapped
+        try (MappedIntList list = new MappedIntList(file, 12))
+        {
+            assertEquals(3000, list.size());
+            assertEquals(-5, list.get(5));
+            assertEquals(5998, list.get(2999));
+            list.addBack(1);
+            assertEquals(3001, list.size());
+        }
+    }
+
+    @Test
+    void addAndRemove() throws IOException
+    {
+        try (MappedIntList list = createList("edit.ints"))
+        {
+            list.addAll(new int[] {1, 2, 3, 4, 5});
+            list.addFront(0);
+            list.add(3, 9);
+            assertArrayEquals(new int[] {0, 1, 2, 9, 3, 4, 5}, list.stream().toArray());
+
+            assertEquals(9, list.remove(3));
+            list.removeFront();
+            list.removeBack();
+            list.removeRange(1, 2);
+            assertArrayEquals(new int[] {1, 3, 4}, list.stream().toArray());
+            assertEquals(2, list.indexOf(4));
+            assertEquals(false, list.contains(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0));
+        }
+    }
+
+    @Test
+    void addAllAcrossRegions() throws IOException
+    {
+        try (MappedIntList list = createList("bulk.ints"))
+        {
+            list.addAll(new int[] {-1, -2});
+            int[] values = new int[2500];
+            for (int i = 0; i < values.length; i++)
+            {
+                values[i] = i;
+            }
+            list.addAll(1, values);
+            assertEquals(2502, list.size());
+            assertEquals(-1, list.get(0));
+            assertEquals(0, list.get(1));
+            assertEquals(2499, list.get(2500));
+            assertEquals(-2, list.get(2501));
+        }
+    }
+
+    @Test
+    void shiftsAcrossRegionsMatchArrayIntList() throws IOException
+    {
+        //inserts and removals that move values over several region boundaries
+        Random random = new Random(8);
+        try (MappedIntList list = createList("shift.ints"))
+        {
+            ArrayIntList expected = new ArrayIntList();
+            int[] start = random.ints(5000).toArray();
+            list.addAll(start);
+            expected.addAll(start);
+            for (int round = 0; round < 200; round++)
+            {
+                int[] values = random.ints(random.nextInt(1500)).toArray();
+                int index = random.nextInt(expected.size() + 1);
+                list.addAll(index, values);
+                expected.addAll(index, values);
+
+                int from = random.nextInt(expected.size() + 1);
+                int to = from + random.nextInt(Math.min(1500, expected.size() - from) + 1);
+                list.removeRange(from, to);
+                expected.removeRange(from, to);
+
+                index = random.nextInt(expected.size() + 1);
+                list.add(index, round);
+                expected.add(index, round);
+                assertEquals(expected.remove(0), list.remove(0));
+            }
+            assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+        }
+    }
+
+    @Test
+    void clear() throws IOException
+    {
+        try (MappedIntList list = createList("clear.ints"))
+        {
+            list.addAll(new int[] {1, 2, 3});
+            list.clear();
+            assertEquals(true, list.isEmpty());
+            list.addBack(4);
+            assertEquals(4, list.get(0));
+        }
+    }
+
+    @Test
+    void notAListFile() throws IOException
+    {
+        Path file = folder.resolve("other.txt");
+        Files.writeString(file, "this is not an int list file");
+        assertThrows(IOException.class, () -> new MappedIntList(file));
+    }
+}
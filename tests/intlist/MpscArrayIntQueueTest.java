@@ -0,0 +1,143 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpscArrayIntQueueTest
+{
+    @Test
+    void offerAndPoll()
+    {
+        MpscArrayIntQueue queue = new MpscArrayIntQueue(1);
+        assertEquals(2, queue.capacity());
+        assertEquals(true, queue.isEmpty());
+        assertThrows(NoSuchElementException.class, queue::poll);
+
+        assertEquals(true, queue.offer(1));
+        assertEquals(true, queue.offer(2));
+        assertEquals(false, queue.offer(3));
+        assertEquals(2, queue.size());
+
+        //go round the ring a few times
+        for (int i = 3; i < 10; i++)
+        {
+            assertEquals(i - 2, queue.poll());
+            assertEquals(true, queue.offer(i));
+            assertEquals(false, queue.offer(-1));
+        }
+        assertEquals(8, queue.poll());
+        assertEquals(9, queue.poll());
+        assertEquals(true, queue.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new MpscArrayIntQueue(-1));
+    }
+
+    @Test
+    void pollWithAction()
+    {
+        MpscArrayIntQueue queue = new MpscArrayIntQueue(4);
+        int[] taken = new int[1];
+
+        //an empty queue just says no
+        assertEquals(false, queue.poll((int value) -> taken[0] = value));
+        assertEquals(true, queue.offer(7));
+        assertEquals(true, queue.offer(8));
+        assertEquals(true, queue.poll((int value) -> taken[0] = value));
+        assertEquals(7, taken[0]);
+        assertEquals(true, queue.poll((int value) -> taken[0] = value));
+        assertEquals(8, taken[0]);
+        assertEquals(false, queue.poll((int value) -> taken[0] = value));
+        assertEquals(true, queue.isEmpty());
+        assertThrows(NullPointerException.class, () -> queue.poll(null));
+    }
+
+    @Test
+    void drainTo()
+    {
+        MpscArrayIntQueue queue = new MpscArrayIntQueue(8);
+        for (int i = 0; i < 6; i++)
+        {
+            queue.offer(i);
+        }
+
+        int[] sum = new int[1];
+        assertEquals(4, queue.drainTo((int value) -> sum[0] += value, 4));
+        assertEquals(6, sum[0]);
+        assertEquals(2, queue.size());
+        assertEquals(2, queue.drainTo((int value) -> sum[0] += value, 10));
+        assertEquals(15, sum[0]);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void producerThreads()
+    {
+        //each producer sends its own increasing run of values - the consumer
+        //must get every one, and each producer's values in order
+        MpscArrayIntQueue queue = new MpscArrayIntQueue(64);
+        int producers = 3;
+        int perProducer = 50000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++)
+        {
+            int base = p * perProducer;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++)
+                {
+                    while (!queue.offer(base + i))
+                    {
+                        if (failure.get() != null)
+                        {
+                            return;
+                        }
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        Thread consumer = new Thread(() -> {
+            int[] next = new int[producers];
+            int[] received = new int[1];
+            try
+            {
+                while (received[0] < producers * perProducer)
+                {
+                    int taken = queue.drainTo((int value) -> {
+                        int producer = value / perProducer;
+                        assertEquals(next[producer], value % perProducer);
+                        next[producer]++;
+                        received[0]++;
+                    }, 32);
+                    if (taken == 0)
+                    {
+                        Thread.yield();
+                    }
+                }
+            }
+            catch (Throwable e)
+            {
+                failure.set(e);
+            }
+        });
+
+        consumer.start();
+        for (Thread thread : threads)
+        {
+            thread.start();
+        }
+        assertDoesNotThrow(() -> {
+            for (Thread thread : threads)
+            {
+                thread.join();
+            }
+            consumer.join();
+        });
+        assertNull(failure.get());
+        assertEquals(true, queue.isEmpty());
+    }
+}
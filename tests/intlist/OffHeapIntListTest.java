@@ -0,0 +1,131 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapIntListTest
+{
+    public OffHeapIntList createList()
+    {
+        //1, 2, 3, 4, 5
+        OffHeapIntList list = new OffHeapIntList(4);
+        for (int i = 1; i <= 5; i++)
+        {
+            list.addBack(i);
+        }
+        return list;
+    }
+
+    @Test
+    void addBack()
+    {
+        try (OffHeapIntList list = createList())
+        {
+            assertArrayEquals(new int[] {1, 2, 3, 4, 5}, list.stream().toArray());
+            assertEquals(8, list.capacity());
+        }
+    }
+
+    @Test
+    void addFrontAndAdd()
+    {
+        try (OffHeapIntList list = createList())
+        {
+            list.addFront(0);
+            list.add(3, 9);
+            assertArrayEquals(new int[] {0, 1, 2, 9, 3, 4, 5}, list.stream().toArray());
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(8, 1));
+        }
+    }
+
+    @Test
+    void remove()
+    {
+        try (OffHeapIntList list = createList())
+        {
+            assertEquals(3, list.remove(2));
+            list.removeFront();
+            list.removeBack();
+            assertArrayEquals(new int[] {2, 4}, list.stream().toArray());
+            assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        }
+    }
+
+    @Test
+    void bulk()
+    {
+        try (OffHeapIntList list = createList(); OffHeapIntList other = new OffHeapIntList())
+        {
+            list.addAll(2, new int[] {7, 8});
+            other.addAll(new int[] {10, 11});
+            list.addAll(other);
+            list.removeRange(0, 1);
+            assertArrayEquals(new int[] {2, 7, 8, 3, 4, 5, 10, 11}, list.stream().toArray());
+        }
+    }
+
+    @Test
+    void search()
+    {
+        try (OffHeapIntList list = createList())
+        {
+            assertEquals(2, list.indexOf(3));
+            assertEquals(-1, list.indexOf(6));
+            assertEquals(true, list.contains(5));
+        }
+    }
+
+    @Test
+    void capacity()
+    {
+        try (OffHeapIntList list = new OffHeapIntList(0))
+        {
+            for (int i = 0; i < 1000; i++)
+            {
+                list.addBack(i);
+            }
+            list.trimToSize();
+            assertEquals(1000, list.capacity());
+            assertEquals(999, list.get(999));
+            assertEquals(499500, list.parallelStream().sum());
+
+            //clearing keeps the memory for refilling, trimming frees it
+            list.clear();
+            assertEquals(true, list.isEmpty());
+            assertEquals(1000, list.capacity());
+            list.addAll(new int[] {1, 2, 3});
+            assertEquals(1000, list.capacity());
+            assertEquals(3, list.get(2));
+
+            list.clear();
+            list.trimToSize();
+            assertEquals(0, list.capacity());
+        }
+    }
+
+    @Test
+    void close()
+    {
+        OffHeapIntList list = createList();
+        list.close();
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+    }
+
+    @Test
+    void growingAfterCloseFails()
+    {
+        OffHeapIntList list = createList();
+        int capacity = list.capacity();
+        list.close();
+
+        //no new native memory is taken, and the list stays closed
+        assertThrows(IllegalStateException.class, () -> list.ensureCapacity(1000));
+        assertThrows(IllegalStateException.class, () -> list.addBack(1));
+        assertThrows(IllegalStateException.class, () -> list.trimToSize());
+        assertEquals(capacity, list.capacity());
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+    }
+}
@@ -0,0 +1,243 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentIntListTest
+{
+    //checks every way of reading the list against the expected values
+    private static void assertValues(int[] expected, PersistentIntList list)
+    {
+        assertEquals(expected.length, list.size());
+        assertArrayEquals(expected, list.stream().toArray());
+        for (int i = 0; i < expected.length; i++)
+        {
+            assertEquals(expected[i], list.get(i));
+        }
+
+        int[] forEach = new int[expected.length];
+        int[] count = {0};
+        list.forEach((int value) -> forEach[count[0]++] = value);
+        assertArrayEquals(expected, forEach);
+    }
+
+    @Test
+    void plusKeepsOldVersions()
+    {
+        List<PersistentIntList> versions = new ArrayList<>();
+        PersistentIntList list = PersistentIntList.empty();
+        for (int i = 0; i < 5000; i++)
+        {
+            versions.add(list);
+            list = list.plus(i);
+        }
+
+        assertValues(IntStream.range(0, 5000).toArray(), list);
+        for (int i = 0; i < 5000; i += 97)
+        {
+            assertValues(IntStream.range(0, i).toArray(), versions.get(i));
+        }
+        assertTrue(PersistentIntList.empty().isEmpty());
+    }
+
+    @Test
+    void with()
+    {
+        PersistentIntList list = PersistentIntList.of(IntStream.range(0, 3000).toArray());
+        PersistentIntList changed = list.with(0, -1).with(1500, -2).with(2999, -3);
+
+        int[] expected = IntStream.range(0, 3000).toArray();
+        assertValues(expected, list);
+        expected[0] = -1;
+        expected[1500] = -2;
+        expected[2999] = -3;
+        assertValues(expected, changed);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(3000, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void concatAndSubList()
+    {
+        PersistentIntList front = PersistentIntList.of(IntStream.range(0, 1000).toArray());
+        PersistentIntList back = PersistentIntList.of(IntStream.range(1000, 1700).toArray());
+        assertValues(IntStream.range(0, 1700).toArray(), front.concat(back));
+        assertValues(IntStream.range(0, 1000).toArray(), front);
+        assertSame(front, front.concat(PersistentIntList.empty()));
+
+        PersistentIntList middle = front.subList(10, 990);
+        assertValues(IntStream.range(10, 990).toArray(), middle);
+        assertValues(IntStream.range(10, 20).toArray(), middle.subList(0, 10));
+        assertValues(IntStream.range(985, 990).toArray(), middle.subList(975, 980));
+        assertTrue(middle.subList(5, 5).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> middle.subList(5, 4));
+
+        //a slice can be grown and changed like any other list
+        PersistentIntList grown = middle.subList(0, 3).plus(7).with(0, 9);
+        assertValues(new int[] {9, 11, 12, 7}, grown);
+    }
+
+    @Test
+    void randomSlicesAndJoins()
+    {
+        //slicing and joining in random places, checked against plain arrays
+        Random random = new Random(22);
+        List<PersistentIntList> lists = new ArrayList<>();
+        List<int[]> expected = new ArrayList<>();
+        for (int i = 0; i < 4; i++)
+        {
+            int[] values = random.ints(random.nextInt(3000)).toArray();
+            lists.add(PersistentIntList.of(values));
+            expected.add(values);
+        }
+
+        for (int round = 0; round < 300; round++)
+        {
+            int a = random.nextInt(lists.size());
+            int b = random.nextInt(lists.size());
+            PersistentIntList list;
+            int[] values;
+            switch (random.nextInt(4))
+            {
+                case 0 ->
+                {
+                    list = lists.get(a).concat(lists.get(b));
+                    values = IntStream.concat(Arrays.stream(expected.get(a)), Arrays.stream(expected.get(b))).toArray();
+                }
+                case 1 ->
+                {
+                    int length = expected.get(a).length;
+                    int from = random.nextInt(length + 1);
+                    int to = from + random.nextInt(length - from + 1);
+                    list = lists.get(a).subList(from, to);
+                    values = Arrays.copyOfRange(expected.get(a), from, to);
+                }
+                case 2 ->
+                {
+                    list = lists.get(a);
+                    values = expected.get(a).clone();
+                    for (int i = 0; i < 40; i++)
+                    {
+                        list = list.plus(i);
+                    }
+                    values = IntStream.concat(Arrays.stream(values), IntStream.range(0, 40)).toArray();
+                }
+                default ->
+                {
+                    list = lists.get(a);
+                    values = expected.get(a).clone();
+                    if (values.length > 0)
+                    {
+                        int index = random.nextInt(values.length);
+                        list = list.with(index, round);
+                        values[index] = round;
+                    }
+                }
+            }
+
+            //keep the lists from growing without bound
+            if (values.length > 20_000)
+            {
+                list = list.subList(values.length - 20_000, values.length);
+                values = Arrays.copyOfRange(values, values.length - 20_000, values.length);
+            }
+            assertValues(values, list);
+            lists.add(list);
+            expected.add(values);
+        }
+
+        //every version is still what it was when it was made
+        for (int i = 0; i < lists.size(); i += 7)
+        {
+            assertArrayEquals(expected.get(i), lists.get(i).stream().toArray());
+        }
+    }
+
+    @Test
+    void manySmallConcats()
+    {
+        //joining lots of tiny lists must keep get() working and the tree packed
+        PersistentIntList list = PersistentIntList.empty();
+        int next = 0;
+        for (int i = 0; i < 2000; i++)
+        {
+            PersistentIntList piece = PersistentIntList.empty();
+            for (int j = 0; j < i % 5 + 1; j++)
+            {
+                piece = piece.plus(next++);
+            }
+            list = (i % 2 == 0) ? list.concat(piece) : list.concat(piece).subList(0, next);
+        }
+        assertValues(IntStream.range(0, next).toArray(), list);
+    }
+
+    @Test
+    void builder()
+    {
+        PersistentIntList.Builder builder = PersistentIntList.builder();
+        for (int i = 0; i < 1100; i++)
+        {
+            builder.add(i);
+        }
+        PersistentIntList first = builder.build();
+        builder.addAll(IntStream.range(1100, 40_000).toArray());
+        PersistentIntList second = builder.build();
+
+        assertEquals(40_000, builder.size());
+        assertValues(IntStream.range(0, 1100).toArray(), first);
+        assertValues(IntStream.range(0, 40_000).toArray(), second);
+
+        //starting from a list leaves that list alone
+        PersistentIntList more = first.toBuilder().add(-1).build();
+        assertEquals(1101, more.size());
+        assertEquals(-1, more.get(1100));
+        assertEquals(1100, first.size());
+    }
+
+    @Test
+    void searching()
+    {
+        PersistentIntList list = PersistentIntList.of(IntStream.range(0, 1000).toArray()).plus(5);
+        assertEquals(5, list.indexOf(5));
+        assertEquals(999, list.indexOf(999));
+        assertEquals(-1, list.indexOf(1000));
+        assertTrue(list.contains(0));
+        assertFalse(list.contains(-5));
+    }
+
+    @Test
+    void iterator()
+    {
+        PersistentIntList list = PersistentIntList.of(IntStream.range(0, 100).toArray());
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(i, iterator.nextInt());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+        assertEquals(4950, list.parallelStream().sum());
+    }
+
+    @Test
+    void cannotBeChanged()
+    {
+        PersistentIntList list = PersistentIntList.of(1, 2, 3);
+        assertThrows(UnsupportedOperationException.class, () -> list.addBack(4));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 4));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(UnsupportedOperationException.class, list::sort);
+        assertValues(new int[] {1, 2, 3}, list);
+    }
+}
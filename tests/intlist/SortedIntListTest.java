@@ -0,0 +1,171 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedIntListTest
+{
+    public SortedIntList createList()
+    {
+        //1, 3, 3, 5, 7
+        SortedIntList list = new SortedIntList();
+        list.addAll(new int[] {7, 3, 1, 5, 3});
+        return list;
+    }
+
+    @Test
+    void addBackKeepsOrder()
+    {
+        SortedIntList list = createList();
+        list.addBack(4);
+        list.addBack(0);
+        list.addBack(9);
+        assertArrayEquals(new int[] {0, 1, 3, 3, 4, 5, 7, 9}, list.stream().toArray());
+    }
+
+    @Test
+    void addFront()
+    {
+        SortedIntList list = createList();
+        list.addFront(1);
+        list.addFront(-2);
+        assertArrayEquals(new int[] {-2, 1, 1, 3, 3, 5, 7}, list.stream().toArray());
+        assertThrows(IllegalArgumentException.class, () -> list.addFront(2));
+        assertEquals(7, list.size());
+    }
+
+    @Test
+    void add()
+    {
+        SortedIntList list = createList();
+        list.add(3, 4);
+        list.add(6, 8);
+        assertArrayEquals(new int[] {1, 3, 3, 4, 5, 7, 8}, list.stream().toArray());
+        assertThrows(IllegalArgumentException.class, () -> list.add(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> list.add(7, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(8, 100));
+    }
+
+    @Test
+    void addAllAtIndex()
+    {
+        SortedIntList list = createList();
+        list.addAll(3, new int[] {3, 4, 5});
+        assertArrayEquals(new int[] {1, 3, 3, 3, 4, 5, 5, 7}, list.stream().toArray());
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(0, new int[] {0, 2}));
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(1, new int[] {2, 1}));
+    }
+
+    @Test
+    void addAllMerges()
+    {
+        Random random = new Random(3);
+        int[] all = new int[0];
+        SortedIntList list = new SortedIntList(0);
+        for (int round = 0; round < 20; round++)
+        {
+            int[] batch = random.ints(random.nextInt(200), -500, 500).toArray();
+            list.addAll(batch);
+
+            all = Arrays.copyOf(all, all.length + batch.length);
+            System.arraycopy(batch, 0, all, all.length - batch.length, batch.length);
+        }
+        Arrays.sort(all);
+        assertArrayEquals(all, list.stream().toArray());
+
+        SortedIntList other = createList();
+        list.addAll(other);
+        list.addAll(list);
+        assertEquals(2 * (all.length + 5), list.size());
+        for (int i = 1; i < list.size(); i++)
+        {
+            assertTrue(list.get(i - 1) <= list.get(i));
+        }
+    }
+
+    @Test
+    void addAllFromOtherList()
+    {
+        SortedIntList list = createList();
+        ArrayIntList other = new ArrayIntList();
+        other.addAll(new int[] {6, 2, 8});
+        list.addAll(other);
+        assertArrayEquals(new int[] {1, 2, 3, 3, 5, 6, 7, 8}, list.stream().toArray());
+    }
+
+    @Test
+    void search()
+    {
+        SortedIntList list = createList();
+        assertEquals(1, list.indexOf(3));
+        assertEquals(-1, list.indexOf(4));
+        assertTrue(list.contains(7));
+        assertFalse(list.contains(8));
+
+        assertEquals(1, list.lowerBound(3));
+        assertEquals(3, list.upperBound(3));
+        assertEquals(0, list.lowerBound(Integer.MIN_VALUE));
+        assertEquals(5, list.upperBound(Integer.MAX_VALUE));
+        assertEquals(5, list.lowerBound(8));
+
+        assertEquals(3, list.countInRange(2, 5));
+        assertEquals(5, list.countInRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, list.countInRange(5, 2));
+        assertEquals(0, list.countInRange(8, 10));
+    }
+
+    @Test
+    void remove()
+    {
+        SortedIntList list = createList();
+        assertEquals(3, list.remove(2));
+        list.removeFront();
+        list.removeBack();
+        assertArrayEquals(new int[] {3, 5}, list.stream().toArray());
+        list.removeRange(0, 2);
+        assertTrue(list.isEmpty());
+        list.removeBack();
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+    }
+
+    @Test
+    void iterators()
+    {
+        SortedIntList list = createList();
+        int count = 0;
+        for (int value : list)
+        {
+            assertEquals(list.get(count), value);
+            count++;
+        }
+        assertEquals(5, count);
+        assertEquals(19, list.parallelStream().sum());
+        assertTrue(list.spliterator().hasCharacteristics(Spliterator.SORTED));
+    }
+
+    @Test
+    void setKeepsOrder()
+    {
+        SortedIntList list = new SortedIntList();
+        list.addAll(new int[] {1, 5, 9});
+
+        //a value that doesn't fit is turned away before anything changes
+        IntListIterator iterator = list.listIterator(0);
+        iterator.nextInt();
+        iterator.nextInt();
+        assertThrows(IllegalArgumentException.class, () -> iterator.set(100));
+        assertArrayEquals(new int[] {1, 5, 9}, list.stream().toArray());
+        assertThrows(IllegalArgumentException.class, () -> list.set(0, 6));
+        assertArrayEquals(new int[] {1, 5, 9}, list.stream().toArray());
+
+        iterator.set(9);
+        list.set(0, -3);
+        assertArrayEquals(new int[] {-3, 9, 9}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(3, 10));
+    }
+}
@@ -0,0 +1,137 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpscArrayIntQueueTest
+{
+    @Test
+    void offerAndPoll()
+    {
+        SpscArrayIntQueue queue = new SpscArrayIntQueue(3);
+        assertEquals(4, queue.capacity());
+        assertEquals(true, queue.isEmpty());
+        assertThrows(NoSuchElementException.class, queue::poll);
+
+        for (int i = 1; i <= 4; i++)
+        {
+            assertEquals(true, queue.offer(i));
+        }
+        assertEquals(false, queue.offer(5));
+        assertEquals(4, queue.size());
+
+        assertEquals(1, queue.poll());
+        assertEquals(2, queue.poll());
+        assertEquals(true, queue.offer(5));
+        assertEquals(true, queue.offer(6));
+        assertEquals(false, queue.offer(7));
+        assertEquals(3, queue.poll());
+        assertEquals(4, queue.poll());
+        assertEquals(5, queue.poll());
+        assertEquals(6, queue.poll());
+        assertEquals(true, queue.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new SpscArrayIntQueue(0));
+    }
+
+    @Test
+    void pollWithAction()
+    {
+        SpscArrayIntQueue queue = new SpscArrayIntQueue(4);
+        int[] taken = new int[1];
+
+        //an empty queue just says no
+        assertEquals(false, queue.poll((int value) -> taken[0] = value));
+        assertEquals(true, queue.offer(7));
+        assertEquals(true, queue.offer(8));
+        assertEquals(true, queue.poll((int value) -> taken[0] = value));
+        assertEquals(7, taken[0]);
+        assertEquals(true, queue.poll((int value) -> taken[0] = value));
+        assertEquals(8, taken[0]);
+        assertEquals(false, queue.poll((int value) -> taken[0] = value));
+        assertEquals(true, queue.isEmpty());
+        assertThrows(NullPointerException.class, () -> queue.poll(null));
+    }
+
+    @Test
+    void drainTo()
+    {
+        SpscArrayIntQueue queue = new SpscArrayIntQueue(8);
+        for (int i = 0; i < 6; i++)
+        {
+            queue.offer(i);
+        }
+
+        int[] sum = new int[1];
+        assertEquals(4, queue.drainTo((int value) -> sum[0] += value, 4));
+        assertEquals(6, sum[0]);
+        assertEquals(2, queue.drainTo((int value) -> sum[0] += value, 10));
+        assertEquals(15, sum[0]);
+        assertEquals(0, queue.drainTo((int value) -> sum[0] += value, 10));
+        assertEquals(true, queue.isEmpty());
+    }
+
+    @Test
+    void producerAndConsumerThreads()
+    {
+        //every value arrives once, in order, through a queue much smaller than the run
+        SpscArrayIntQueue queue = new SpscArrayIntQueue(64);
+        int count = 200000;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++)
+            {
+                while (!queue.offer(i))
+                {
+                    if (failure.get() != null)
+                    {
+                        return;
+                    }
+                    Thread.yield();
+                }
+            }
+        });
+        Thread consumer = new Thread(() -> {
+            int[] expected = new int[1];
+            try
+            {
+                while (expected[0] < count)
+                {
+                    if (queue.isEmpty())
+                    {
+                        Thread.yield();
+                    }
+                    else if (expected[0] % 2 == 0)
+                    {
+                        assertEquals(expected[0], queue.poll());
+                        expected[0]++;
+                    }
+                    else
+                    {
+                        queue.drainTo((int value) -> {
+                            assertEquals(expected[0], value);
+                            expected[0]++;
+                        }, 16);
+                    }
+                }
+            }
+            catch (Throwable e)
+            {
+                failure.set(e);
+            }
+        });
+
+        producer.start();
+        consumer.start();
+        assertDoesNotThrow(() -> {
+            producer.join();
+            consumer.join();
+        });
+        assertNull(failure.get());
+        assertEquals(true, queue.isEmpty());
+    }
+}
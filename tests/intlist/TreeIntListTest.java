@@ -0,0 +1,235 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeIntListTest
+{
+    public TreeIntList createList()
+    {
+        //1, 2, 3, 4, 5
+        TreeIntList list = new TreeIntList();
+        for (int i = 1; i <= 5; i++)
+        {
+            list.addBack(i);
+        }
+        return list;
+    }
+
+    @Test
+    void addAndRemove()
+    {
+        TreeIntList list = createList();
+        list.addFront(0);
+        list.add(3, 9);
+        assertArrayEquals(new int[] {0, 1, 2, 9, 3, 4, 5}, list.stream().toArray());
+        assertEquals(9, list.remove(3));
+        list.removeFront();
+        list.removeBack();
+        assertArrayEquals(new int[] {1, 2, 3, 4}, list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+
+        //removing from an empty list does nothing
+        TreeIntList empty = new TreeIntList();
+        empty.removeFront();
+        empty.removeBack();
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    void randomEditsMatchArrayIntList()
+    {
+        //enough values for three levels of branches, edited all over
+        Random random = new Random(23);
+        TreeIntList list = new TreeIntList();
+        ArrayIntList expected = new ArrayIntList();
+        int[] start = random.ints(100_000).toArray();
+        list.addAll(start);
+        expected.addAll(start);
+
+        for (int i = 0; i < 40_000; i++)
+        {
+            if (random.nextInt(5) < 3 || expected.isEmpty())
+            {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            }
+            else
+            {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+        for (int i = 0; i < expected.size(); i += 101)
+        {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    void growAndShrinkAtTheEnds()
+    {
+        TreeIntList list = new TreeIntList();
+        for (int i = 0; i < 50_000; i++)
+        {
+            list.addBack(i);
+            list.addFront(-i);
+        }
+        assertEquals(100_000, list.size());
+        assertEquals(-49_999, list.get(0));
+        assertEquals(49_999, list.get(99_999));
+
+        for (int i = 0; i < 99_990; i++)
+        {
+            if (i % 2 == 0)
+            {
+                list.removeFront();
+            }
+            else
+            {
+                list.removeBack();
+            }
+        }
+        assertArrayEquals(new int[] {-4, -3, -2, -1, 0, 0, 1, 2, 3, 4}, list.stream().toArray());
+    }
+
+    @Test
+    void splitAndConcat()
+    {
+        TreeIntList list = new TreeIntList();
+        list.addAll(IntStream.range(0, 200_000).toArray());
+
+        TreeIntList back = list.split(123_457);
+        assertArrayEquals(IntStream.range(0, 123_457).toArray(), list.stream().toArray());
+        assertArrayEquals(IntStream.range(123_457, 200_000).toArray(), back.stream().toArray());
+
+        //join a short list onto a tall one, and a tall one onto a short one
+        TreeIntList small = new TreeIntList();
+        small.addAll(new int[] {-1, -2});
+        back.concat(small);
+        assertTrue(small.isEmpty());
+        small.addAll(new int[] {-3});
+        small.concat(list);
+        assertTrue(list.isEmpty());
+
+        int[] expected = IntStream.concat(IntStream.of(-3), IntStream.range(0, 123_457)).toArray();
+        assertArrayEquals(expected, small.stream().toArray());
+        assertEquals(-2, back.get(back.size() - 1));
+        assertEquals(123_456, small.get(123_457));
+
+        assertThrows(IllegalArgumentException.class, () -> small.concat(small));
+        assertTrue(small.split(small.size()).isEmpty());
+        assertEquals(expected.length, small.split(0).size());
+        assertTrue(small.isEmpty());
+    }
+
+    @Test
+    void randomSplitsAndJoins()
+    {
+        Random random = new Random(5);
+        TreeIntList list = new TreeIntList();
+        list.addAll(IntStream.range(0, 70_000).toArray());
+        int[] expected = IntStream.range(0, 70_000).toArray();
+
+        //cut out a random piece and put it back somewhere else
+        for (int round = 0; round < 200; round++)
+        {
+            int from = random.nextInt(expected.length);
+            int to = from + random.nextInt(expected.length - from + 1);
+            TreeIntList rest = list.split(to);
+            TreeIntList piece = list.split(from);
+            list.concat(rest);
+
+            int at = random.nextInt(list.size() + 1);
+            TreeIntList after = list.split(at);
+            list.concat(piece);
+            list.concat(after);
+
+            int[] pieceValues = Arrays.copyOfRange(expected, from, to);
+            int[] without = IntStream.concat(Arrays.stream(expected, 0, from),
+                    Arrays.stream(expected, to, expected.length)).toArray();
+            expected = IntStream.concat(IntStream.concat(Arrays.stream(without, 0, at), Arrays.stream(pieceValues)),
+                    Arrays.stream(without, at, without.length)).toArray();
+        }
+        assertArrayEquals(expected, list.stream().toArray());
+        for (int i = 0; i < expected.length; i += 37)
+        {
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+
+    @Test
+    void bulkOperations()
+    {
+        TreeIntList list = new TreeIntList();
+        list.addAll(IntStream.range(0, 10_000).toArray());
+        list.addAll(5000, IntStream.range(-3000, 0).toArray());
+        assertEquals(13_000, list.size());
+        assertEquals(4999, list.get(4999));
+        assertEquals(-3000, list.get(5000));
+        assertEquals(5000, list.get(8000));
+
+        list.removeRange(5000, 8000);
+        assertArrayEquals(IntStream.range(0, 10_000).toArray(), list.stream().toArray());
+        list.removeRange(0, 10_000);
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(0, 1));
+
+        list.addAll(new int[] {1, 2});
+        list.addAll(list);
+        assertArrayEquals(new int[] {1, 2, 1, 2}, list.stream().toArray());
+    }
+
+    @Test
+    void searchAndIterate()
+    {
+        TreeIntList list = new TreeIntList();
+        list.addAll(IntStream.range(0, 3000).toArray());
+        list.add(2500, 7);
+        assertEquals(7, list.indexOf(7));
+        assertEquals(2999, list.indexOf(2998));
+        assertEquals(-1, list.indexOf(3000));
+        assertTrue(list.contains(0));
+
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            iterator.nextInt();
+            count++;
+        }
+        assertEquals(3001, count);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+
+        long[] sum = {0};
+        list.forEach((int value) -> sum[0] += value);
+        assertEquals(list.stream().asLongStream().sum(), sum[0]);
+        assertEquals(sum[0], list.parallelStream().asLongStream().sum());
+    }
+
+    @Test
+    void sort()
+    {
+        int[] values = new Random(3).ints(50_000).toArray();
+        TreeIntList list = new TreeIntList();
+        list.addAll(values);
+        list.sort();
+        Arrays.sort(values);
+        assertArrayEquals(values, list.stream().toArray());
+        list.add(0, Integer.MAX_VALUE);
+        list.parallelSort();
+        assertEquals(Integer.MAX_VALUE, list.get(list.size() - 1));
+    }
+}
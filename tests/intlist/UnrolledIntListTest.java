@@ -0,0 +1,222 @@
+package intlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnrolledIntListTest
+{
+    public UnrolledIntList createList()
+    {
+        //0, 1, 2, ... 99 in chunks of 8, so most operations cross chunks
+        UnrolledIntList list = new UnrolledIntList(8);
+        for (int i = 0; i < 100; i++)
+        {
+            list.addBack(i);
+        }
+        return list;
+    }
+
+    //the same values in an ArrayIntList, to check against
+    private static ArrayIntList expected()
+    {
+        ArrayIntList list = new ArrayIntList();
+        for (int i = 0; i < 100; i++)
+        {
+            list.addBack(i);
+        }
+        return list;
+    }
+
+    @Test
+    void get()
+    {
+        UnrolledIntList list = createList();
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(i, list.get(i));
+        }
+        for (int i = 99; i >= 0; i -= 7)
+        {
+            assertEquals(i, list.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void addFront()
+    {
+        UnrolledIntList list = new UnrolledIntList(4);
+        for (int i = 0; i < 20; i++)
+        {
+            list.addFront(i);
+        }
+        assertEquals(20, list.size());
+        assertEquals(19, list.get(0));
+        assertEquals(0, list.get(19));
+    }
+
+    @Test
+    void addInMiddleSplitsChunks()
+    {
+        UnrolledIntList list = createList();
+        ArrayIntList expected = expected();
+        for (int i = 0; i < 50; i++)
+        {
+            list.add(40, -i);
+            expected.add(40, -i);
+        }
+        list.add(150, 7);
+        expected.add(150, 7);
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(152, 0));
+    }
+
+    @Test
+    void addAll()
+    {
+        UnrolledIntList list = createList();
+        ArrayIntList expected = expected();
+        int[] values = {-1, -2, -3, -4, -5, -6, -7, -8, -9, -10, -11};
+        list.addAll(values);
+        expected.addAll(values);
+        list.addAll(0, values);
+        expected.addAll(0, values);
+        list.addAll(53, values);
+        expected.addAll(53, values);
+        list.addAll(64, values);
+        expected.addAll(64, values);
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+
+        list.addAll(list);
+        assertEquals(2 * expected.size(), list.size());
+        assertEquals(-1, list.get(expected.size()));
+    }
+
+    @Test
+    void randomEdits()
+    {
+        //mixed inserts and removals, checked against an ArrayIntList
+        Random random = new Random(5);
+        UnrolledIntList list = createList();
+        ArrayIntList expected = expected();
+        for (int i = 0; i < 3000; i++)
+        {
+            int choice = random.nextInt(5);
+            if (choice == 0 || expected.size() == 0)
+            {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            }
+            else if (choice == 1)
+            {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+            else if (choice == 2)
+            {
+                int from = random.nextInt(expected.size());
+                int to = Math.min(expected.size(), from + random.nextInt(20));
+                list.removeRange(from, to);
+                expected.removeRange(from, to);
+            }
+            else if (choice == 3)
+            {
+                list.removeBack();
+                expected.removeBack();
+            }
+            else
+            {
+                list.addBack(i);
+                expected.addBack(i);
+            }
+            assertEquals(expected.size(), list.size());
+            if (expected.size() > 0)
+            {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+        assertArrayEquals(expected.stream().toArray(), list.stream().toArray());
+    }
+
+    @Test
+    void remove()
+    {
+        UnrolledIntList list = createList();
+        assertEquals(50, list.remove(50));
+        list.removeFront();
+        list.removeBack();
+        assertEquals(97, list.size());
+        assertEquals(1, list.get(0));
+        assertEquals(98, list.get(96));
+        list.removeRange(0, 97);
+        assertTrue(list.isEmpty());
+        list.removeBack();
+        list.removeFront();
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+        list.addBack(3);
+        assertEquals(3, list.get(0));
+    }
+
+    @Test
+    void indexOf()
+    {
+        UnrolledIntList list = createList();
+        assertEquals(0, list.indexOf(0));
+        assertEquals(77, list.indexOf(77));
+        assertEquals(-1, list.indexOf(100));
+        assertTrue(list.contains(99));
+        assertFalse(list.contains(-1));
+    }
+
+    @Test
+    void iterators()
+    {
+        UnrolledIntList list = createList();
+        long sum = 0;
+        PrimitiveIterator.OfInt iterator = list.intIterator();
+        while (iterator.hasNext())
+        {
+            sum += iterator.nextInt();
+        }
+        assertEquals(4950, sum);
+
+        long[] total = {0};
+        list.forEach((int value) -> total[0] += value);
+        assertEquals(4950, total[0]);
+
+        int count = 0;
+        for (int value : list)
+        {
+            assertEquals(count, value);
+            count++;
+        }
+        assertEquals(100, count);
+
+        UnrolledIntList big = new UnrolledIntList();
+        for (int i = 0; i < 100000; i++)
+        {
+            big.addBack(i);
+        }
+        assertEquals(4999950000L, big.parallelStream().asLongStream().sum());
+        assertEquals(100000, big.spliterator().estimateSize());
+    }
+
+    @Test
+    void clear()
+    {
+        UnrolledIntList list = createList();
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertFalse(list.intIterator().hasNext());
+        list.addFront(4);
+        assertEquals(4, list.get(0));
+    }
+}